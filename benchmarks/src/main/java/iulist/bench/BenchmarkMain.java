@@ -0,0 +1,43 @@
+package iulist.bench;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the usual JMH command line, always adding the
+ * GC profiler so every result reports allocation rate (gc.alloc.rate and
+ * gc.alloc.rate.norm, bytes per operation) next to throughput and the
+ * SampleTime latency percentiles. For example, to compare the lists at
+ * one size:
+ *
+ *   java -jar benchmarks.jar Positional -p size=100000
+ *
+ * Requests that run nothing (-h, -l, -lp, -lprof, -lrf) go to JMH's own
+ * main method.
+ *
+ * @author Preston Hardy
+ */
+public class BenchmarkMain {
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+				|| commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+			Main.main(args);
+			return;
+		}
+		Options options = new OptionsBuilder()
+				.parent(commandLine)
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
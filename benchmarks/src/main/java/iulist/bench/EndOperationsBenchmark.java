@@ -0,0 +1,85 @@
+package iulist.bench;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import iulist.IndexedUnsortedList;
+
+/**
+ * Operations at the ends of the list, plus a full traversal with iterator().
+ * Each add is paired with the matching remove (and vice versa) so the list
+ * stays at the parameter size for the whole run; the score is for the pair.
+ *
+ * @author Preston Hardy
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+public class EndOperationsBenchmark {
+
+	private static final Integer ADDED = -1;
+
+	@Param({"GoodList", "IUArrayList", "IUSingleLinkedList", "IUDoubleLinkedList"})
+	public String impl;
+
+	@Param({"10", "1000", "100000", "10000000"})
+	public int size;
+
+	private IndexedUnsortedList<Integer> list;
+
+	@Setup
+	public void setUp() {
+		list = Lists.filled(impl, size);
+	}
+
+	@Benchmark
+	public Integer addToFront() {
+		list.addToFront(ADDED);
+		return list.removeFirst();
+	}
+
+	@Benchmark
+	public Integer addToRear() {
+		list.addToRear(ADDED);
+		return list.removeLast();
+	}
+
+	@Benchmark
+	public Integer removeFirst() {
+		Integer first = list.removeFirst();
+		list.addToFront(first);
+		return first;
+	}
+
+	@Benchmark
+	public Integer removeLast() {
+		Integer last = list.removeLast();
+		list.addToRear(last);
+		return last;
+	}
+
+	@Benchmark
+	public long iterate() {
+		long sum = 0;
+		Iterator<Integer> it = list.iterator();
+		while (it.hasNext()) {
+			sum += it.next();
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,80 @@
+package iulist.bench;
+
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import iulist.IndexedUnsortedList;
+
+/**
+ * ListIterator traversal in both directions, and an add and remove through
+ * a ListIterator opened in the middle of the list. Only implementations
+ * that support listIterator() are listed; GoodList does not. Stepping back
+ * through an IUSingleLinkedList records the Nodes from the head on, so its
+ * backward traversal also shows that allocation.
+ *
+ * @author Preston Hardy
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+public class ListIteratorBenchmark {
+
+	private static final Integer ADDED = -1;
+
+	@Param({"IUArrayList", "IUSingleLinkedList", "IUDoubleLinkedList", "IUUnrolledLinkedList"})
+	public String impl;
+
+	@Param({"10", "1000", "100000", "10000000"})
+	public int size;
+
+	private IndexedUnsortedList<Integer> list;
+
+	@Setup
+	public void setUp() {
+		list = Lists.filled(impl, size);
+	}
+
+	@Benchmark
+	public long forward() {
+		long sum = 0;
+		ListIterator<Integer> it = list.listIterator();
+		while (it.hasNext()) {
+			sum += it.next();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long backward() {
+		long sum = 0;
+		ListIterator<Integer> it = list.listIterator(list.size());
+		while (it.hasPrevious()) {
+			sum += it.previous();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public Integer addAndRemoveInMiddle() {
+		ListIterator<Integer> it = list.listIterator(size / 2);
+		it.add(ADDED);
+		Integer added = it.previous();
+		it.remove();
+		return added;
+	}
+}
@@ -0,0 +1,61 @@
+package iulist.bench;
+
+import iulist.GoodList;
+import iulist.IUArrayList;
+import iulist.IUDoubleLinkedList;
+import iulist.IUSingleLinkedList;
+import iulist.IUUnrolledLinkedList;
+import iulist.IndexedUnsortedList;
+
+/**
+ * Builds the lists the benchmarks compare, by the name used in the
+ * benchmarks' impl parameter.
+ *
+ * @author Preston Hardy
+ */
+final class Lists {
+
+	private Lists() {
+	}
+
+	/**
+	 * Creates an empty list.
+	 *
+	 * @param the implementation's class name
+	 * @return a new, empty list
+	 * @throws IllegalArgumentException if the name is not a known implementation
+	 */
+	static IndexedUnsortedList<Integer> create(String impl) {
+		switch (impl) {
+		case "GoodList":
+			return new GoodList<Integer>();
+		case "IUArrayList":
+			return new IUArrayList<Integer>();
+		case "IUSingleLinkedList":
+			return new IUSingleLinkedList<Integer>();
+		case "IUDoubleLinkedList":
+			return new IUDoubleLinkedList<Integer>();
+		case "IUUnrolledLinkedList":
+			return new IUUnrolledLinkedList<Integer>();
+		default:
+			throw new IllegalArgumentException(impl);
+		}
+	}
+
+	/**
+	 * Creates a list holding 0 to size - 1, so the element at each index
+	 * equals the index. It is built with addToFront, the one add that is
+	 * O(1) for every implementation.
+	 *
+	 * @param the implementation's class name
+	 * @param the number of elements
+	 * @return the filled list
+	 */
+	static IndexedUnsortedList<Integer> filled(String impl, int size) {
+		IndexedUnsortedList<Integer> list = create(impl);
+		for (int i = size - 1; i >= 0; i--) {
+			list.addToFront(i);
+		}
+		return list;
+	}
+}
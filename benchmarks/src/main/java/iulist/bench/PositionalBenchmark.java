@@ -0,0 +1,138 @@
+package iulist.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import iulist.IndexedUnsortedList;
+
+/**
+ * Operations that take an index or search for an element, at a position
+ * chosen by the access pattern: always the front, the middle or the back,
+ * or a fixed pseudo-random sequence. The list holds 0 to size - 1 in order,
+ * so the element searched for at a position equals that position. Adds and
+ * removes are paired with their inverse at the same position so the list
+ * never changes; the score is for the pair.
+ *
+ * @author Preston Hardy
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+public class PositionalBenchmark {
+
+	private static final Integer ADDED = -1;
+	private static final int POSITIONS = 1 << 10; // a power of two, so the cursor wraps with a mask
+
+	@Param({"GoodList", "IUArrayList", "IUSingleLinkedList", "IUDoubleLinkedList"})
+	public String impl;
+
+	@Param({"10", "1000", "100000", "10000000"})
+	public int size;
+
+	@Param({"front", "middle", "back", "random"})
+	public String pattern;
+
+	private IndexedUnsortedList<Integer> list;
+	private int[] positions;
+	private Integer[] targets; // the element at positions[i]
+	private int cursor;
+
+	@Setup
+	public void setUp() {
+		list = Lists.filled(impl, size);
+		positions = new int[POSITIONS];
+		targets = new Integer[POSITIONS];
+		Random random = new Random(42);
+		for (int i = 0; i < POSITIONS; i++) {
+			switch (pattern) {
+			case "front":
+				positions[i] = 0;
+				break;
+			case "middle":
+				positions[i] = size / 2;
+				break;
+			case "back":
+				positions[i] = size - 1;
+				break;
+			case "random":
+				positions[i] = random.nextInt(size);
+				break;
+			default:
+				throw new IllegalArgumentException(pattern);
+			}
+			targets[i] = Integer.valueOf(positions[i]);
+		}
+		cursor = 0;
+	}
+
+	/** Advances to the next position in the pattern and returns its index into positions */
+	private int next() {
+		cursor = (cursor + 1) & (POSITIONS - 1);
+		return cursor;
+	}
+
+	@Benchmark
+	public Integer get() {
+		return list.get(positions[next()]);
+	}
+
+	@Benchmark
+	public void set() {
+		int i = next();
+		list.set(positions[i], targets[i]);
+	}
+
+	@Benchmark
+	public int indexOf() {
+		return list.indexOf(targets[next()]);
+	}
+
+	@Benchmark
+	public boolean contains() {
+		return list.contains(targets[next()]);
+	}
+
+	@Benchmark
+	public Integer addAtIndex() {
+		int position = positions[next()];
+		list.add(position, ADDED);
+		return list.remove(position);
+	}
+
+	@Benchmark
+	public Integer addAfter() {
+		list.addAfter(ADDED, targets[next()]);
+		return list.remove(ADDED);
+	}
+
+	@Benchmark
+	public Integer removeAtIndex() {
+		int position = positions[next()];
+		Integer removed = list.remove(position);
+		list.add(position, removed);
+		return removed;
+	}
+
+	@Benchmark
+	public Integer removeElement() {
+		int i = next();
+		Integer removed = list.remove(targets[i]);
+		list.add(positions[i], removed);
+		return removed;
+	}
+}
@@ -0,0 +1,164 @@
+package iulist;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * Hash index from elements to the Nodes of IUDoubleLinkedList that hold them.
+ * Each element maps to its Nodes in list order, so the first matching Node for
+ * contains, indexOf, remove(T) and addAfter is found in O(1) expected time
+ * instead of by scanning from the head.
+ * 
+ * The Nodes of each element are kept in an array, so adding or removing one
+ * of k equal elements costs O(k) to shift the others; adding one in the middle
+ * of the list also has to find its place among them, which is O(log k log n)
+ * with a position index and otherwise a walk out to the nearest equal Node.
+ * Lists holding mostly distinct elements pay O(1) per change, but replaceAll
+ * over n equal elements is O(n^2). The index is meant for the former.
+ *
+ * @author Preston Hardy
+ *
+ * @param <T> type stored in the list
+ */
+class ElementIndex<T> {
+
+	private final HashMap<T, ArrayList<Node<T>>> buckets;
+	private final PositionIndex<T> positionIndex; // used to order duplicates, may be null
+
+	/**
+	 * Creates an empty element index.
+	 *
+	 * @param the position index of the same list, or null if it has none
+	 */
+	ElementIndex(PositionIndex<T> positionIndex) {
+		buckets = new HashMap<T, ArrayList<Node<T>>>();
+		this.positionIndex = positionIndex;
+	}
+
+	/**
+	 * Adds a Node to the index. The Node must already be linked into the list
+	 * so that its neighbors can be used to place it among equal elements.
+	 *
+	 * @param the newly linked Node
+	 */
+	void insert(Node<T> node) {
+		ArrayList<Node<T>> bucket = buckets.get(node.getElement());
+		if(bucket == null) {
+			bucket = new ArrayList<Node<T>>(1);
+			buckets.put(node.getElement(), bucket);
+			bucket.add(node);
+		} else if(node.getNext() == null) {
+			bucket.add(node);
+		} else if(node.getPrevious() == null) {
+			bucket.add(0, node);
+		} else {
+			bucket.add(bucketPosition(bucket, node), node);
+		}
+	}
+
+	/**
+	 * Removes a Node from the index. Must be called while the Node still
+	 * holds the element it was indexed under.
+	 *
+	 * @param the Node to forget
+	 */
+	void remove(Node<T> node) {
+		ArrayList<Node<T>> bucket = buckets.get(node.getElement());
+		int last = bucket.size() - 1;
+		if(bucket.get(last) == node) {
+			bucket.remove(last);
+		} else if(positionIndex != null) {
+			bucket.remove(bucketPosition(bucket, positionIndex.indexOf(node)));
+		} else {
+			for(int i = 0; i < last; i++) {
+				if(bucket.get(i) == node) {
+					bucket.remove(i);
+					break;
+				}
+			}
+		}
+		if(bucket.isEmpty()) {
+			buckets.remove(node.getElement());
+		}
+	}
+
+	/**
+	 * Indexes every Node again after the list has been reordered, so that each
+	 * bucket is back in list order.
+	 *
+	 * @param the first Node of the list, or null if it is empty
+	 */
+	void rebuild(Node<T> first) {
+		buckets.clear();
+		for(Node<T> node = first; node != null; node = node.getNext()) {
+			ArrayList<Node<T>> bucket = buckets.get(node.getElement());
+			if(bucket == null) {
+				bucket = new ArrayList<Node<T>>(1);
+				buckets.put(node.getElement(), bucket);
+			}
+			bucket.add(node);
+		}
+	}
+
+	/**
+	 * Finds the first Node in the list holding the element.
+	 *
+	 * @param the element to look for
+	 * @return the first matching Node, or null if there is none
+	 */
+	Node<T> first(T element) {
+		ArrayList<Node<T>> bucket = buckets.get(element);
+		return (bucket == null) ? null : bucket.get(0);
+	}
+
+	/**
+	 * Finds where a Node in the middle of the list belongs among the other
+	 * Nodes holding an equal element. With a position index this is a binary
+	 * search; otherwise it walks outwards from the Node to the nearest equal one.
+	 *
+	 * @param the non-empty bucket of equal Nodes
+	 * @param the Node being added
+	 * @return the bucket index to insert the Node at
+	 */
+	private int bucketPosition(ArrayList<Node<T>> bucket, Node<T> node) {
+		if(positionIndex != null) {
+			return bucketPosition(bucket, positionIndex.indexOf(node));
+		}
+
+		Node<T> before = node.getPrevious();
+		Node<T> after = node.getNext();
+		while(true) {
+			if(before != null) {
+				if(Objects.equals(before.getElement(), node.getElement())) {
+					return bucket.indexOf(before) + 1;
+				}
+				before = before.getPrevious();
+			}
+			if(after != null) {
+				if(Objects.equals(after.getElement(), node.getElement())) {
+					return bucket.indexOf(after);
+				}
+				after = after.getNext();
+			}
+		}
+	}
+
+	/**
+	 * Binary searches a bucket by list position. Only usable with a position index.
+	 *
+	 * @param the non-empty bucket of equal Nodes
+	 * @param the list index to look for
+	 * @return the bucket index of the first Node at or after that list index
+	 */
+	private int bucketPosition(ArrayList<Node<T>> bucket, int position) {
+		int low = 0;
+		int high = bucket.size();
+		while(low < high) {
+			int mid = (low + high) >>> 1;
+			if(positionIndex.indexOf(bucket.get(mid)) < position) low = mid + 1;
+			else high = mid;
+		}
+		return low;
+	}
+}
@@ -1,3 +1,5 @@
+package iulist;
+
 import java.util.LinkedList;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
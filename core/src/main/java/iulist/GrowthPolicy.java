@@ -0,0 +1,64 @@
+package iulist;
+
+/**
+ * Decides how far an array-backed list grows its storage when it runs out
+ * of room. Lists always grow to at least the capacity they need, so a
+ * policy only has to say how much slack to add on top.
+ *
+ * @author Preston Hardy
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+	/** Largest array size the lists will ask for; some VMs reserve header words in arrays */
+	int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Proposes a new capacity for full storage.
+	 *
+	 * @param currentCapacity - the length of the current array
+	 * @return the proposed new length, which may be ignored if it is too small
+	 */
+	int grow(int currentCapacity);
+
+	/**
+	 * Applies this policy, clamped so the result is at least minCapacity
+	 * and no more than MAX_CAPACITY.
+	 *
+	 * @param currentCapacity - the length of the current array
+	 * @param minCapacity - the capacity that is actually needed
+	 * @return the capacity to allocate
+	 * @throws OutOfMemoryError if minCapacity is beyond MAX_CAPACITY
+	 */
+	default int newCapacity(int currentCapacity, int minCapacity) {
+		if(minCapacity < 0 || minCapacity > MAX_CAPACITY) throw new OutOfMemoryError();
+		int proposed = grow(currentCapacity);
+		if(proposed < minCapacity) return minCapacity; // also catches overflow
+		return Math.min(proposed, MAX_CAPACITY);
+	}
+
+	/** @return a policy that doubles the capacity */
+	static GrowthPolicy doubling() {
+		return factor(2.0);
+	}
+
+	/**
+	 * @param factor - the multiplier, greater than 1.0
+	 * @return a policy that multiplies the capacity by factor (1.5 keeps slack lower than doubling)
+	 * @throws IllegalArgumentException if factor is not greater than 1.0
+	 */
+	static GrowthPolicy factor(double factor) {
+		if(!(factor > 1.0)) throw new IllegalArgumentException();
+		return currentCapacity -> (int) Math.min(MAX_CAPACITY, Math.ceil(currentCapacity * factor));
+	}
+
+	/**
+	 * @param increment - the number of slots to add, at least 1
+	 * @return a policy that adds a fixed number of slots
+	 * @throws IllegalArgumentException if increment is less than 1
+	 */
+	static GrowthPolicy increment(int increment) {
+		if(increment < 1) throw new IllegalArgumentException();
+		return currentCapacity -> currentCapacity + increment;
+	}
+}
@@ -0,0 +1,246 @@
+package iulist;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Doubly-linked implementation of IndexedUnsortedList whose links are int
+ * slot numbers in parallel arrays rather than Node objects (see
+ * SlotLinkedList). Adding an element fills a free slot instead of
+ * allocating a Node, and removing one returns its slot to the free list,
+ * so high-churn queues produce no garbage once the arrays are big enough.
+ *
+ * @author Preston Hardy
+ *
+ * @param <T> type to store
+ */
+public class IUArrayLinkedList<T> extends SlotLinkedList implements IndexedUnsortedList<T> {
+
+	private static final int NOT_FOUND = -1;
+
+	private Object[] elements;
+
+	/** Creates an empty list with room for 16 elements before growing */
+	public IUArrayLinkedList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list that doubles its arrays when full.
+	 *
+	 * @param initialCapacity - the number of elements to make room for
+	 */
+	public IUArrayLinkedList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.doubling());
+	}
+
+	/**
+	 * Creates an empty list.
+	 *
+	 * @param initialCapacity - the number of elements to make room for
+	 * @param growthPolicy - decides the new capacity when the arrays are full
+	 */
+	public IUArrayLinkedList(int initialCapacity, GrowthPolicy growthPolicy) {
+		super(initialCapacity, growthPolicy);
+		elements = new Object[initialCapacity];
+	}
+
+	@Override
+	void resizeElements(int capacity) {
+		elements = Arrays.copyOf(elements, capacity);
+	}
+
+	@Override
+	void releaseElement(int slot) {
+		elements[slot] = null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T elementAt(int slot) {
+		return (T) elements[slot];
+	}
+
+	/**
+	 * Finds the first slot holding an element.
+	 *
+	 * @param element - the element to find
+	 * @return the slot, or NIL
+	 */
+	private int slotOf(T element) {
+		int slot = head;
+		while(slot != NIL && !Objects.equals(elements[slot], element)) {
+			slot = next[slot];
+		}
+		return slot;
+	}
+
+	private void linkNew(T element, int successor) {
+		int slot = allocate();
+		elements[slot] = element;
+		linkBefore(slot, successor);
+	}
+
+	@Override
+	public void addToFront(T element) {
+		linkNew(element, head);
+	}
+
+	@Override
+	public void addToRear(T element) {
+		linkNew(element, NIL);
+	}
+
+	@Override
+	public void add(T element) {
+		linkNew(element, NIL);
+	}
+
+	@Override
+	public void addAfter(T element, T target) {
+		int slot = slotOf(target);
+		if(slot == NIL) throw new NoSuchElementException();
+		linkNew(element, next[slot]);
+	}
+
+	@Override
+	public void add(int index, T element) {
+		if(index < 0 || index > size) throw new IndexOutOfBoundsException();
+		linkNew(element, (index == size) ? NIL : slotAt(index));
+	}
+
+	@Override
+	public T removeFirst() {
+		if(isEmpty()) throw new NoSuchElementException();
+		T returnVal = elementAt(head);
+		unlink(head);
+		return returnVal;
+	}
+
+	@Override
+	public T removeLast() {
+		if(isEmpty()) throw new NoSuchElementException();
+		T returnVal = elementAt(tail);
+		unlink(tail);
+		return returnVal;
+	}
+
+	@Override
+	public T remove(T element) {
+		int slot = slotOf(element);
+		if(slot == NIL) throw new NoSuchElementException();
+		T returnVal = elementAt(slot);
+		unlink(slot);
+		return returnVal;
+	}
+
+	@Override
+	public T remove(int index) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		int slot = slotAt(index);
+		T returnVal = elementAt(slot);
+		unlink(slot);
+		return returnVal;
+	}
+
+	@Override
+	public void set(int index, T element) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		elements[slotAt(index)] = element;
+		modCount++;
+	}
+
+	@Override
+	public T get(int index) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		return elementAt(slotAt(index));
+	}
+
+	@Override
+	public int indexOf(T element) {
+		int index = 0;
+		for(int slot = head; slot != NIL; slot = next[slot]) {
+			if(Objects.equals(elements[slot], element)) return index;
+			index++;
+		}
+		return NOT_FOUND;
+	}
+
+	@Override
+	public T first() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return elementAt(head);
+	}
+
+	@Override
+	public T last() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return elementAt(tail);
+	}
+
+	@Override
+	public boolean contains(T target) {
+		return slotOf(target) != NIL;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder str = new StringBuilder();
+		str.append("[");
+		for(int slot = head; slot != NIL; slot = next[slot]) {
+			str.append(elements[slot]);
+			str.append(", ");
+		}
+		if(size > 0) {
+			str.delete(str.length()-2, str.length());
+		}
+		str.append("]");
+		return str.toString();
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new ArrayLinkedListIterator(0);
+	}
+
+	@Override
+	public ListIterator<T> listIterator() {
+		return new ArrayLinkedListIterator(0);
+	}
+
+	@Override
+	public ListIterator<T> listIterator(int startingIndex) {
+		return new ArrayLinkedListIterator(startingIndex);
+	}
+
+	/** Fail-fast ListIterator for IUArrayLinkedList */
+	private class ArrayLinkedListIterator extends SlotIterator implements ListIterator<T> {
+
+		private ArrayLinkedListIterator(int startingIndex) {
+			super(startingIndex);
+		}
+
+		@Override
+		public T next() {
+			return elementAt(advance());
+		}
+
+		@Override
+		public T previous() {
+			return elementAt(retreat());
+		}
+
+		@Override
+		public void set(T e) {
+			elements[slotToSet()] = e;
+		}
+
+		@Override
+		public void add(T e) {
+			int slot = insertSlot(); // may grow the arrays, so take the slot first
+			elements[slot] = e;
+		}
+	}
+}
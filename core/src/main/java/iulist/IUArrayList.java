@@ -0,0 +1,671 @@
+package iulist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Array-based implementation of IndexedUnsortedList.
+ * Elements are kept in a circular buffer starting at index front and
+ * wrapping around the end of the array, so adding or removing at either
+ * end is amortized O(1) and get/set stay O(1). Inserts and removals in
+ * the middle shift whichever side of the index is shorter.
+ *
+ * @author Preston Hardy
+ *
+ * @param <T> type to store
+ */
+public class IUArrayList<T> implements IndexedUnsortedList<T>, OptimisticReadSafe {
+
+	private T[] array;
+	private int front; // slot holding index 0
+	private int size;
+	private int modCount;
+	private final GrowthPolicy growthPolicy;
+
+	private static final int NOT_FOUND = -1;
+	private static final int DEFAULT_CAPACITY = 10;
+
+
+	/**
+	 * Default constructor that creates a generic-type array with the default capacity of 10.
+	 */
+	public IUArrayList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor that takes the desired capacity as the single argument and sets the array size to the capacity.
+	 * The array doubles in size whenever it fills up.
+	 * @param initialCapacity - the desired capacity of the array
+	 */
+	public IUArrayList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.doubling());
+	}
+
+	/**
+	 * Constructor that sets the initial capacity and how the array grows when it fills up.
+	 * @param initialCapacity - the desired capacity of the array
+	 * @param growthPolicy - decides the new capacity when the array is full
+	 */
+	@SuppressWarnings("unchecked")
+	public IUArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+		if(initialCapacity < 0) throw new IllegalArgumentException();
+		this.array = (T[]) new Object[initialCapacity];
+		this.front = 0;
+		this.size = 0;
+		this.growthPolicy = growthPolicy;
+		modCount = 0;
+	}
+
+	/**
+	 * Maps a list index to its slot in the circular array.
+	 * @param index - an index from 0 to size
+	 * @return the array slot for that index
+	 */
+	private int slot(int index) {
+		int slot = front + index;
+		return (slot >= array.length) ? slot - array.length : slot;
+	}
+
+	private void expandArrayIfNecessary() {
+		if (size >= array.length) {
+			resize(growthPolicy.newCapacity(array.length, size + 1));
+		}
+	}
+
+	/**
+	 * Moves the elements into a new array of the given capacity, unwrapped so the list starts at slot 0.
+	 * @param capacity - the new array length, at least size
+	 */
+	@SuppressWarnings("unchecked")
+	private void resize(int capacity) {
+		T[] newArray = (T[]) new Object[capacity];
+		int firstPart = Math.min(size, array.length - front);
+		System.arraycopy(array, front, newArray, 0, firstPart);
+		System.arraycopy(array, 0, newArray, firstPart, size - firstPart);
+		array = newArray;
+		front = 0;
+	}
+
+	/**
+	 * Grows the array, if needed, so that it holds at least minCapacity elements
+	 * without another copy. Use before adding a batch of known size.
+	 * @param minCapacity - the number of elements the list should be able to hold
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > array.length) {
+			resize(growthPolicy.newCapacity(array.length, minCapacity));
+		}
+	}
+
+	/**
+	 * Shrinks the array to exactly the current size, releasing any unused slots.
+	 */
+	public void trimToSize() {
+		if (size < array.length) {
+			resize(size);
+		}
+	}
+
+	/**
+	 * Returns the number of elements the list can hold before the array must grow.
+	 * @return the current array length
+	 */
+	public int capacity() {
+		return array.length;
+	}
+
+	@Override
+	public void addToFront(T element) {
+		expandArrayIfNecessary();
+		front = (front == 0) ? array.length - 1 : front - 1;
+		array[front] = element;
+		modCount++;
+		size++;
+	}
+
+	@Override
+	public void addToRear(T element) {
+		add(element);
+	}
+
+	@Override
+	public void add(T element) {
+		expandArrayIfNecessary();
+		array[slot(size)] = element;
+		modCount++;
+		size++;
+	}
+
+	@Override
+	public void addAfter(T element, T target) {
+		int targetIndex = indexOf(target);
+
+		if(targetIndex < 0) {
+			throw new NoSuchElementException();
+		}
+
+		add(targetIndex + 1, element);
+	}
+
+	@Override
+	public void add(int index, T element) {
+		if(index < 0 || index > size) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		expandArrayIfNecessary();
+
+		if(index < size / 2) {
+			//shift the front part one slot towards the front
+			front = (front == 0) ? array.length - 1 : front - 1;
+			for(int i = 0; i < index; i++) {
+				array[slot(i)] = array[slot(i + 1)];
+			}
+		} else {
+			//shift the rear part one slot towards the rear
+			for(int i = size; i > index; i--) {
+				array[slot(i)] = array[slot(i - 1)];
+			}
+		}
+
+		array[slot(index)] = element;
+
+		modCount++;
+
+		size++;
+	}
+
+	@Override
+	public T removeFirst() {
+
+		if(size == 0) {
+			throw new NoSuchElementException();
+		}
+
+		T retVal = array[front];
+
+		array[front] = null;
+		front = slot(1);
+		modCount++;
+		size--;
+
+		return retVal;
+	}
+
+	@Override
+	public T removeLast() {
+
+		if(size == 0) {
+			throw new NoSuchElementException();
+		}
+
+		int last = slot(size - 1);
+		T retVal = array[last];
+
+		array[last] = null;
+		modCount++;
+		size--;
+
+		return retVal;
+	}
+
+	@Override
+	public T remove(T element) {
+		int index = indexOf(element);
+		if (index == NOT_FOUND) {
+			throw new NoSuchElementException();
+		}
+
+		return remove(index);
+	}
+
+	@Override
+	public T remove(int index) {
+		if(index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		T returnVal = array[slot(index)];
+
+		if(index < size / 2) {
+			//shift the front part one slot towards the rear
+			for(int i = index; i > 0; i--) {
+				array[slot(i)] = array[slot(i - 1)];
+			}
+			array[front] = null;
+			front = slot(1);
+		} else {
+			//shift the rear part one slot towards the front
+			for(int i = index; i < size - 1; i++) {
+				array[slot(i)] = array[slot(i + 1)];
+			}
+			array[slot(size - 1)] = null;
+		}
+
+		modCount++;
+		size--;
+
+
+		return returnVal;
+	}
+
+	@Override
+	public void set(int index, T element) {
+		if(index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		array[slot(index)] = element;
+		modCount++;
+	}
+
+	@Override
+	public T get(int index) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		return array[slot(index)];
+	}
+
+	@Override
+	public int indexOf(T element) {
+
+		int index = -1;
+
+		for(int i = 0; i < size && index == -1; i++) {
+			if(array[slot(i)].equals(element)) {
+				index = i;
+			}
+		}
+
+		return index;
+	}
+
+	@Override
+	public T first() {
+		if(size == 0) throw new NoSuchElementException();
+		return array[front];
+	}
+
+	@Override
+	public T last() {
+		if(size == 0) throw new NoSuchElementException();
+		return array[slot(size - 1)];
+	}
+
+	@Override
+	public boolean contains(T target) {
+		return (indexOf(target) != NOT_FOUND);
+	}
+
+	/**
+	 * Scans the array once, checking each element against a hash set of the targets.
+	 */
+	@Override
+	public int indexOfAny(Iterable<? extends T> targets) {
+		HashSet<T> wanted = new HashSet<T>();
+		targets.forEach(wanted::add);
+		for (int i = 0; i < size; i++) {
+			if (wanted.contains(array[slot(i)])) {
+				return i;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Scans the array once, crossing found elements off a hash set of the
+	 * targets, and stops when none are left.
+	 */
+	@Override
+	public boolean containsAll(Iterable<? extends T> targets) {
+		HashSet<T> missing = new HashSet<T>();
+		targets.forEach(missing::add);
+		for (int i = 0; i < size && !missing.isEmpty(); i++) {
+			missing.remove(array[slot(i)]);
+		}
+		return missing.isEmpty();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+
+	@Override
+	public String toString() {
+		// shamelessly copied from SimpleSet
+		StringBuilder str = new StringBuilder();
+		str.append("[");
+		for (int i = 0; i < size; i++) {
+			str.append(array[slot(i)]);
+			str.append(", ");
+		}
+		if (size > 0) {
+			str.delete(str.length()-2, str.length());
+		}
+		str.append("]");
+		return str.toString();
+	}
+
+	@Override
+	public void replaceAll(UnaryOperator<T> operator) {
+		if (operator == null) throw new NullPointerException();
+		int expectedModCount = modCount;
+		for (int i = 0; i < size; i++) {
+			int slot = slot(i);
+			array[slot] = operator.apply(array[slot]);
+		}
+		if (modCount != expectedModCount) throw new ConcurrentModificationException();
+		modCount++;
+	}
+
+	/**
+	 * Splits the index range across the common ForkJoinPool; each slot is
+	 * written by exactly one task, so no locking is needed.
+	 */
+	@Override
+	public void parallelReplaceAll(UnaryOperator<T> operator) {
+		if (operator == null) throw new NullPointerException();
+		int expectedModCount = modCount;
+		IntStream.range(0, size).parallel().forEach(i -> {
+			int slot = slot(i);
+			array[slot] = operator.apply(array[slot]);
+		});
+		if (modCount != expectedModCount) throw new ConcurrentModificationException();
+		modCount++;
+	}
+
+	/**
+	 * Tests every element first and then slides the survivors down in one
+	 * pass, so this is O(n) however many elements match, and the list is
+	 * unchanged if the filter throws.
+	 */
+	@Override
+	public boolean removeIf(Predicate<? super T> filter) {
+		if (filter == null) throw new NullPointerException();
+		int expectedModCount = modCount;
+		BitSet doomed = new BitSet(size);
+		for (int i = 0; i < size; i++) {
+			if (filter.test(array[slot(i)])) {
+				doomed.set(i);
+			}
+		}
+		if (modCount != expectedModCount) throw new ConcurrentModificationException();
+		if (doomed.isEmpty()) {
+			return false;
+		}
+
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			if (!doomed.get(i)) {
+				array[slot(kept++)] = array[slot(i)];
+			}
+		}
+		for (int i = kept; i < size; i++) {
+			array[slot(i)] = null;
+		}
+		size = kept;
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Removes every index in one pass that slides the survivors down past
+	 * them, instead of shifting the array once per index, so this is O(n)
+	 * however many indexes are given.
+	 */
+	@Override
+	public List<T> remove(int[] indexes) {
+		long[] entries = IndexBatch.sorted(indexes, size, false);
+		List<T> removed = new ArrayList<T>(Collections.<T>nCopies(indexes.length, null));
+		if (entries.length == 0) {
+			return removed;
+		}
+
+		int kept = IndexBatch.index(entries[0]);
+		int next = 0;
+		for (int i = kept; i < size; i++) {
+			if (next < entries.length && IndexBatch.index(entries[next]) == i) {
+				removed.set(IndexBatch.position(entries[next++]), array[slot(i)]);
+			} else {
+				array[slot(kept++)] = array[slot(i)];
+			}
+		}
+		for (int i = kept; i < size; i++) {
+			array[slot(i)] = null;
+		}
+		size = kept;
+		modCount++;
+		return removed;
+	}
+
+	/**
+	 * Sorts a list of Integers in O(n) time with an LSD radix sort instead of
+	 * comparing boxed values. The keys are unboxed once into an int array and
+	 * sorted together with the elements, which are then written back starting
+	 * at slot 0. The list is unchanged if an element is not an Integer.
+	 * @throws ClassCastException if an element is not an Integer
+	 * @throws NullPointerException if an element is null
+	 */
+	public void sortInts() {
+		int[] keys = new int[size];
+		Object[] elements = new Object[size];
+		for (int i = 0; i < size; i++) {
+			T element = array[slot(i)];
+			keys[i] = (Integer) element;
+			elements[i] = element;
+		}
+		RadixSort.sort(keys, elements);
+
+		System.arraycopy(elements, 0, array, 0, size);
+		Arrays.fill(array, size, array.length, null);
+		front = 0;
+		modCount++;
+	}
+
+	/** Index-based ListIterator for IUArrayList; every step is O(1) */
+	private class ArrayListIterator implements ListIterator<T> {
+
+		private int nextIndex;
+		private int iterModCount;
+		private int lastIndex; // index of the element last returned, or NOT_FOUND
+
+
+		public ArrayListIterator() {
+			this(0);
+		}
+
+		/**
+		 * Creates an iterator positioned before the starting index.
+		 * @param startingIndex - the index next() will return first
+		 * @throws IndexOutOfBoundsException if startingIndex < 0 || startingIndex > size
+		 */
+		public ArrayListIterator(int startingIndex) {
+			if(startingIndex < 0 || startingIndex > size) throw new IndexOutOfBoundsException();
+			nextIndex = startingIndex;
+			lastIndex = NOT_FOUND;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+
+			if(nextIndex >= size) {
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		public T next() {
+
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			if(nextIndex >= size) throw new NoSuchElementException();
+
+			lastIndex = nextIndex++;
+			return array[slot(lastIndex)];
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			return nextIndex > 0;
+		}
+
+		@Override
+		public T previous() {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			if(nextIndex <= 0) throw new NoSuchElementException();
+
+			lastIndex = --nextIndex;
+			return array[slot(lastIndex)];
+		}
+
+		@Override
+		public int nextIndex() {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			if(lastIndex == NOT_FOUND) throw new IllegalStateException();
+
+			IUArrayList.this.remove(lastIndex);
+			if(lastIndex < nextIndex) {
+				nextIndex--; // last move was next()
+			}
+			lastIndex = NOT_FOUND;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void set(T e) {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			if(lastIndex == NOT_FOUND) throw new IllegalStateException();
+
+			IUArrayList.this.set(lastIndex, e);
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void add(T e) {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+
+			IUArrayList.this.add(nextIndex++, e);
+			lastIndex = NOT_FOUND;
+			iterModCount = modCount;
+		}
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new ArrayListIterator();
+	}
+
+	/**
+	 * Returns a Spliterator that splits its index range in half, so parallel
+	 * streams divide the list evenly without copying.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new ArraySpliterator(0, size, modCount);
+	}
+
+	/** Fail-fast Spliterator over a range of indexes */
+	private class ArraySpliterator implements Spliterator<T> {
+
+		private int index; // next index to return
+		private final int fence; // one past the last index
+		private final int expectedModCount;
+
+		private ArraySpliterator(int origin, int fence, int expectedModCount) {
+			this.index = origin;
+			this.fence = fence;
+			this.expectedModCount = expectedModCount;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			int lo = index, mid = (lo + fence) >>> 1;
+			if (lo >= mid) {
+				return null;
+			}
+			index = mid;
+			return new ArraySpliterator(lo, mid, expectedModCount);
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if (action == null) throw new NullPointerException();
+			if (index >= fence) {
+				return false;
+			}
+			T element = array[slot(index++)];
+			action.accept(element);
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			if (action == null) throw new NullPointerException();
+			for (int i = index; i < fence; i++) {
+				action.accept(array[slot(i)]);
+			}
+			index = fence;
+			if (modCount != expectedModCount) throw new ConcurrentModificationException();
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+	}
+
+	@Override
+	public ListIterator<T> listIterator() {
+		return new ArrayListIterator();
+	}
+
+	@Override
+	public ListIterator<T> listIterator(int startingIndex) {
+		return new ArrayListIterator(startingIndex);
+	}
+
+
+
+}
\ No newline at end of file
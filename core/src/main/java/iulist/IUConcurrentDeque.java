@@ -0,0 +1,307 @@
+package iulist;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe implementation of IndexedUnsortedList for producer/consumer
+ * use, built on the JDK's lock-free ConcurrentLinkedDeque. addToFront,
+ * addToRear, add, removeFirst, removeLast, first and last each update or
+ * read one end of the deque with compare-and-set, so threads working on
+ * opposite ends never wait on each other and no call ever blocks.
+ *
+ * Operations that need a stable position - addAfter, add(int), set and
+ * remove(int) - cannot be done atomically without a lock and throw
+ * UnsupportedOperationException, as do the bulk removals and replaceAll
+ * (see removeIf). get, indexOf, contains, toString and
+ * iteration are weakly consistent: they never throw
+ * ConcurrentModificationException and see some of, all of, or none of the
+ * changes made while they run. Iterators are read-only; remove elements
+ * with remove(T). Null elements are not allowed.
+ *
+ * @author Preston Hardy
+ *
+ * @param <T> type to store
+ */
+public class IUConcurrentDeque<T> implements IndexedUnsortedList<T> {
+
+	private static final int NOT_FOUND = -1;
+
+	private final ConcurrentLinkedDeque<T> deque;
+	private final LongAdder size; // counting beats ConcurrentLinkedDeque.size(), which walks the deque
+
+	/** Creates an empty deque */
+	public IUConcurrentDeque() {
+		deque = new ConcurrentLinkedDeque<T>();
+		size = new LongAdder();
+	}
+
+	/**
+	 * @throws NullPointerException if element is null
+	 */
+	@Override
+	public void addToFront(T element) {
+		deque.addFirst(element);
+		size.increment();
+	}
+
+	/**
+	 * @throws NullPointerException if element is null
+	 */
+	@Override
+	public void addToRear(T element) {
+		deque.addLast(element);
+		size.increment();
+	}
+
+	/**
+	 * @throws NullPointerException if element is null
+	 */
+	@Override
+	public void add(T element) {
+		addToRear(element);
+	}
+
+	/**
+	 * Not supported: the target could move or disappear between finding it and linking after it.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void addAfter(T element, T target) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported: indexes shift under concurrent adds and removes.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void add(int index, T element) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public T removeFirst() {
+		T returnVal = deque.pollFirst();
+		if(returnVal == null) throw new NoSuchElementException();
+		size.decrement();
+		return returnVal;
+	}
+
+	@Override
+	public T removeLast() {
+		T returnVal = deque.pollLast();
+		if(returnVal == null) throw new NoSuchElementException();
+		size.decrement();
+		return returnVal;
+	}
+
+	/**
+	 * Removes the first element equal to the given one and returns the
+	 * element the deque held, which need not be the same object. If other
+	 * threads remove equal elements at the same time, it is one of those.
+	 */
+	@Override
+	public T remove(T element) {
+		if(element != null) {
+			for(T stored : deque) {
+				if(stored.equals(element)) {
+					// removes the first equal element: this one, unless another thread got there first
+					if(!deque.removeFirstOccurrence(stored)) break;
+					size.decrement();
+					return stored;
+				}
+			}
+		}
+		throw new NoSuchElementException();
+	}
+
+	/**
+	 * Not supported: indexes shift under concurrent adds and removes.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public T remove(int index) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported: indexes shift under concurrent adds and removes.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void set(int index, T element) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported: ConcurrentLinkedDeque's own removeIf does not say which
+	 * of the elements it took were removed by another thread in the same
+	 * instant, so the size could not be kept exact. Remove elements one at a
+	 * time with remove(T), removeFirst or removeLast.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public boolean removeIf(Predicate<? super T> filter) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported: see removeIf.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public boolean removeAll(Iterable<? extends T> targets) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported: see removeIf.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public boolean retainAll(Iterable<? extends T> targets) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported: an element cannot be replaced in place, and removing and
+	 * re-adding it would move it and race with other threads' removes.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void replaceAll(UnaryOperator<T> operator) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Weakly consistent: walks from the front, so under concurrent changes
+	 * the element returned may already have moved to another index.
+	 */
+	@Override
+	public T get(int index) {
+		if(index < 0) throw new IndexOutOfBoundsException();
+		int i = 0;
+		for(T element : deque) {
+			if(i == index) return element;
+			i++;
+		}
+		throw new IndexOutOfBoundsException();
+	}
+
+	/**
+	 * Weakly consistent: see get(int).
+	 */
+	@Override
+	public int indexOf(T element) {
+		if(element == null) return NOT_FOUND;
+		int index = 0;
+		for(T e : deque) {
+			if(e.equals(element)) return index;
+			index++;
+		}
+		return NOT_FOUND;
+	}
+
+	@Override
+	public T first() {
+		T returnVal = deque.peekFirst();
+		if(returnVal == null) throw new NoSuchElementException();
+		return returnVal;
+	}
+
+	@Override
+	public T last() {
+		T returnVal = deque.peekLast();
+		if(returnVal == null) throw new NoSuchElementException();
+		return returnVal;
+	}
+
+	@Override
+	public boolean contains(T target) {
+		return target != null && deque.contains(target);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return deque.isEmpty();
+	}
+
+	/**
+	 * Returns the number of elements added and not yet removed. While
+	 * other threads are adding or removing, this is only an estimate.
+	 */
+	@Override
+	public int size() {
+		long count = size.sum();
+		return (count < 0) ? 0 : (int) Math.min(count, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder str = new StringBuilder();
+		str.append("[");
+		for(T element : deque) {
+			str.append(element);
+			str.append(", ");
+		}
+		if(str.length() > 1) {
+			str.delete(str.length()-2, str.length());
+		}
+		str.append("]");
+		return str.toString();
+	}
+
+	/**
+	 * Returns a weakly consistent, read-only iterator.
+	 * It never throws ConcurrentModificationException.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		Iterator<T> it = deque.iterator();
+		return new Iterator<T>() {
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public T next() {
+				return it.next();
+			}
+		};
+	}
+
+	/**
+	 * Returns the deque's own weakly consistent Spliterator, which is
+	 * CONCURRENT rather than SIZED.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return deque.spliterator();
+	}
+
+	@Override
+	public ListIterator<T> listIterator() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ListIterator<T> listIterator(int startingIndex) {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,420 @@
+package iulist;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Lock-free singly-linked implementation of the IndexedUnsortedList
+ * operations that do not depend on indexes, after Harris and Michael.
+ * Each node's next link carries a mark bit. A node is removed by first
+ * marking its own next link, which freezes it and logically deletes it,
+ * and then swinging its predecessor past it; any thread that finds a
+ * marked node finishes that second step for it. Adds, including addAfter
+ * in the middle of the list, are a single compare-and-set on an unmarked
+ * link, so many threads can edit different parts of the list at once.
+ *
+ * add(int), set and remove(int) throw UnsupportedOperationException, since
+ * an index is meaningless while other threads add and remove, and so does
+ * replaceAll. removeIf, removeAll and retainAll mark nodes removed through
+ * the iterator. get(int), indexOf, first, last, toString and iterators are
+ * weakly consistent and never throw ConcurrentModificationException. size
+ * is kept in a LongAdder.
+ *
+ * @author Preston Hardy
+ *
+ * @param <T> type to store
+ */
+public class IUConcurrentLinkedList<T> implements IndexedUnsortedList<T> {
+
+	private static final int NOT_FOUND = -1;
+
+	private final LockFreeNode<T> head; // sentinel, never marked
+	private final AtomicReference<LockFreeNode<T>> tail; // hint only; may lag or point at a removed node
+	private final LongAdder size;
+
+	/** Creates an empty list */
+	public IUConcurrentLinkedList() {
+		head = new LockFreeNode<T>(null, null);
+		tail = new AtomicReference<LockFreeNode<T>>(head);
+		size = new LongAdder();
+	}
+
+	/** Node whose next link is marked once the node has been removed */
+	private static class LockFreeNode<T> {
+		private final T element;
+		private final AtomicMarkableReference<LockFreeNode<T>> next;
+
+		private LockFreeNode(T element, LockFreeNode<T> next) {
+			this.element = element;
+			this.next = new AtomicMarkableReference<LockFreeNode<T>>(next, false);
+		}
+
+		private boolean isRemoved() {
+			return next.isMarked();
+		}
+	}
+
+	/** A live node and its predecessor as seen by find */
+	private static class Window<T> {
+		private final LockFreeNode<T> pred, curr;
+
+		private Window(LockFreeNode<T> pred, LockFreeNode<T> curr) {
+			this.pred = pred;
+			this.curr = curr;
+		}
+	}
+
+	/**
+	 * Finds the first live node passing the test, unlinking removed nodes
+	 * along the way. If none passes, curr is null and pred is the last live
+	 * node (or head).
+	 *
+	 * @param the test for the node to look for
+	 * @return the node and its predecessor
+	 */
+	private Window<T> find(Predicate<LockFreeNode<T>> test) {
+		boolean[] marked = {false};
+		retry:
+		while(true) {
+			LockFreeNode<T> pred = head;
+			LockFreeNode<T> curr = pred.next.getReference();
+			while(curr != null) {
+				LockFreeNode<T> succ = curr.next.get(marked);
+				if(marked[0]) {
+					// curr is removed; finish unlinking it, or start over if pred changed underneath us
+					if(!pred.next.compareAndSet(curr, succ, false, false)) continue retry;
+				} else {
+					if(test.test(curr)) return new Window<T>(pred, curr);
+					pred = curr;
+				}
+				curr = succ;
+			}
+			return new Window<T>(pred, null);
+		}
+	}
+
+	/**
+	 * Marks a node removed.
+	 *
+	 * @param the node to remove
+	 * @return true if this call removed it, false if it was already removed
+	 */
+	private boolean mark(LockFreeNode<T> node) {
+		while(true) {
+			LockFreeNode<T> succ = node.next.getReference();
+			if(node.next.compareAndSet(succ, succ, false, true)) {
+				size.decrement();
+				return true;
+			}
+			if(node.isRemoved()) return false;
+		}
+	}
+
+	/**
+	 * Removes the first live node passing the test.
+	 *
+	 * @param the test for the node to remove
+	 * @return the removed node, or null if none passed
+	 */
+	private LockFreeNode<T> removeFirstMatch(Predicate<LockFreeNode<T>> test) {
+		while(true) {
+			Window<T> window = find(test);
+			LockFreeNode<T> curr = window.curr;
+			if(curr == null) return null;
+			LockFreeNode<T> succ = curr.next.getReference();
+			if(curr.next.compareAndSet(succ, succ, false, true)) {
+				size.decrement();
+				window.pred.next.compareAndSet(curr, succ, false, false); // if this fails, a later find unlinks it
+				return curr;
+			}
+		}
+	}
+
+	private LockFreeNode<T> nextLive(LockFreeNode<T> node) {
+		LockFreeNode<T> curr = node.next.getReference();
+		while(curr != null && curr.isRemoved()) {
+			curr = curr.next.getReference();
+		}
+		return curr;
+	}
+
+	@Override
+	public void addToFront(T element) {
+		LockFreeNode<T> newNode = new LockFreeNode<T>(element, null);
+		while(true) {
+			LockFreeNode<T> succ = head.next.getReference();
+			newNode.next.set(succ, false);
+			if(head.next.compareAndSet(succ, newNode, false, false)) break;
+		}
+		size.increment();
+	}
+
+	/**
+	 * Links a node after the last one, starting from the tail hint and
+	 * falling back to a search from head if the hint has been removed.
+	 */
+	@Override
+	public void addToRear(T element) {
+		LockFreeNode<T> newNode = new LockFreeNode<T>(element, null);
+		LockFreeNode<T> last = tail.get();
+		while(true) {
+			LockFreeNode<T> succ;
+			while((succ = last.next.getReference()) != null) {
+				last = succ;
+			}
+			if(last.next.compareAndSet(null, newNode, false, false)) break;
+			if(last.isRemoved()) {
+				last = find(node -> false).pred;
+			}
+		}
+		size.increment();
+		tail.set(newNode);
+	}
+
+	@Override
+	public void add(T element) {
+		addToRear(element);
+	}
+
+	@Override
+	public void addAfter(T element, T target) {
+		LockFreeNode<T> newNode = new LockFreeNode<T>(element, null);
+		while(true) {
+			LockFreeNode<T> curr = find(node -> Objects.equals(node.element, target)).curr;
+			if(curr == null) throw new NoSuchElementException();
+			LockFreeNode<T> succ = curr.next.getReference();
+			newNode.next.set(succ, false);
+			if(curr.next.compareAndSet(succ, newNode, false, false)) break;
+		}
+		size.increment();
+	}
+
+	/**
+	 * Not supported: indexes shift under concurrent adds and removes.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void add(int index, T element) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public T removeFirst() {
+		LockFreeNode<T> removed = removeFirstMatch(node -> true);
+		if(removed == null) throw new NoSuchElementException();
+		return removed.element;
+	}
+
+	/**
+	 * Removes the last live node. Walks the whole list. Removed nodes may
+	 * still hang off the last live node, so it is found as the node with no
+	 * live successor, and it is only marked while its next link is still
+	 * null: if another thread appends after it, or removed nodes are still
+	 * linked after it, the mark fails and the search starts over.
+	 */
+	@Override
+	public T removeLast() {
+		while(true) {
+			Window<T> window = find(node -> nextLive(node) == null);
+			LockFreeNode<T> last = window.curr;
+			if(last == null) throw new NoSuchElementException();
+			if(last.next.compareAndSet(null, null, false, true)) {
+				size.decrement();
+				window.pred.next.compareAndSet(last, null, false, false); // if this fails, a later find unlinks it
+				return last.element;
+			}
+			find(node -> false); // unlink any removed nodes still hanging off the end
+		}
+	}
+
+	@Override
+	public T remove(T element) {
+		LockFreeNode<T> removed = removeFirstMatch(node -> Objects.equals(node.element, element));
+		if(removed == null) throw new NoSuchElementException();
+		return removed.element;
+	}
+
+	/**
+	 * Not supported: indexes shift under concurrent adds and removes.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public T remove(int index) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported: indexes shift under concurrent adds and removes.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void set(int index, T element) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported: a node's element never changes, and replacing the node
+	 * would race with other threads adding after it or removing it.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void replaceAll(UnaryOperator<T> operator) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Weakly consistent: counts live nodes from the front, so under
+	 * concurrent changes the element may already be at another index.
+	 */
+	@Override
+	public T get(int index) {
+		if(index < 0) throw new IndexOutOfBoundsException();
+		LockFreeNode<T> curr = nextLive(head);
+		for(int i = 0; curr != null && i < index; i++) {
+			curr = nextLive(curr);
+		}
+		if(curr == null) throw new IndexOutOfBoundsException();
+		return curr.element;
+	}
+
+	/**
+	 * Weakly consistent: see get(int).
+	 */
+	@Override
+	public int indexOf(T element) {
+		int index = 0;
+		for(LockFreeNode<T> curr = nextLive(head); curr != null; curr = nextLive(curr)) {
+			if(Objects.equals(curr.element, element)) return index;
+			index++;
+		}
+		return NOT_FOUND;
+	}
+
+	@Override
+	public T first() {
+		LockFreeNode<T> curr = nextLive(head);
+		if(curr == null) throw new NoSuchElementException();
+		return curr.element;
+	}
+
+	@Override
+	public T last() {
+		LockFreeNode<T> last = null;
+		for(LockFreeNode<T> curr = nextLive(head); curr != null; curr = nextLive(curr)) {
+			last = curr;
+		}
+		if(last == null) throw new NoSuchElementException();
+		return last.element;
+	}
+
+	@Override
+	public boolean contains(T target) {
+		for(LockFreeNode<T> curr = nextLive(head); curr != null; curr = nextLive(curr)) {
+			if(Objects.equals(curr.element, target)) return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return nextLive(head) == null;
+	}
+
+	/**
+	 * Returns the number of elements added and not yet removed. While
+	 * other threads are adding or removing, this is only an estimate.
+	 */
+	@Override
+	public int size() {
+		long count = size.sum();
+		return (count < 0) ? 0 : (int) Math.min(count, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder str = new StringBuilder();
+		str.append("[");
+		for(LockFreeNode<T> curr = nextLive(head); curr != null; curr = nextLive(curr)) {
+			str.append(curr.element);
+			str.append(", ");
+		}
+		if(str.length() > 1) {
+			str.delete(str.length()-2, str.length());
+		}
+		str.append("]");
+		return str.toString();
+	}
+
+	/**
+	 * Returns a weakly consistent iterator. It never throws
+	 * ConcurrentModificationException, and its remove() is a no-op if
+	 * another thread already removed the element.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new LockFreeIterator();
+	}
+
+	/**
+	 * Returns a weakly consistent Spliterator. It is CONCURRENT rather than
+	 * SIZED, since size() is only an estimate while other threads run.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.CONCURRENT);
+	}
+
+	@Override
+	public ListIterator<T> listIterator() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ListIterator<T> listIterator(int startingIndex) {
+		throw new UnsupportedOperationException();
+	}
+
+	/** Weakly consistent Iterator for IUConcurrentLinkedList */
+	private class LockFreeIterator implements Iterator<T> {
+		private LockFreeNode<T> nextNode;
+		private LockFreeNode<T> lastReturned;
+
+		private LockFreeIterator() {
+			nextNode = nextLive(head);
+			lastReturned = null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextNode != null;
+		}
+
+		@Override
+		public T next() {
+			if(nextNode == null) throw new NoSuchElementException();
+			lastReturned = nextNode;
+			nextNode = nextLive(nextNode);
+			return lastReturned.element;
+		}
+
+		@Override
+		public void remove() {
+			if(lastReturned == null) throw new IllegalStateException();
+			mark(lastReturned); // the next find unlinks it
+			lastReturned = null;
+		}
+	}
+}
@@ -0,0 +1,1871 @@
+package iulist;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * 
+ * The custom implementation of a doubly-linked list complete with a ListIterator.
+ * Implements IndexedUnsortedList and uses the Node class.
+ * 
+ * Reaching a Node by index records it as a finger for the next positional
+ * access, so get(int) writes to the list. The finger is replaced in a single
+ * write of an immutable object, so threads that only read may share a list.
+ * A list that another thread may change still needs outside locking, and an
+ * optimistic (unlocked) read could leave behind a finger built from a change
+ * it saw half-done. IUStampedList therefore reads it under its read lock.
+ * 
+ * @author Preston Hardy
+ *
+ * @param <T>
+ */
+
+public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
+
+	// runs at most this long are sorted sequentially by parallelSort
+	private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+	
+	private Node<T> head, tail;
+	private int size;
+	private int modCount;
+	
+	// optional order-statistic tree over the Nodes, null unless positionally indexed
+	private final PositionIndex<T> positionIndex;
+	// optional element -> Nodes hash index, null unless element indexed
+	private final ElementIndex<T> elementIndex;
+	
+	// the "finger" caches the last Node reached by index so that sequential and
+	// near-sequential positional access walks only from the previous position.
+	// get(int) moves it too, so it is replaced whole rather than updated field by
+	// field: threads reading the list at once each see some complete finger.
+	private Finger<T> finger;
+	
+	// unfinished iterators from snapshotIterator(), null until the first one is made
+	private ArrayList<WeakReference<SnapshotIterator>> snapshots;
+	
+	// marks the Nodes linked into this list, so handles from other lists are refused
+	private Owner owner;
+	
+	/**
+	 * Constructs a doubly-linked list with a size of 0.
+	 */
+	public IUDoubleLinkedList() {
+		this(false);
+	}
+	
+	/**
+	 * Constructs a doubly-linked list with a size of 0, optionally keeping a
+	 * position index over its Nodes. An indexed list finds Nodes by index in
+	 * O(log n) time (get, set, add and remove by index, listIterator(int)) at
+	 * the cost of O(log n) work and extra memory for every add and remove.
+	 * 
+	 * @param true to keep the position index, false for a plain list
+	 */
+	public IUDoubleLinkedList(boolean positionIndexed) {
+		this(positionIndexed, false);
+	}
+	
+	/**
+	 * Constructs a doubly-linked list with a size of 0, optionally keeping a
+	 * position index and/or an element index over its Nodes. The element index
+	 * hashes each element to the Nodes holding it, making contains, remove(T)
+	 * and addAfter O(1) expected time (indexOf also needs the position index
+	 * to avoid counting back to the head). Every mutation pays for a hash
+	 * update, and elements must not change their hashCode while in the list.
+	 * Equal elements share one array of Nodes, so with k copies of an element
+	 * adding or removing one of them costs O(k); the index suits lists of
+	 * mostly distinct elements.
+	 * 
+	 * @param true to keep the position index
+	 * @param true to keep the element index
+	 */
+	public IUDoubleLinkedList(boolean positionIndexed, boolean elementIndexed) {
+		head = tail = null;
+		size = 0;
+		modCount = 0;
+		finger = null;
+		owner = new Owner();
+		positionIndex = positionIndexed ? new PositionIndex<T>() : null;
+		elementIndex = elementIndexed ? new ElementIndex<T>(positionIndex) : null;
+	}
+	
+	/**
+	 * Creates an unlinked Node of the right kind for this list.
+	 * 
+	 * @param the element to be contained within the Node
+	 * @return the new Node
+	 */
+	private Node<T> newNode(T element) {
+		return (positionIndex != null) ? positionIndex.newNode(element) : new Node<T>(element);
+	}
+	
+	/**
+	 * Finds the Node at the specified index by walking from whichever of head, tail,
+	 * or the cached finger is closest. The finger is only trusted while the list has
+	 * not been modified since it was recorded. Position-indexed lists ask the index
+	 * instead. Bounds must be checked by the caller.
+	 * 
+	 * @param the index of the Node to find
+	 * @return the Node at the specified index
+	 */
+	private Node<T> nodeAt(int index) {
+		if(positionIndex != null) return positionIndex.get(index);
+		
+		Node<T> currentNode;
+		int currentIndex;
+		
+		if(index <= (size - 1) / 2) {
+			currentNode = head;
+			currentIndex = 0;
+		} else {
+			currentNode = tail;
+			currentIndex = size - 1;
+		}
+		
+		Finger<T> finger = this.finger;
+		if(finger != null && finger.modCount == modCount
+				&& Math.abs(index - finger.index) < Math.abs(index - currentIndex)) {
+			currentNode = finger.node;
+			currentIndex = finger.index;
+		}
+		
+		while(currentIndex < index) {
+			currentNode = currentNode.getNext();
+			currentIndex++;
+		}
+		while(currentIndex > index) {
+			currentNode = currentNode.getPrevious();
+			currentIndex--;
+		}
+		
+		setFinger(currentNode, index);
+		return currentNode;
+	}
+	
+	/**
+	 * Records a Node and its index as the finger for the current modCount.
+	 * 
+	 * @param the Node to remember, or null to clear the finger
+	 * @param the index of that Node
+	 */
+	private void setFinger(Node<T> node, int index) {
+		finger = (node == null) ? null : new Finger<T>(node, index, modCount);
+	}
+	
+	/**
+	 * Links a new Node into the list directly before the successor Node.
+	 * 
+	 * @param the Node to link in
+	 * @param the Node that will follow the new Node, or null to link at the tail
+	 */
+	private void linkBefore(Node<T> newNode, Node<T> successor) {
+		if(successor != null && successor != head) detachSnapshots(); // adding at either end leaves snapshots intact
+		
+		Node<T> predecessor = (successor == null) ? tail : successor.getPrevious();
+		
+		newNode.setPrevious(predecessor);
+		newNode.setNext(successor);
+		
+		if(predecessor == null) head = newNode;
+		else predecessor.setNext(newNode);
+		
+		if(successor == null) tail = newNode;
+		else successor.setPrevious(newNode);
+		
+		newNode.setOwner(owner);
+		if(positionIndex != null) positionIndex.insertBefore(newNode, successor);
+		if(elementIndex != null) elementIndex.insert(newNode);
+		
+		size++;
+		modCount++;
+	}
+	
+	/**
+	 * Unlinks a Node from the list, joining its neighbors together.
+	 * 
+	 * @param the Node to unlink
+	 * @return the element of the unlinked Node
+	 */
+	private T unlink(Node<T> node) {
+		detachSnapshots();
+		if(elementIndex != null) elementIndex.remove(node);
+		
+		Node<T> predecessor = node.getPrevious();
+		Node<T> successor = node.getNext();
+		
+		if(predecessor == null) head = successor;
+		else predecessor.setNext(successor);
+		
+		if(successor == null) tail = predecessor;
+		else successor.setPrevious(predecessor);
+		
+		node.setNext(null);
+		node.setPrevious(null);
+		node.setOwner(null);
+		
+		if(positionIndex != null) positionIndex.remove(node);
+		
+		size--;
+		modCount++;
+		return node.getElement();
+	}
+	
+	/**
+	 * Replaces the element held by a Node, keeping the element index current.
+	 * 
+	 * @param the Node to update
+	 * @param the new element
+	 */
+	private void replaceElement(Node<T> node, T element) {
+		detachSnapshots();
+		if(elementIndex != null) elementIndex.remove(node);
+		node.setElement(element);
+		if(elementIndex != null) elementIndex.insert(node);
+		modCount++;
+	}
+	
+	/**
+	 * Finds the first Node holding an element equal to the target.
+	 * 
+	 * @param the element to find
+	 * @return the first matching Node, or null if there is none
+	 */
+	private Node<T> firstNodeOf(T target) {
+		if(elementIndex != null) return elementIndex.first(target);
+		
+		Node<T> currentNode = head;
+		while(currentNode != null && !currentNode.getElement().equals(target)) {
+			currentNode = currentNode.getNext();
+		}
+		return currentNode;
+	}
+	
+
+	@Override
+	/**
+	 * Adds a new Node to index 0.
+	 * @param the element to be contained within the Node created.
+	 */
+	public void addToFront(T element) {
+		linkBefore(newNode(element), head);
+	}
+
+	@Override
+	/**
+	 * Adds a new Node to the end of the list (similar to a "push" for a stack).
+	 * @param the element to be contained within the Node created.
+	 */
+	public void addToRear(T element) {
+		linkBefore(newNode(element), null);
+	}
+
+	@Override
+	/**
+	 * Functions the same as addToRear ("pushes" elements like a stack).
+	 * @param the element to be contained within the Node created.
+	 */
+	public void add(T element) {
+		addToRear(element);
+	}
+
+	@Override
+	/**
+	 * Adds a new Node directly after a target Node.
+	 * 
+	 * @param the element to be contained with the Node 
+	 * @param the target Node to add the new Node after.
+	 * @throws NoSuchElementException if the target node could not be found.
+	 */
+	public void addAfter(T element, T target) {
+		Node<T> targetNode = firstNodeOf(target);
+		
+		if(targetNode == null) throw new NoSuchElementException();
+		
+		linkBefore(newNode(element), targetNode.getNext());
+	}
+
+	@Override
+	/**
+	 * Adds a new Node at a specified index.
+	 * 
+	 * @param the index to add the new Node to
+	 * @param the element to be contained with the Node
+	 * @throws IndexOutOfBoundsException if the specified index is not within the list's constraints
+	 */
+	public void add(int index, T element) {
+		addNode(index, element);
+	}
+
+	@Override
+	/**
+	 * Removes the first Node (index 0) from the list.
+	 * 
+	 * @throws NoSuchElementException if the list is empty.
+	 * @return the element removed.
+	 */
+	public T removeFirst() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return unlink(head);
+	}
+
+	@Override
+	/**
+	 * Removes the last Node from the list
+	 * 
+	 * @throws NoSuchElementException if the list is empty.
+	 * @return the element removed.
+	 */
+	public T removeLast() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return unlink(tail);
+	}
+
+	@Override
+	/**
+	 * Searches through the list and removes the first matching element.
+	 * 
+	 * @param the Node to remove's element
+	 * @throws NoSuchElementException if the element cannot be found.
+	 * @return the element removed.
+	 */
+	public T remove(T element) {
+		Node<T> currentNode = firstNodeOf(element);
+		
+		if (currentNode == null) {
+			throw new NoSuchElementException();
+		}
+		
+		return unlink(currentNode);
+	}
+
+	@Override
+	/**
+	 * Removes the Node at the specified index.
+	 * 
+	 * @param the index of the Node to be removed
+	 * @throws IndexOutOfBoundsException if the specified index is not within the list's constraints
+	 * @return the element removed.
+	 */
+	public T remove(int index) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		
+		Node<T> currentNode = nodeAt(index);
+		Node<T> successor = currentNode.getNext();
+		
+		T returnVal = unlink(currentNode);
+		if(successor != null) setFinger(successor, index);
+		return returnVal;
+	}
+
+	@Override
+	/**
+	 * Sets a Node's element to a new specified element.
+	 * 
+	 * @param the index of the Node to be set
+	 * @param the new element that the Node should be set to
+	 * @throws IndexOutOfBoundsException if the specified index is not within the list's constraints
+	 */
+	public void set(int index, T element) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		
+		Node<T> currentNode = nodeAt(index);
+		replaceElement(currentNode, element);
+		setFinger(currentNode, index);
+	}
+
+	@Override
+	/**
+	 * Gets the element of a Node.
+	 * 
+	 * @param the index of the Node to be retrieved
+	 * @throws IndexOutOfBoundsException if the specified index is not within the list's constraints
+	 * @return the Node's element.
+	 */
+	public T get(int index) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		return nodeAt(index).getElement();
+	}
+
+	@Override
+	/**
+	 * Gets the elements at several indexes in one walk. The indexes are sorted
+	 * and each Node is found from the one before it (through the finger), or
+	 * from the tail if that is closer, so the walk covers the list at most once.
+	 * 
+	 * @param the indexes of the elements to get, in any order and possibly repeated
+	 * @throws IndexOutOfBoundsException if any index is not within the list's constraints
+	 * @return a List whose element i is the element at indexes[i]
+	 */
+	public List<T> get(int[] indexes) {
+		Node<T>[] nodes = nodesAt(indexes, true);
+		List<T> elements = new ArrayList<T>(nodes.length);
+		for(Node<T> node : nodes) {
+			elements.add(node.getElement());
+		}
+		return elements;
+	}
+
+	@Override
+	/**
+	 * Sets the elements at several indexes after finding all their Nodes in one walk.
+	 * If an index is repeated, the last of its elements is kept.
+	 * 
+	 * @param the indexes of the Nodes to be set, in any order
+	 * @param the new element for each index
+	 * @throws IllegalArgumentException if the arrays are not the same length
+	 * @throws IndexOutOfBoundsException if any index is not within the list's constraints
+	 */
+	public void set(int[] indexes, T[] elements) {
+		if(indexes.length != elements.length) throw new IllegalArgumentException();
+		
+		Node<T>[] nodes = nodesAt(indexes, true);
+		for(int i = 0; i < nodes.length; i++) {
+			replaceElement(nodes[i], elements[i]);
+		}
+	}
+
+	@Override
+	/**
+	 * Removes the Nodes at several indexes after finding them all in one walk.
+	 * The indexes refer to positions before anything is removed.
+	 * 
+	 * @param the indexes of the Nodes to be removed, in any order
+	 * @throws IndexOutOfBoundsException if any index is not within the list's constraints
+	 * @throws IllegalArgumentException if an index is repeated
+	 * @return a List whose element i is the element that was at indexes[i]
+	 */
+	public List<T> remove(int[] indexes) {
+		Node<T>[] nodes = nodesAt(indexes, false);
+		List<T> removed = new ArrayList<T>(nodes.length);
+		for(Node<T> node : nodes) {
+			removed.add(unlink(node));
+		}
+		return removed;
+	}
+	
+	/**
+	 * Finds the Nodes at several indexes, visiting the indexes in ascending
+	 * order so that each nodeAt call walks on from the finger left by the last.
+	 * Nothing is changed if any index is bad.
+	 * 
+	 * @param the indexes, in the caller's order
+	 * @param false if an index may only appear once
+	 * @throws IndexOutOfBoundsException if any index is not within the list's constraints
+	 * @throws IllegalArgumentException if repeats are not allowed and an index is repeated
+	 * @return the Node for each index, in the caller's order
+	 */
+	private Node<T>[] nodesAt(int[] indexes, boolean repeatsAllowed) {
+		long[] entries = IndexBatch.sorted(indexes, size, repeatsAllowed);
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		Node<T>[] nodes = (Node<T>[]) new Node[indexes.length];
+		for(long entry : entries) {
+			nodes[IndexBatch.position(entry)] = nodeAt(IndexBatch.index(entry));
+		}
+		return nodes;
+	}
+
+	@Override
+	/**
+	 * Gets the index of the first element found using the specified element.
+	 * 
+	 * @param the element to find
+	 * @return -1 if the element is not found, or returns the index of the first element found
+	 */
+	public int indexOf(T element) {
+		Node<T> currentNode = firstNodeOf(element);
+		
+		if (currentNode == null) return -1;
+		if (positionIndex != null) return positionIndex.indexOf(currentNode);
+		
+		int index = 0;
+		while (currentNode != head) {
+			currentNode = currentNode.getPrevious();
+			index++;
+		}
+		
+		return index;
+	}
+
+	@Override
+	/**
+	 * Gets the element of the first Node.
+	 * 
+	 * @throws NoSuchElementException if the list is empty.
+	 * @return the element of the first Node.
+	 */
+	public T first() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return head.getElement();
+	}
+
+	@Override
+	/**
+	 * Gets the element of the last Node.
+	 * 
+	 * @throws NoSuchElementException if the list is empty.
+	 * @return the element of the last Node.
+	 */
+	public T last() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return tail.getElement();
+	}
+
+	@Override
+	/**
+	 * Searches through a list to find if it contains a Node with the target element.
+	 * 
+	 * @param the target element.
+	 * @return true if the list contains the target element, false otherwise.
+	 */
+	public boolean contains(T target) {
+		return firstNodeOf(target) != null;
+	}
+
+	@Override
+	/**
+	 * Finds the first element equal to any of the targets in one walk of the
+	 * Nodes, checking each element against a hash set of the targets. Lists
+	 * with both indexes instead look up each target's first Node and its index,
+	 * in O(k log n) time for k targets.
+	 * 
+	 * @param the elements being sought
+	 * @return the index of the first element that matches a target, or -1 if none does
+	 */
+	public int indexOfAny(Iterable<? extends T> targets) {
+		if(elementIndex != null && positionIndex != null) {
+			int first = -1;
+			for(T target : targets) {
+				Node<T> node = elementIndex.first(target);
+				if(node == null) continue;
+				int index = positionIndex.indexOf(node);
+				if(first == -1 || index < first) first = index;
+			}
+			return first;
+		}
+		
+		HashSet<T> wanted = new HashSet<T>();
+		targets.forEach(wanted::add);
+		int index = 0;
+		for(Node<T> currentNode = head; currentNode != null; currentNode = currentNode.getNext()) {
+			if(wanted.contains(currentNode.getElement())) return index;
+			index++;
+		}
+		return -1;
+	}
+
+	@Override
+	/**
+	 * Checks that every target is in the list. Element-indexed lists look each
+	 * target up; others walk the Nodes once, crossing found elements off a hash
+	 * set of the targets, and stop when none are left.
+	 * 
+	 * @param the elements being sought
+	 * @return true if the list contains every target, false otherwise
+	 */
+	public boolean containsAll(Iterable<? extends T> targets) {
+		if(elementIndex != null) {
+			for(T target : targets) {
+				if(elementIndex.first(target) == null) return false;
+			}
+			return true;
+		}
+		
+		HashSet<T> missing = new HashSet<T>();
+		targets.forEach(missing::add);
+		Node<T> currentNode = head;
+		while(currentNode != null && !missing.isEmpty()) {
+			missing.remove(currentNode.getElement());
+			currentNode = currentNode.getNext();
+		}
+		return missing.isEmpty();
+	}
+
+	@Override
+	/**
+	 * Removes every element equal to any of the targets. Element-indexed lists
+	 * unlink just the matching Nodes, found through the index, so the cost
+	 * depends on how many targets and matches there are rather than on the size
+	 * of the list. Others filter the list in one walk with removeIf.
+	 * 
+	 * @param the elements to remove, each as often as it occurs
+	 * @return true if any elements were removed
+	 */
+	public boolean removeAll(Iterable<? extends T> targets) {
+		HashSet<T> doomed = new HashSet<T>();
+		targets.forEach(doomed::add);
+		if(elementIndex == null) return removeIf(doomed::contains);
+		
+		boolean removed = false;
+		for(T target : doomed) {
+			Node<T> node;
+			while((node = elementIndex.first(target)) != null) {
+				unlink(node);
+				removed = true;
+			}
+		}
+		return removed;
+	}
+
+	@Override
+	/**
+	 * Checks if the list is empty.
+	 * 
+	 * @return true if the list is empty, false otherwise.
+	 */
+	public boolean isEmpty() { 
+		return size == 0;
+	}
+
+	@Override
+	/**
+	 * Returns the size of the list.
+	 * 
+	 * @return the size of the list.
+	 */
+	public int size() {
+		return size;
+	}
+
+	@Override
+	/**
+	 * Returns the list as a readable string, showing all Nodes within a list.
+	 * 
+	 * @return the list as a String
+	 */
+	public String toString() {
+		StringBuilder str = new StringBuilder();
+		str.append("[");
+		Iterator<T> it = iterator();
+		while(it.hasNext()) {
+			str.append(it.next().toString());
+			str.append(", ");
+		}
+		if (size > 0) {
+			str.delete(str.length()-2, str.length());
+		}
+		str.append("]");
+		return str.toString();
+	}
+	
+	@Override
+	/**
+	 * Constructs a new iterator.
+	 * 
+	 * @return an Iterator.
+	 */
+	public Iterator<T> iterator() {
+		return new DLLListIterator();
+	}
+
+	@Override
+	/**
+	 * Constructs a new ListIterator.
+	 * 
+	 * @return a ListIterator
+	 */
+	public ListIterator<T> listIterator() {
+		return new DLLListIterator();
+	}
+
+	@Override
+	/**
+	 * Constructs a new ListIterator with the cursor index set by the parameter.
+	 * 
+	 * @param the index to start the cursor at
+	 * @return a ListIterator with cursor set by the parameter
+	 */
+	public ListIterator<T> listIterator(int startingIndex) {
+		return new DLLListIterator(startingIndex);
+	}
+	
+	/**
+	 * Constructs an iterator over the list as it is now. It never throws
+	 * ConcurrentModificationException: elements added to either end later are
+	 * not seen, and any other change first copies the elements the iterator has
+	 * not yet returned, so taking a snapshot is O(1) and costs at most one copy.
+	 * That copy is made by the thread changing the list, once for every open
+	 * snapshot, and costs O(k) for a snapshot with k elements left to return.
+	 * The iterator does not support remove().
+	 * 
+	 * Snapshots are for a single thread, or for threads that share the list
+	 * under a lock: the iterator reads the live Nodes with no synchronization,
+	 * so one thread must not iterate a snapshot while another changes the list.
+	 * To hand a reader thread a view that a writer can go on changing, use
+	 * IUPersistentList.snapshot() instead.
+	 * 
+	 * @return an Iterator over the current elements
+	 */
+	public Iterator<T> snapshotIterator() {
+		SnapshotIterator snapshot = new SnapshotIterator();
+		if(snapshots == null) {
+			snapshots = new ArrayList<WeakReference<SnapshotIterator>>();
+		} else {
+			snapshots.removeIf(ref -> ref.get() == null || ref.get().remaining == 0);
+		}
+		snapshots.add(new WeakReference<SnapshotIterator>(snapshot));
+		return snapshot;
+	}
+	
+	@Override
+	/**
+	 * Constructs a Spliterator that splits at the middle Node of its range, so
+	 * parallel streams divide the list evenly. Finding the middle walks half the
+	 * range, or descends the PositionIndex in O(log n) for indexed lists.
+	 * 
+	 * @return a fail-fast Spliterator over the list
+	 */
+	public Spliterator<T> spliterator() {
+		return new DLLSpliterator(head, 0, size, modCount);
+	}
+	
+	@Override
+	/**
+	 * Replaces each element with the result of applying the operator to it, in one walk of the Nodes.
+	 * 
+	 * @param the function to apply to each element
+	 * @throws ConcurrentModificationException if the operator modifies the list
+	 */
+	public void replaceAll(UnaryOperator<T> operator) {
+		if(operator == null) throw new NullPointerException();
+		detachSnapshots();
+		
+		int expectedModCount = modCount;
+		for(Node<T> currentNode = head; currentNode != null; currentNode = currentNode.getNext()) {
+			T newElement = operator.apply(currentNode.getElement());
+			if(modCount != expectedModCount) throw new ConcurrentModificationException();
+			
+			if(elementIndex != null) elementIndex.remove(currentNode);
+			currentNode.setElement(newElement);
+			if(elementIndex != null) elementIndex.insert(currentNode);
+		}
+		modCount++;
+	}
+	
+	@Override
+	/**
+	 * Replaces each element with the result of applying the operator to it, on the
+	 * common ForkJoinPool. The Nodes are gathered into an array in one walk and the
+	 * array's index range is split among the tasks, each of which rewrites its own Nodes.
+	 * Element-indexed lists fall back to replaceAll, since the ElementIndex is not thread-safe.
+	 * 
+	 * @param a stateless function to apply to each element
+	 * @throws ConcurrentModificationException if the operator modifies the list
+	 */
+	public void parallelReplaceAll(UnaryOperator<T> operator) {
+		if(operator == null) throw new NullPointerException();
+		if(elementIndex != null) {
+			replaceAll(operator);
+			return;
+		}
+		detachSnapshots();
+		
+		int expectedModCount = modCount;
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		Node<T>[] nodes = (Node<T>[]) new Node[size];
+		Node<T> currentNode = head;
+		for(int i = 0; i < nodes.length; i++) {
+			nodes[i] = currentNode;
+			currentNode = currentNode.getNext();
+		}
+		IntStream.range(0, nodes.length).parallel()
+				.forEach(i -> nodes[i].setElement(operator.apply(nodes[i].getElement())));
+		if(modCount != expectedModCount) throw new ConcurrentModificationException();
+		modCount++;
+	}
+	
+	@Override
+	/**
+	 * Unlinks every Node whose element matches the filter in a single walk, so
+	 * the cost is O(n) rather than a fresh search for each element removed.
+	 * 
+	 * @param returns true for elements to be removed
+	 * @return true if any elements were removed
+	 * @throws ConcurrentModificationException if the filter modifies the list
+	 */
+	public boolean removeIf(Predicate<? super T> filter) {
+		if(filter == null) throw new NullPointerException();
+		
+		boolean removed = false;
+		int expectedModCount = modCount;
+		Node<T> currentNode = head;
+		while(currentNode != null) {
+			Node<T> nextNode = currentNode.getNext();
+			boolean matches = filter.test(currentNode.getElement());
+			if(modCount != expectedModCount) throw new ConcurrentModificationException();
+			
+			if(matches) {
+				unlink(currentNode);
+				expectedModCount = modCount;
+				removed = true;
+			}
+			currentNode = nextNode;
+		}
+		return removed;
+	}
+	
+	/**
+	 * Sorts the list by relinking its Nodes with a stable, bottom-up merge sort
+	 * that takes O(n log n) time and, for an unindexed list, O(1) extra space
+	 * (a fixed table of 32 run heads). Indexed
+	 * lists rebuild their indexes afterwards in O(n). Node handles stay valid.
+	 * If the comparator throws, every Node is still in the list, in an
+	 * unspecified order.
+	 * 
+	 * @param the order to sort by, or null to use the elements' natural ordering
+	 * @throws ClassCastException if the comparator is null and the elements are not mutually Comparable
+	 * @throws ConcurrentModificationException if the comparator modifies the list
+	 */
+	public void sort(Comparator<? super T> comparator) {
+		Comparator<? super T> order = orderOf(comparator);
+		if(size < 2) return;
+		detachSnapshots();
+		
+		int expectedModCount = modCount;
+		Node<T> front = new Node<T>(null);
+		front.setNext(head);
+		try {
+			mergeSort(front, order);
+			if(modCount != expectedModCount) throw new ConcurrentModificationException();
+		} finally {
+			relinkSorted(front.getNext());
+		}
+	}
+	
+	/**
+	 * Sorts the list like sort(Comparator), but on the common ForkJoinPool: the
+	 * chain is cut in half recursively, the halves are sorted in parallel and
+	 * then merged. Lists of up to a few thousand elements are sorted sequentially.
+	 * 
+	 * @param the order to sort by, or null to use the elements' natural ordering
+	 * @throws ClassCastException if the comparator is null and the elements are not mutually Comparable
+	 * @throws ConcurrentModificationException if the comparator modifies the list
+	 */
+	public void parallelSort(Comparator<? super T> comparator) {
+		Comparator<? super T> order = orderOf(comparator);
+		if(size <= PARALLEL_SORT_THRESHOLD) {
+			sort(order);
+			return;
+		}
+		detachSnapshots();
+		
+		int expectedModCount = modCount;
+		Node<T> front = new Node<T>(null);
+		front.setNext(head);
+		try {
+			ForkJoinPool.commonPool().invoke(new SortTask<T>(front, size, order));
+			if(modCount != expectedModCount) throw new ConcurrentModificationException();
+		} finally {
+			relinkSorted(front.getNext());
+		}
+	}
+	
+	/**
+	 * Sorts a list of Integers in O(n) time with an LSD radix sort instead of
+	 * comparing boxed values. Each pass deals the Nodes onto one chain per byte
+	 * value and joins the chains, so, as with sort(Comparator), the Nodes are
+	 * relinked rather than copied and Node handles stay valid. The list is
+	 * unchanged if an element is not an Integer.
+	 * 
+	 * @throws ClassCastException if an element is not an Integer
+	 * @throws NullPointerException if an element is null
+	 */
+	public void sortInts() {
+		if(size < 2) return;
+		detachSnapshots();
+		relinkSorted(RadixSort.sort(head));
+	}
+	
+	/**
+	 * Restores the previous links, the tail and the indexes once a sort has
+	 * rearranged the next links.
+	 * 
+	 * @param the new first Node
+	 */
+	private void relinkSorted(Node<T> first) {
+		head = first;
+		Node<T> previous = null;
+		for(Node<T> currentNode = first; currentNode != null; currentNode = currentNode.getNext()) {
+			currentNode.setPrevious(previous);
+			previous = currentNode;
+		}
+		tail = previous;
+		
+		if(positionIndex != null) positionIndex.rebuild(head);
+		if(elementIndex != null) elementIndex.rebuild(head);
+		modCount++;
+	}
+	
+	/**
+	 * @param a comparator, or null for natural ordering
+	 * @return the comparator, or one that compares the elements as Comparables
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> Comparator<? super T> orderOf(Comparator<? super T> comparator) {
+		if(comparator != null) return comparator;
+		return (a, b) -> ((Comparable<? super T>) a).compareTo(b);
+	}
+	
+	/**
+	 * Sorts a run of Nodes by their next links only. The Nodes are taken one at
+	 * a time and carried like a binary counter: runs[i] holds a sorted run of
+	 * 2^i Nodes, and a new run is merged with each full slot it meets. Every
+	 * merge is of equal halves, as in a top-down merge sort, so recently merged
+	 * Nodes are merged again while still in cache. The run is reached through
+	 * the Node before it so that the caller can always find its first Node,
+	 * even if the comparator throws.
+	 * 
+	 * @param the Node whose next link holds the run, which must end in a null next link
+	 * @param the order to sort by
+	 */
+	private static <T> void mergeSort(Node<T> before, Comparator<? super T> comparator) {
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		Node<T>[] runs = (Node<T>[]) new Node[Integer.SIZE];
+		Node<T> carry = new Node<T>(null); // its next link holds the run being carried
+		Node<T> rest = before.getNext();
+		try {
+			while(rest != null) {
+				Node<T> node = rest;
+				rest = node.getNext();
+				node.setNext(null);
+				carry.setNext(node);
+				
+				int i = 0;
+				for(; runs[i] != null; i++) {
+					Node<T> left = runs[i];
+					runs[i] = null;
+					merge(left, carry.getNext(), null, carry, comparator);
+				}
+				runs[i] = carry.getNext();
+				carry.setNext(null);
+			}
+			for(int i = 0; i < runs.length; i++) {
+				if(runs[i] == null) continue;
+				Node<T> left = runs[i];
+				runs[i] = null;
+				if(carry.getNext() == null) carry.setNext(left);
+				else merge(left, carry.getNext(), null, carry, comparator);
+			}
+			before.setNext(carry.getNext());
+		} catch(RuntimeException | Error e) {
+			// gather the carried run, the stored runs and the unsorted rest so no Node is lost
+			before.setNext(null);
+			Node<T> tail = append(before, carry.getNext());
+			for(Node<T> run : runs) {
+				tail = append(tail, run);
+			}
+			append(tail, rest);
+			throw e;
+		}
+	}
+	
+	/**
+	 * Ends a run after the given number of Nodes.
+	 * 
+	 * @param the first Node of the run, or null
+	 * @param how many Nodes to keep in the run
+	 * @return the Node that followed the run, or null if there is none
+	 */
+	private static <T> Node<T> cut(Node<T> first, int length) {
+		Node<T> last = first;
+		for(int i = 1; last != null && i < length; i++) {
+			last = last.getNext();
+		}
+		if(last == null) return null;
+		
+		Node<T> rest = last.getNext();
+		last.setNext(null);
+		return rest;
+	}
+	
+	/**
+	 * Merges two sorted runs after the tail Node and links the result to the
+	 * rest of the chain. Ties go to the left run, which keeps the sort stable.
+	 * 
+	 * @param the first sorted run
+	 * @param the second sorted run, or null
+	 * @param the Nodes to link after the merged run, or null
+	 * @param the Node to link the merged run after
+	 * @param the order to sort by
+	 * @return the last Node of the merged run
+	 */
+	private static <T> Node<T> merge(Node<T> left, Node<T> right, Node<T> rest, Node<T> tail,
+			Comparator<? super T> comparator) {
+		try {
+			while(left != null && right != null) {
+				if(comparator.compare(right.getElement(), left.getElement()) < 0) {
+					tail.setNext(right);
+					tail = right;
+					right = right.getNext();
+				} else {
+					tail.setNext(left);
+					tail = left;
+					left = left.getNext();
+				}
+			}
+		} finally {
+			// one run is used up unless the comparator threw; append whatever is left so no Node is lost
+			tail = append(tail, left);
+			tail = append(tail, right);
+			tail.setNext(rest);
+		}
+		return tail;
+	}
+	
+	/**
+	 * Links a run after the tail Node.
+	 * 
+	 * @param the Node to link after
+	 * @param the run, or null
+	 * @return the last Node of the run, or the tail Node if the run is empty
+	 */
+	private static <T> Node<T> append(Node<T> tail, Node<T> run) {
+		if(run == null) return tail;
+		
+		tail.setNext(run);
+		while(tail.getNext() != null) {
+			tail = tail.getNext();
+		}
+		return tail;
+	}
+	
+	/**
+	 * Copies out the rest of every unfinished snapshot before the Nodes change.
+	 */
+	private void detachSnapshots() {
+		if(snapshots == null || snapshots.isEmpty()) return;
+		
+		for(WeakReference<SnapshotIterator> ref : snapshots) {
+			SnapshotIterator snapshot = ref.get();
+			if(snapshot != null) snapshot.detach();
+		}
+		snapshots.clear();
+	}
+	
+	/**
+	 * Adds a new Node to index 0 and returns it as a handle for the O(1) Node methods.
+	 * 
+	 * @param the element to be contained within the Node created.
+	 * @return the new Node
+	 */
+	public Node<T> addToFrontNode(T element) {
+		Node<T> newNode = newNode(element);
+		linkBefore(newNode, head);
+		return newNode;
+	}
+	
+	/**
+	 * Adds a new Node to the end of the list and returns it as a handle for the O(1) Node methods.
+	 * 
+	 * @param the element to be contained within the Node created.
+	 * @return the new Node
+	 */
+	public Node<T> addToRearNode(T element) {
+		Node<T> newNode = newNode(element);
+		linkBefore(newNode, null);
+		return newNode;
+	}
+	
+	/**
+	 * Adds a new Node at a specified index and returns it as a handle for the O(1) Node methods.
+	 * 
+	 * @param the index to add the new Node to
+	 * @param the element to be contained with the Node
+	 * @throws IndexOutOfBoundsException if the specified index is not within the list's constraints
+	 * @return the new Node
+	 */
+	public Node<T> addNode(int index, T element) {
+		if(index < 0 || index > size) throw new IndexOutOfBoundsException();
+		
+		Node<T> newNode = newNode(element);
+		linkBefore(newNode, (index == size) ? null : nodeAt(index));
+		setFinger(newNode, index);
+		return newNode;
+	}
+	
+	/**
+	 * Adds a new Node directly after the given Node.
+	 * 
+	 * @param a Node currently in this list
+	 * @param the element to be contained with the new Node
+	 * @throws IllegalArgumentException if the Node is not linked into this list
+	 * @return the new Node
+	 */
+	public Node<T> insertAfter(Node<T> node, T element) {
+		checkLinked(node);
+		Node<T> newNode = newNode(element);
+		linkBefore(newNode, node.getNext());
+		return newNode;
+	}
+	
+	/**
+	 * Adds a new Node directly before the given Node.
+	 * 
+	 * @param a Node currently in this list
+	 * @param the element to be contained with the new Node
+	 * @throws IllegalArgumentException if the Node is not linked into this list
+	 * @return the new Node
+	 */
+	public Node<T> insertBefore(Node<T> node, T element) {
+		checkLinked(node);
+		Node<T> newNode = newNode(element);
+		linkBefore(newNode, node);
+		return newNode;
+	}
+	
+	/**
+	 * Removes the given Node from the list without searching for it.
+	 * 
+	 * @param a Node currently in this list
+	 * @throws IllegalArgumentException if the Node is not linked into this list
+	 * @return the element removed.
+	 */
+	public T removeNode(Node<T> node) {
+		checkLinked(node);
+		return unlink(node);
+	}
+	
+	/**
+	 * Replaces the element held by the given Node without searching for it,
+	 * keeping the element index and any open snapshot iterators current.
+	 * Nodes cannot be changed directly, so this is how a handle's element is
+	 * updated.
+	 * 
+	 * @param a Node currently in this list
+	 * @param the new element for the Node
+	 * @throws IllegalArgumentException if the Node is not linked into this list
+	 * @return the element replaced
+	 */
+	public T set(Node<T> node, T element) {
+		checkLinked(node);
+		T returnVal = node.getElement();
+		replaceElement(node, element);
+		return returnVal;
+	}
+	
+	/**
+	 * Relinks the given Node at the front of the list. The Node stays valid as a handle.
+	 * 
+	 * @param a Node currently in this list
+	 * @throws IllegalArgumentException if the Node is not linked into this list
+	 */
+	public void moveToFront(Node<T> node) {
+		checkLinked(node);
+		if(node == head) return;
+		unlink(node);
+		linkBefore(node, head);
+	}
+	
+	/**
+	 * Relinks the given Node at the end of the list. The Node stays valid as a handle.
+	 * 
+	 * @param a Node currently in this list
+	 * @throws IllegalArgumentException if the Node is not linked into this list
+	 */
+	public void moveToBack(Node<T> node) {
+		checkLinked(node);
+		if(node == tail) return;
+		unlink(node);
+		linkBefore(node, null);
+	}
+	
+	/**
+	 * Checks that a Node handle is linked into this list. Removed Nodes have no
+	 * Owner, and Nodes of other lists have another list's Owner.
+	 * 
+	 * @param the Node handle to check
+	 * @throws IllegalArgumentException if the Node is null or not linked into this list
+	 */
+	private void checkLinked(Node<T> node) {
+		if(node == null || node.getOwner() == null || node.getOwner().root(node) != owner) {
+			throw new IllegalArgumentException();
+		}
+	}
+	
+	/**
+	 * Gives this list the Nodes of another list, which the caller is emptying,
+	 * without visiting them: the two lists' Owners are joined, and the other
+	 * list starts again with a new one.
+	 * 
+	 * @param the list whose Nodes this list now owns
+	 */
+	private void adoptNodes(IUDoubleLinkedList<T> other) {
+		owner = owner.join(other.owner);
+		other.owner = new Owner();
+	}
+	
+	/**
+	 * Moves every element of another list to the end of this one, leaving the
+	 * other list empty. When neither list is indexed the other list's Node chain
+	 * is relinked onto the tail in O(1); otherwise each Node is moved on its own
+	 * so both lists' indexes stay current. No Nodes are copied either way,
+	 * unless only one of the lists is position-indexed.
+	 * 
+	 * @param the list whose elements are moved
+	 * @throws IllegalArgumentException if the other list is this list
+	 */
+	public void appendAll(IUDoubleLinkedList<T> other) {
+		spliceBefore(other, null);
+	}
+	
+	/**
+	 * Splits the list in two at the specified index. This list keeps the Nodes
+	 * before the index and the rest are relinked, in order, into a new list with
+	 * the same indexes as this one. Finding the index costs a walk (or an
+	 * O(log n) lookup when position-indexed). For unindexed lists, cutting the
+	 * chain is O(1) and marking the Nodes with their new list walks only the
+	 * shorter half, so the split costs no more than the walk to the index.
+	 * 
+	 * @param the index of the first Node to move to the new list
+	 * @throws IndexOutOfBoundsException if the specified index is not within the list's constraints
+	 * @return a list of the Nodes from the index to the end
+	 */
+	public IUDoubleLinkedList<T> splitAt(int index) {
+		if(index < 0 || index > size) throw new IndexOutOfBoundsException();
+		
+		IUDoubleLinkedList<T> rest = new IUDoubleLinkedList<T>(positionIndex != null, elementIndex != null);
+		if(index == size) return rest;
+		
+		if(positionIndex == null && elementIndex == null) {
+			Node<T> first = nodeAt(index);
+			Node<T> last = first.getPrevious();
+			detachSnapshots();
+			
+			// re-mark whichever side is shorter; the other keeps this list's Owner
+			if(index < size - index) {
+				rest.owner = owner;
+				owner = new Owner();
+				for(Node<T> node = head; node != first; node = node.getNext()) node.setOwner(owner);
+			} else {
+				for(Node<T> node = first; node != null; node = node.getNext()) node.setOwner(rest.owner);
+			}
+			
+			rest.head = first;
+			rest.tail = tail;
+			rest.size = size - index;
+			first.setPrevious(null);
+			
+			if(last == null) head = null;
+			else last.setNext(null);
+			tail = last;
+			size = index;
+			modCount++;
+		} else {
+			while(size > index) {
+				Node<T> node = tail;
+				unlink(node);
+				rest.linkBefore(node, rest.head);
+			}
+		}
+		return rest;
+	}
+	
+	/**
+	 * Moves every element of another list into this one at the cursor of a
+	 * ListIterator, leaving the other list empty. The elements go in as if each
+	 * had been passed to the iterator's add(), so the iterator stays valid and
+	 * its cursor ends up after them. Like appendAll, the move is O(1) when
+	 * neither list is indexed.
+	 * 
+	 * @param a ListIterator returned by this list
+	 * @param the list whose elements are moved
+	 * @throws IllegalArgumentException if the iterator is not from this list, or the other list is this list
+	 * @throws ConcurrentModificationException if the list has been modified outside the iterator
+	 */
+	@SuppressWarnings("unchecked")
+	public void spliceAt(ListIterator<T> position, IUDoubleLinkedList<T> other) {
+		if(!(position instanceof IUDoubleLinkedList<?>.DLLListIterator)) throw new IllegalArgumentException();
+		
+		DLLListIterator iterator = (DLLListIterator) position;
+		if(iterator.list() != this) throw new IllegalArgumentException();
+		iterator.splice(other);
+	}
+	
+	/**
+	 * Moves every Node of another list into this one directly before the
+	 * successor Node, leaving the other list empty.
+	 * 
+	 * @param the list whose Nodes are moved
+	 * @param the Node that will follow them, or null to move them to the tail
+	 * @throws IllegalArgumentException if the other list is this list
+	 * @return the last Node moved in, or null if the other list was empty
+	 */
+	private Node<T> spliceBefore(IUDoubleLinkedList<T> other, Node<T> successor) {
+		if(other == this) throw new IllegalArgumentException();
+		if(other.isEmpty()) return null;
+		
+		if(positionIndex != null || elementIndex != null
+				|| other.positionIndex != null || other.elementIndex != null) {
+			// indexed Nodes must be entered into (and taken out of) the indexes one at a time
+			boolean sameKind = (positionIndex != null) == (other.positionIndex != null);
+			Node<T> node = null;
+			while(!other.isEmpty()) {
+				node = other.head;
+				other.unlink(node);
+				if(!sameKind) node = newNode(node.getElement());
+				linkBefore(node, successor);
+			}
+			return node;
+		}
+		
+		if(successor != null && successor != head) detachSnapshots(); // as in linkBefore
+		other.detachSnapshots();
+		
+		Node<T> first = other.head;
+		Node<T> last = other.tail;
+		Node<T> predecessor = (successor == null) ? tail : successor.getPrevious();
+		
+		first.setPrevious(predecessor);
+		last.setNext(successor);
+		
+		if(predecessor == null) head = first;
+		else predecessor.setNext(first);
+		
+		if(successor == null) tail = last;
+		else successor.setPrevious(last);
+		
+		size += other.size;
+		modCount++;
+		adoptNodes(other);
+		
+		other.head = other.tail = null;
+		other.size = 0;
+		other.modCount++;
+		return last;
+	}
+	
+	/**
+	 *
+	 * A custom doubly-linked ListIterator implementing the Java ListIterator. Uses the Node class.
+	 * 
+	 * @author Preston Hardy
+	 *
+	 */
+	private class DLLListIterator implements ListIterator<T> {
+		private Node<T> nextNode;
+		private Node<T> previousNode;
+		private int index;
+		private int iterModCount;
+		private boolean nextCalled;
+		private boolean previousCalled;
+		
+		/** Creates a new iterator for the list */
+		public DLLListIterator() {
+			nextNode = head;
+			previousNode = null;
+			nextCalled = false;
+			previousCalled = false;
+			iterModCount = modCount;
+			index = 0;
+		}
+		/**
+		 * Creates a new ListIterator at the starting index.
+		 * 
+		 * @throws IndexOutOfBoundsException if the starting index is outside of the cursor's restraints.
+		 * @param startingIndex
+		 */
+		public DLLListIterator(int startingIndex) {
+			if(startingIndex < 0 || startingIndex > size) throw new IndexOutOfBoundsException();
+			
+			if(startingIndex == size) {
+				nextNode = null;
+				previousNode = tail;
+			} else {
+				nextNode = nodeAt(startingIndex);
+				previousNode = nextNode.getPrevious();
+			}
+			nextCalled = false;
+			previousCalled = false;
+			iterModCount = modCount;
+			index = startingIndex;
+
+		}
+		
+		@Override
+		/**
+		 * Checks if there is a next Node after the cursor's position.
+		 * 
+		 * @throws ConcurrentModificationException if the list has been modified outside the iterator
+		 * @return true if there is a Node after the cursor, false otherwise
+		 */
+		public boolean hasNext() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return nextNode != null;
+		}
+
+		@Override
+		/**
+		 * Moves the cursor one spot forward, updating the previous and next Node.
+		 * 
+		 * @throws NoSuchElementException if there is not a next Node
+		 * @return the Node that the cursor passes over when moving forward
+		 */
+		public T next() {
+			if(!hasNext()) throw new NoSuchElementException();
+			
+			T returnVal = nextNode.getElement();
+			
+			previousNode = nextNode;
+			nextNode = nextNode.getNext();
+			index++;
+			nextCalled = true;
+			previousCalled = false;
+			return returnVal;
+		}
+
+		@Override
+		/**
+		 * Checks if there is a previous Node before the cursor's position.
+		 * 
+		 * @throws ConcurrentModificationException if the list has been modified outside the iterator
+		 * @return true if there is a Node before the cursor, false otherwise
+		 */
+		public boolean hasPrevious() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return previousNode != null;
+		}
+
+		@Override
+		/**
+		 * Moves the cursor one spot backwards, updating the previous and next Node.
+		 * 
+		 * @throws NoSuchElementException if there is not a previous Node
+		 * @return the Node that the cursor passes over when moving backwards
+		 */
+		public T previous() {
+			if(!hasPrevious()) throw new NoSuchElementException();
+			
+			T returnVal = previousNode.getElement();
+			
+			nextNode = previousNode;
+			previousNode = previousNode.getPrevious();
+			previousCalled = true;
+			nextCalled = false;
+			index--;
+			return returnVal;
+		}
+
+		@Override
+		/**
+		 * Returns the index after the cursor's current position
+		 * 
+		 * @throws ConcurrentModificationException if the list has been modified outside the iterator
+		 * @return the next index of the cursor
+		 */
+		public int nextIndex() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return index;
+		}
+
+		@Override
+		/**
+		 * Returns the index before the cursor's current position
+		 * 
+		 * @throws ConcurrentModificationException if the list has been modified outside the iterator
+		 * @return the previous index of the cursor
+		 */
+		public int previousIndex() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return index - 1;
+		}
+
+		@Override
+		/**
+		 * Removes the last Node returned by next or previous.
+		 * 
+		 * @throws IllegalStateException if next or previous has not been called
+		 * @throws ConcurrentModificationException if the list has been modified outside the iterator
+		 */
+		public void remove() {
+			if (modCount != iterModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!nextCalled && !previousCalled) {
+				throw new IllegalStateException();
+			}
+			if(nextCalled) {
+				Node<T> removedNode = previousNode;
+				previousNode = previousNode.getPrevious();
+				unlink(removedNode);
+				index--;
+			}
+			else {
+				Node<T> removedNode = nextNode;
+				nextNode = nextNode.getNext();
+				unlink(removedNode);
+			}
+			nextCalled = false;
+			previousCalled = false;
+			iterModCount = modCount;
+		}
+
+		@Override
+		/**
+		 * Sets the Node last returned by next or previous.
+		 * 
+		 * @param the new element to set the Node to 
+		 * @throws IllegalStateException if next or previous has not been called
+		 * @throws ConcurrentModificationException if the list has been modified outside the iterator
+		 */
+		public void set(T e) {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			
+			
+			if(nextCalled) {
+				replaceElement(previousNode, e);
+			}
+			else if(previousCalled) {
+				replaceElement(nextNode, e);
+			}
+			else {
+				throw new IllegalStateException();
+			}
+			nextCalled = false;
+			previousCalled = false;
+			iterModCount = modCount;
+		}
+
+		@Override
+		/**
+		 * Adds a new Node directly before what would be returned by next()
+		 * 
+		 * @param the new element to set the Node to 
+		 * @throws IllegalStateException if next or previous has not been called
+		 * @throws ConcurrentModificationException if the list has been modified outside the iterator
+		 */
+		public void add(T e) {
+			
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			
+			Node<T> newNode = newNode(e);
+			linkBefore(newNode, nextNode);
+			previousNode = newNode;
+			index++;
+			
+			nextCalled = false;
+			previousCalled = false;
+			iterModCount = modCount;
+		}
+		
+		/**
+		 * Moves every element of another list in before the cursor, as add() would, leaving the other list empty.
+		 * 
+		 * @param the list whose elements are moved
+		 * @throws ConcurrentModificationException if the list has been modified outside the iterator
+		 */
+		private void splice(IUDoubleLinkedList<T> other) {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			
+			int moved = other.size;
+			Node<T> last = spliceBefore(other, nextNode);
+			if(last != null) previousNode = last;
+			index += moved;
+			
+			nextCalled = false;
+			previousCalled = false;
+			iterModCount = modCount;
+		}
+		
+		/** @return the list this iterator walks */
+		private IUDoubleLinkedList<T> list() {
+			return IUDoubleLinkedList.this;
+		}
+	}
+	
+	/**
+	 * A fail-fast Spliterator over a run of consecutive Nodes.
+	 * 
+	 * @author Preston Hardy
+	 *
+	 */
+	private class DLLSpliterator implements Spliterator<T> {
+		private Node<T> nextNode;
+		private int index; // index of nextNode
+		private int remaining;
+		private final int expectedModCount;
+		
+		/**
+		 * Creates a Spliterator over a run of Nodes.
+		 * 
+		 * @param the first Node of the run
+		 * @param the index of that Node
+		 * @param the number of Nodes in the run
+		 * @param the modCount the run was found under
+		 */
+		public DLLSpliterator(Node<T> first, int index, int remaining, int expectedModCount) {
+			this.nextNode = first;
+			this.index = index;
+			this.remaining = remaining;
+			this.expectedModCount = expectedModCount;
+		}
+		
+		@Override
+		/**
+		 * Hands the first half of the run to a new Spliterator and keeps the second half.
+		 * 
+		 * @return the Spliterator over the first half, or null if the run is too short to split
+		 */
+		public Spliterator<T> trySplit() {
+			if(remaining < 2) return null;
+			if(modCount != expectedModCount) throw new ConcurrentModificationException();
+			
+			int half = remaining / 2;
+			Node<T> middle;
+			if(positionIndex != null) {
+				middle = positionIndex.get(index + half);
+			} else {
+				middle = nextNode;
+				for(int i = 0; i < half; i++) {
+					middle = middle.getNext();
+				}
+			}
+			Spliterator<T> firstHalf = new DLLSpliterator(nextNode, index, half, expectedModCount);
+			nextNode = middle;
+			index += half;
+			remaining -= half;
+			return firstHalf;
+		}
+		
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if(action == null) throw new NullPointerException();
+			if(remaining == 0) return false;
+			if(modCount != expectedModCount) throw new ConcurrentModificationException();
+			
+			T element = nextNode.getElement();
+			nextNode = nextNode.getNext();
+			index++;
+			remaining--;
+			action.accept(element);
+			return true;
+		}
+		
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			if(action == null) throw new NullPointerException();
+			if(modCount != expectedModCount) throw new ConcurrentModificationException();
+			
+			Node<T> currentNode = nextNode;
+			for(int i = 0; i < remaining; i++) {
+				action.accept(currentNode.getElement());
+				currentNode = currentNode.getNext();
+			}
+			nextNode = null;
+			index += remaining;
+			remaining = 0;
+			if(modCount != expectedModCount) throw new ConcurrentModificationException();
+		}
+		
+		@Override
+		public long estimateSize() {
+			return remaining;
+		}
+		
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+	}
+	
+	/**
+	 * The cached finger: a Node, its index, and the modCount it was recorded
+	 * at. Its fields are final so that a thread reading the finger another
+	 * thread has just recorded sees all three together.
+	 * 
+	 * @author Preston Hardy
+	 *
+	 */
+	private static final class Finger<T> {
+		private final Node<T> node;
+		private final int index;
+		private final int modCount;
+		
+		private Finger(Node<T> node, int index, int modCount) {
+			this.node = node;
+			this.index = index;
+			this.modCount = modCount;
+		}
+	}
+	
+	/**
+	 * Marks the Nodes of one list. appendAll and spliceAt move a whole chain
+	 * without visiting its Nodes, so the moved Nodes keep their old Owner and
+	 * that Owner is forwarded to the new list's. Owners are joined by rank and
+	 * forwarding chains are shortened as they are followed (a union-find), so
+	 * finding a Node's list takes amortized O(1) time.
+	 * 
+	 * @author Preston Hardy
+	 *
+	 */
+	static final class Owner {
+		private Owner forward; // null for the Owner a list holds
+		private int rank;
+		
+		/**
+		 * Follows the forward links to the Owner of a list, pointing the Node
+		 * and every Owner passed on the way straight at it.
+		 * 
+		 * @param the Node this Owner marks
+		 * @return the Owner held by the Node's list
+		 */
+		private Owner root(Node<?> node) {
+			Owner root = this;
+			while(root.forward != null) root = root.forward;
+			for(Owner current = this; current != root; ) {
+				Owner next = current.forward;
+				current.forward = root;
+				current = next;
+			}
+			node.setOwner(root);
+			return root;
+		}
+		
+		/**
+		 * Joins two lists' Owners so that Nodes marked by either find the same one.
+		 * 
+		 * @param the other list's Owner
+		 * @return the Owner for the joined list
+		 */
+		private Owner join(Owner other) {
+			if(rank < other.rank) {
+				forward = other;
+				return other;
+			}
+			other.forward = this;
+			if(rank == other.rank) rank++;
+			return this;
+		}
+	}
+	
+	/**
+	 * Sorts a run of Nodes for parallelSort by cutting it in half, sorting the
+	 * halves in parallel and merging them. Like mergeSort, the run hangs off the
+	 * Node before it, and every Node is still in it if the comparator throws.
+	 * 
+	 * @author Preston Hardy
+	 *
+	 */
+	private static class SortTask<T> extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		private final Node<T> before;
+		private final int length;
+		private final Comparator<? super T> comparator;
+		
+		/**
+		 * Creates a task to sort a run.
+		 * 
+		 * @param the Node whose next link holds the run
+		 * @param the number of Nodes in the run, which must end in a null next link
+		 * @param the order to sort by
+		 */
+		public SortTask(Node<T> before, int length, Comparator<? super T> comparator) {
+			this.before = before;
+			this.length = length;
+			this.comparator = comparator;
+		}
+		
+		@Override
+		protected void compute() {
+			if(length <= PARALLEL_SORT_THRESHOLD) {
+				mergeSort(before, comparator);
+				return;
+			}
+			
+			int half = length / 2;
+			Node<T> leftFront = new Node<T>(null);
+			Node<T> rightFront = new Node<T>(null);
+			leftFront.setNext(before.getNext());
+			rightFront.setNext(cut(before.getNext(), half));
+			
+			SortTask<T> left = new SortTask<T>(leftFront, half, comparator);
+			SortTask<T> right = new SortTask<T>(rightFront, length - half, comparator);
+			right.fork();
+			try {
+				left.invoke();
+			} finally {
+				right.quietlyJoin(); // the right half must stop touching its Nodes before they are relinked
+				if(left.isCompletedNormally() && right.isCompletedNormally()) {
+					merge(leftFront.getNext(), rightFront.getNext(), null, before, comparator);
+				} else {
+					append(append(before, leftFront.getNext()), rightFront.getNext());
+				}
+			}
+			right.join(); // rethrows a failure in the right half
+		}
+	}
+	
+	/**
+	 * An Iterator over the elements present when it was created. It walks the
+	 * live Nodes, counting down so that it stops before anything appended later,
+	 * until the list is about to change in a way that would disturb that walk;
+	 * detach() then copies what is left into an array.
+	 * 
+	 * @author Preston Hardy
+	 *
+	 */
+	private class SnapshotIterator implements Iterator<T> {
+		private Node<T> nextNode;
+		private int remaining;
+		private Object[] detached; // the rest of the snapshot once the Nodes could change, else null
+		private int detachedIndex;
+		
+		/** Creates a snapshot of the list as it is now */
+		public SnapshotIterator() {
+			nextNode = head;
+			remaining = size;
+			detached = null;
+		}
+		
+		/**
+		 * Copies the elements not yet returned so that later changes to the list cannot affect them.
+		 */
+		private void detach() {
+			if(detached != null || remaining == 0) return;
+			
+			detached = new Object[remaining];
+			Node<T> currentNode = nextNode;
+			for(int i = 0; i < remaining; i++) {
+				detached[i] = currentNode.getElement();
+				currentNode = currentNode.getNext();
+			}
+			detachedIndex = 0;
+			nextNode = null;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+			if(!hasNext()) throw new NoSuchElementException();
+			
+			remaining--;
+			if(detached != null) {
+				T returnVal = (T) detached[detachedIndex];
+				detached[detachedIndex++] = null;
+				return returnVal;
+			}
+			T returnVal = nextNode.getElement();
+			nextNode = (remaining == 0) ? null : nextNode.getNext(); // never step onto a later append
+			return returnVal;
+		}
+	}
+
+}
\ No newline at end of file
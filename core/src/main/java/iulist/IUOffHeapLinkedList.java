@@ -0,0 +1,493 @@
+package iulist;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Doubly-linked implementation of IndexedUnsortedList stored outside the
+ * Java heap. Each slot holds its next and previous links followed by the
+ * element, encoded into a fixed width by a RecordCodec. Slots live in
+ * direct ByteBuffer pages of 65536 slots, so growing adds a page rather
+ * than copying, and the garbage collector only ever sees one object per
+ * page no matter how many elements the list holds. Removed slots are
+ * reused through a free list; pages are released when the list is collected.
+ *
+ * Elements are copied in and out through the codec, so get() returns an
+ * equal element, not the same object that was added.
+ *
+ * @author Preston Hardy
+ *
+ * @param <T> type to store
+ */
+public class IUOffHeapLinkedList<T> implements IndexedUnsortedList<T> {
+
+	private static final int NIL = -1;
+	private static final int NOT_FOUND = -1;
+	private static final int PAGE_SHIFT = 16;
+	private static final int PAGE_SLOTS = 1 << PAGE_SHIFT;
+	private static final int PAGE_MASK = PAGE_SLOTS - 1;
+	// byte offsets within a slot
+	private static final int NEXT = 0;
+	private static final int PREVIOUS = 4;
+	private static final int ELEMENT = 8;
+
+	private final RecordCodec<T> codec;
+	private final int slotWidth;
+	private ByteBuffer[] pages;
+	private int pageCount;
+
+	private int head, tail;
+	private int size;
+	private int modCount;
+	private int freeHead; // first slot on the free list, chained through next
+	private int used;     // slots at or above this have never been handed out
+
+	/**
+	 * Creates an empty list. No memory is reserved until the first add.
+	 *
+	 * @param the codec encoding elements into a fixed number of bytes
+	 * @throws IllegalArgumentException if the codec's width is too large for a page
+	 */
+	public IUOffHeapLinkedList(RecordCodec<T> codec) {
+		if(codec.width() < 0 || codec.width() > Integer.MAX_VALUE / PAGE_SLOTS - ELEMENT) {
+			throw new IllegalArgumentException();
+		}
+		this.codec = codec;
+		this.slotWidth = ELEMENT + codec.width();
+		pages = new ByteBuffer[1];
+		pageCount = 0;
+		head = tail = NIL;
+		size = 0;
+		modCount = 0;
+		freeHead = NIL;
+		used = 0;
+	}
+
+	/**
+	 * Creates an empty list of longs, 16 bytes per element including links.
+	 *
+	 * @return a new, empty list
+	 */
+	public static IUOffHeapLinkedList<Long> ofLongs() {
+		return new IUOffHeapLinkedList<Long>(RecordCodec.longs());
+	}
+
+	private ByteBuffer page(int slot) {
+		return pages[slot >>> PAGE_SHIFT];
+	}
+
+	private int offset(int slot) {
+		return (slot & PAGE_MASK) * slotWidth;
+	}
+
+	private int nextOf(int slot) {
+		return page(slot).getInt(offset(slot) + NEXT);
+	}
+
+	private void setNextOf(int slot, int next) {
+		page(slot).putInt(offset(slot) + NEXT, next);
+	}
+
+	private int previousOf(int slot) {
+		return page(slot).getInt(offset(slot) + PREVIOUS);
+	}
+
+	private void setPreviousOf(int slot, int previous) {
+		page(slot).putInt(offset(slot) + PREVIOUS, previous);
+	}
+
+	private T elementAt(int slot) {
+		return codec.read(page(slot), offset(slot) + ELEMENT);
+	}
+
+	private void setElement(int slot, T element) {
+		codec.write(page(slot), offset(slot) + ELEMENT, element);
+	}
+
+	private boolean matches(int slot, T element) {
+		return codec.matches(page(slot), offset(slot) + ELEMENT, element);
+	}
+
+	/**
+	 * Returns the number of slots handed out so far, linked or on the free list.
+	 *
+	 * @return the number of slots in use
+	 */
+	int slotCount() {
+		return used;
+	}
+
+	/**
+	 * Takes a slot from the free list, or a fresh one, adding a page if needed.
+	 *
+	 * @return an unlinked slot
+	 * @throws OutOfMemoryError if the list already has the maximum number of slots
+	 */
+	private int allocate() {
+		if(freeHead != NIL) {
+			int slot = freeHead;
+			freeHead = nextOf(slot);
+			return slot;
+		}
+		if(used == Integer.MAX_VALUE) throw new OutOfMemoryError();
+		if(used == pageCount * PAGE_SLOTS) {
+			if(pageCount == pages.length) {
+				pages = Arrays.copyOf(pages, pages.length * 2);
+			}
+			pages[pageCount++] = ByteBuffer.allocateDirect(PAGE_SLOTS * slotWidth).order(ByteOrder.nativeOrder());
+		}
+		return used++;
+	}
+
+	/**
+	 * Gives back a slot that was allocated but never linked, as if allocate
+	 * had not been called.
+	 *
+	 * @param the unlinked slot
+	 */
+	private void release(int slot) {
+		if(slot == used - 1) {
+			used--;
+		} else {
+			setNextOf(slot, freeHead);
+			freeHead = slot;
+		}
+	}
+
+	/**
+	 * Stores an element in a new slot and links it in before the successor slot.
+	 * If the codec cannot write the element, the slot is released and the list
+	 * is left unchanged.
+	 *
+	 * @param the element to store
+	 * @param the slot that will follow it, or NIL to link at the tail
+	 * @return the new slot
+	 */
+	private int linkNew(T element, int successor) {
+		int slot = allocate();
+		try {
+			setElement(slot, element);
+		} catch(RuntimeException e) {
+			release(slot);
+			throw e;
+		}
+		linkBefore(slot, successor);
+		return slot;
+	}
+
+	private void linkBefore(int slot, int successor) {
+		int predecessor = (successor == NIL) ? tail : previousOf(successor);
+
+		setPreviousOf(slot, predecessor);
+		setNextOf(slot, successor);
+
+		if(predecessor == NIL) head = slot;
+		else setNextOf(predecessor, slot);
+
+		if(successor == NIL) tail = slot;
+		else setPreviousOf(successor, slot);
+
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Unlinks a slot, puts it on the free list and returns its element.
+	 *
+	 * @param a linked slot
+	 * @return the element the slot held
+	 */
+	private T unlink(int slot) {
+		T returnVal = elementAt(slot);
+		int predecessor = previousOf(slot);
+		int successor = nextOf(slot);
+
+		if(predecessor == NIL) head = successor;
+		else setNextOf(predecessor, successor);
+
+		if(successor == NIL) tail = predecessor;
+		else setPreviousOf(successor, predecessor);
+
+		setNextOf(slot, freeHead);
+		freeHead = slot;
+
+		size--;
+		modCount++;
+		return returnVal;
+	}
+
+	/**
+	 * Finds the slot at an index, walking from the nearer end.
+	 * Bounds must be checked by the caller.
+	 */
+	private int slotAt(int index) {
+		int slot;
+		if(index <= (size - 1) / 2) {
+			slot = head;
+			for(int i = 0; i < index; i++) {
+				slot = nextOf(slot);
+			}
+		} else {
+			slot = tail;
+			for(int i = size - 1; i > index; i--) {
+				slot = previousOf(slot);
+			}
+		}
+		return slot;
+	}
+
+	private int slotOf(T element) {
+		int slot = head;
+		while(slot != NIL && !matches(slot, element)) {
+			slot = nextOf(slot);
+		}
+		return slot;
+	}
+
+	@Override
+	public void addToFront(T element) {
+		linkNew(element, head);
+	}
+
+	@Override
+	public void addToRear(T element) {
+		linkNew(element, NIL);
+	}
+
+	@Override
+	public void add(T element) {
+		linkNew(element, NIL);
+	}
+
+	@Override
+	public void addAfter(T element, T target) {
+		int slot = slotOf(target);
+		if(slot == NIL) throw new NoSuchElementException();
+		linkNew(element, nextOf(slot));
+	}
+
+	@Override
+	public void add(int index, T element) {
+		if(index < 0 || index > size) throw new IndexOutOfBoundsException();
+		linkNew(element, (index == size) ? NIL : slotAt(index));
+	}
+
+	@Override
+	public T removeFirst() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return unlink(head);
+	}
+
+	@Override
+	public T removeLast() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return unlink(tail);
+	}
+
+	@Override
+	public T remove(T element) {
+		int slot = slotOf(element);
+		if(slot == NIL) throw new NoSuchElementException();
+		return unlink(slot);
+	}
+
+	@Override
+	public T remove(int index) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		return unlink(slotAt(index));
+	}
+
+	@Override
+	public void set(int index, T element) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		setElement(slotAt(index), element);
+		modCount++;
+	}
+
+	@Override
+	public T get(int index) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		return elementAt(slotAt(index));
+	}
+
+	@Override
+	public int indexOf(T element) {
+		int index = 0;
+		for(int slot = head; slot != NIL; slot = nextOf(slot)) {
+			if(matches(slot, element)) return index;
+			index++;
+		}
+		return NOT_FOUND;
+	}
+
+	@Override
+	public T first() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return elementAt(head);
+	}
+
+	@Override
+	public T last() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return elementAt(tail);
+	}
+
+	@Override
+	public boolean contains(T target) {
+		return slotOf(target) != NIL;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of off-heap bytes reserved by the list, including slack in the last page.
+	 *
+	 * @return the total size of all pages in bytes
+	 */
+	public long offHeapBytes() {
+		return (long) pageCount * PAGE_SLOTS * slotWidth;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder str = new StringBuilder();
+		str.append("[");
+		for(int slot = head; slot != NIL; slot = nextOf(slot)) {
+			str.append(elementAt(slot));
+			str.append(", ");
+		}
+		if(size > 0) {
+			str.delete(str.length()-2, str.length());
+		}
+		str.append("]");
+		return str.toString();
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new OffHeapListIterator(0);
+	}
+
+	@Override
+	public ListIterator<T> listIterator() {
+		return new OffHeapListIterator(0);
+	}
+
+	@Override
+	public ListIterator<T> listIterator(int startingIndex) {
+		return new OffHeapListIterator(startingIndex);
+	}
+
+	/** Fail-fast ListIterator for IUOffHeapLinkedList */
+	private class OffHeapListIterator implements ListIterator<T> {
+		private int nextSlot;
+		private int previousSlot;
+		private int lastSlot; // slot last returned by next or previous, or NIL
+		private int index;
+		private int iterModCount;
+
+		/**
+		 * Creates a new iterator positioned before the starting index.
+		 *
+		 * @param the index next() will return first
+		 * @throws IndexOutOfBoundsException if startingIndex < 0 || startingIndex > size
+		 */
+		public OffHeapListIterator(int startingIndex) {
+			if(startingIndex < 0 || startingIndex > size) throw new IndexOutOfBoundsException();
+			nextSlot = (startingIndex == size) ? NIL : slotAt(startingIndex);
+			previousSlot = (nextSlot == NIL) ? tail : previousOf(nextSlot);
+			lastSlot = NIL;
+			index = startingIndex;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return nextSlot != NIL;
+		}
+
+		@Override
+		public T next() {
+			if(!hasNext()) throw new NoSuchElementException();
+			lastSlot = previousSlot = nextSlot;
+			nextSlot = nextOf(nextSlot);
+			index++;
+			return elementAt(lastSlot);
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return previousSlot != NIL;
+		}
+
+		@Override
+		public T previous() {
+			if(!hasPrevious()) throw new NoSuchElementException();
+			lastSlot = nextSlot = previousSlot;
+			previousSlot = previousOf(previousSlot);
+			index--;
+			return elementAt(lastSlot);
+		}
+
+		@Override
+		public int nextIndex() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return index;
+		}
+
+		@Override
+		public int previousIndex() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return index - 1;
+		}
+
+		@Override
+		public void remove() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			if(lastSlot == NIL) throw new IllegalStateException();
+
+			if(lastSlot == previousSlot) { // last move was forward
+				previousSlot = previousOf(lastSlot);
+				index--;
+			} else {
+				nextSlot = nextOf(lastSlot);
+			}
+			unlink(lastSlot);
+			lastSlot = NIL;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void set(T e) {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			if(lastSlot == NIL) throw new IllegalStateException();
+			setElement(lastSlot, e);
+			modCount++;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void add(T e) {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			previousSlot = linkNew(e, nextSlot);
+			index++;
+			lastSlot = NIL;
+			iterModCount = modCount;
+		}
+	}
+}
@@ -0,0 +1,515 @@
+package iulist;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * IndexedUnsortedList backed by a persistent (immutable) AVL tree ordered
+ * by position. Each tree node records the size of its subtree, so get, set,
+ * add and remove by index take O(log n). A change never modifies a tree
+ * node: it copies the O(log n) nodes on the path to the change and shares
+ * every other node with the previous version.
+ *
+ * Because of that, snapshot() is O(1): it hands out another list sharing
+ * the current tree, and later changes to either list never show up in the
+ * other. A reader thread can be given a snapshot and iterate it without
+ * ever seeing a ConcurrentModificationException. The with... methods
+ * return a changed version and leave this list as it was.
+ *
+ * The list object itself is not thread-safe; share snapshots, not the list.
+ *
+ * @author Preston Hardy
+ *
+ * @param <T> type to store
+ */
+public class IUPersistentList<T> implements IndexedUnsortedList<T>, OptimisticReadSafe {
+
+	/** Immutable tree node; the in-order walk of a tree is the list */
+	private static class PersistentNode<T> {
+		private final T element;
+		private final PersistentNode<T> left, right;
+		private final int size;   // nodes in this subtree
+		private final int height; // of this subtree; a leaf has height 1
+
+		private PersistentNode(T element, PersistentNode<T> left, PersistentNode<T> right) {
+			this.element = element;
+			this.left = left;
+			this.right = right;
+			size = size(left) + size(right) + 1;
+			height = Math.max(height(left), height(right)) + 1;
+		}
+	}
+
+	private static final int NOT_FOUND = -1;
+
+	private PersistentNode<T> root;
+	private int modCount;
+
+	/** Creates an empty list */
+	public IUPersistentList() {
+		this(null);
+	}
+
+	private IUPersistentList(PersistentNode<T> root) {
+		this.root = root;
+		modCount = 0;
+	}
+
+	private static int size(PersistentNode<?> node) {
+		return (node == null) ? 0 : node.size;
+	}
+
+	private static int height(PersistentNode<?> node) {
+		return (node == null) ? 0 : node.height;
+	}
+
+	/**
+	 * Builds a node from an element and two subtrees whose heights differ
+	 * by at most two, rotating to bring them back within one.
+	 */
+	private static <T> PersistentNode<T> balance(T element, PersistentNode<T> left, PersistentNode<T> right) {
+		if(height(left) > height(right) + 1) {
+			if(height(left.left) >= height(left.right)) {
+				return new PersistentNode<T>(left.element, left.left,
+						new PersistentNode<T>(element, left.right, right));
+			}
+			return new PersistentNode<T>(left.right.element,
+					new PersistentNode<T>(left.element, left.left, left.right.left),
+					new PersistentNode<T>(element, left.right.right, right));
+		}
+		if(height(right) > height(left) + 1) {
+			if(height(right.right) >= height(right.left)) {
+				return new PersistentNode<T>(right.element,
+						new PersistentNode<T>(element, left, right.left), right.right);
+			}
+			return new PersistentNode<T>(right.left.element,
+					new PersistentNode<T>(element, left, right.left.left),
+					new PersistentNode<T>(right.element, right.left.right, right.right));
+		}
+		return new PersistentNode<T>(element, left, right);
+	}
+
+	private static <T> PersistentNode<T> nodeAt(PersistentNode<T> node, int index) {
+		while(true) {
+			int leftSize = size(node.left);
+			if(index < leftSize) {
+				node = node.left;
+			} else if(index > leftSize) {
+				index -= leftSize + 1;
+				node = node.right;
+			} else {
+				return node;
+			}
+		}
+	}
+
+	private static <T> PersistentNode<T> insert(PersistentNode<T> node, int index, T element) {
+		if(node == null) return new PersistentNode<T>(element, null, null);
+		int leftSize = size(node.left);
+		if(index <= leftSize) {
+			return balance(node.element, insert(node.left, index, element), node.right);
+		}
+		return balance(node.element, node.left, insert(node.right, index - leftSize - 1, element));
+	}
+
+	private static <T> PersistentNode<T> delete(PersistentNode<T> node, int index) {
+		int leftSize = size(node.left);
+		if(index < leftSize) {
+			return balance(node.element, delete(node.left, index), node.right);
+		}
+		if(index > leftSize) {
+			return balance(node.element, node.left, delete(node.right, index - leftSize - 1));
+		}
+		if(node.left == null) return node.right;
+		if(node.right == null) return node.left;
+		return balance(nodeAt(node.right, 0).element, node.left, delete(node.right, 0));
+	}
+
+	private static <T> PersistentNode<T> replace(PersistentNode<T> node, int index, T element) {
+		int leftSize = size(node.left);
+		if(index < leftSize) {
+			return new PersistentNode<T>(node.element, replace(node.left, index, element), node.right);
+		}
+		if(index > leftSize) {
+			return new PersistentNode<T>(node.element, node.left, replace(node.right, index - leftSize - 1, element));
+		}
+		return new PersistentNode<T>(element, node.left, node.right);
+	}
+
+	/**
+	 * Returns a list holding this list's current elements in O(1).
+	 * Neither list sees changes later made to the other.
+	 *
+	 * @return an independent list sharing this list's tree
+	 */
+	public IUPersistentList<T> snapshot() {
+		return new IUPersistentList<T>(root);
+	}
+
+	/**
+	 * Returns a new version with an element added at the front, leaving this list unchanged.
+	 *
+	 * @param element - the element to add
+	 * @return the new version
+	 */
+	public IUPersistentList<T> withFront(T element) {
+		return new IUPersistentList<T>(insert(root, 0, element));
+	}
+
+	/**
+	 * Returns a new version with an element added at the rear, leaving this list unchanged.
+	 *
+	 * @param element - the element to add
+	 * @return the new version
+	 */
+	public IUPersistentList<T> withRear(T element) {
+		return new IUPersistentList<T>(insert(root, size(root), element));
+	}
+
+	/**
+	 * Returns a new version with an element inserted, leaving this list unchanged.
+	 *
+	 * @param index - the index to insert at
+	 * @param element - the element to insert
+	 * @return the new version
+	 * @throws IndexOutOfBoundsException if index < 0 || index > size
+	 */
+	public IUPersistentList<T> withAdded(int index, T element) {
+		if(index < 0 || index > size(root)) throw new IndexOutOfBoundsException();
+		return new IUPersistentList<T>(insert(root, index, element));
+	}
+
+	/**
+	 * Returns a new version with an element replaced, leaving this list unchanged.
+	 *
+	 * @param index - the index of the element to replace
+	 * @param element - the replacement
+	 * @return the new version
+	 * @throws IndexOutOfBoundsException if index < 0 || index >= size
+	 */
+	public IUPersistentList<T> withSet(int index, T element) {
+		if(index < 0 || index >= size(root)) throw new IndexOutOfBoundsException();
+		return new IUPersistentList<T>(replace(root, index, element));
+	}
+
+	/**
+	 * Returns a new version with an element removed, leaving this list unchanged.
+	 *
+	 * @param index - the index of the element to remove
+	 * @return the new version
+	 * @throws IndexOutOfBoundsException if index < 0 || index >= size
+	 */
+	public IUPersistentList<T> withRemoved(int index) {
+		if(index < 0 || index >= size(root)) throw new IndexOutOfBoundsException();
+		return new IUPersistentList<T>(delete(root, index));
+	}
+
+	@Override
+	public void addToFront(T element) {
+		add(0, element);
+	}
+
+	@Override
+	public void addToRear(T element) {
+		add(size(root), element);
+	}
+
+	@Override
+	public void add(T element) {
+		add(size(root), element);
+	}
+
+	@Override
+	public void addAfter(T element, T target) {
+		int index = indexOf(target);
+		if(index == NOT_FOUND) throw new NoSuchElementException();
+		add(index + 1, element);
+	}
+
+	@Override
+	public void add(int index, T element) {
+		if(index < 0 || index > size(root)) throw new IndexOutOfBoundsException();
+		root = insert(root, index, element);
+		modCount++;
+	}
+
+	@Override
+	public T removeFirst() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return remove(0);
+	}
+
+	@Override
+	public T removeLast() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return remove(size(root) - 1);
+	}
+
+	@Override
+	public T remove(T element) {
+		int index = indexOf(element);
+		if(index == NOT_FOUND) throw new NoSuchElementException();
+		return remove(index);
+	}
+
+	@Override
+	public T remove(int index) {
+		if(index < 0 || index >= size(root)) throw new IndexOutOfBoundsException();
+		T returnVal = nodeAt(root, index).element;
+		root = delete(root, index);
+		modCount++;
+		return returnVal;
+	}
+
+	@Override
+	public void set(int index, T element) {
+		if(index < 0 || index >= size(root)) throw new IndexOutOfBoundsException();
+		root = replace(root, index, element);
+		modCount++;
+	}
+
+	@Override
+	public T get(int index) {
+		if(index < 0 || index >= size(root)) throw new IndexOutOfBoundsException();
+		return nodeAt(root, index).element;
+	}
+
+	@Override
+	public int indexOf(T element) {
+		return indexOf(root, element, 0);
+	}
+
+	/**
+	 * In-order search of a subtree.
+	 *
+	 * @param offset - the list index of the subtree's first element
+	 * @return the index of the first match, or NOT_FOUND
+	 */
+	private static <T> int indexOf(PersistentNode<T> node, T element, int offset) {
+		while(node != null) {
+			int found = indexOf(node.left, element, offset);
+			if(found != NOT_FOUND) return found;
+			offset += size(node.left);
+			if(Objects.equals(node.element, element)) return offset;
+			offset++;
+			node = node.right;
+		}
+		return NOT_FOUND;
+	}
+
+	@Override
+	public T first() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return nodeAt(root, 0).element;
+	}
+
+	@Override
+	public T last() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return nodeAt(root, size(root) - 1).element;
+	}
+
+	@Override
+	public boolean contains(T target) {
+		return indexOf(target) != NOT_FOUND;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return root == null;
+	}
+
+	@Override
+	public int size() {
+		return size(root);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder str = new StringBuilder();
+		str.append("[");
+		for(T element : this) {
+			str.append(element);
+			str.append(", ");
+		}
+		if(!isEmpty()) {
+			str.delete(str.length()-2, str.length());
+		}
+		str.append("]");
+		return str.toString();
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new PersistentListIterator(0);
+	}
+
+	@Override
+	public ListIterator<T> listIterator() {
+		return new PersistentListIterator(0);
+	}
+
+	@Override
+	public ListIterator<T> listIterator(int startingIndex) {
+		return new PersistentListIterator(startingIndex);
+	}
+
+	/**
+	 * Fail-fast ListIterator for IUPersistentList. It keeps the path from the
+	 * root down to the node of the next element, so stepping to a neighbor
+	 * is amortized O(1) and a full scan is O(n); only the starting position,
+	 * and the position after a change made through the iterator, take an
+	 * O(log n) descent. Iterate a snapshot() to avoid failing.
+	 */
+	private class PersistentListIterator implements ListIterator<T> {
+		// the root down to the node of the element at index; empty when index == size
+		private final ArrayDeque<PersistentNode<T>> path;
+		private int index;
+		private int lastIndex; // index of the element last returned, or NOT_FOUND
+		private int iterModCount;
+
+		/**
+		 * Creates a new iterator positioned before the starting index.
+		 *
+		 * @param startingIndex - the index next() will return first
+		 * @throws IndexOutOfBoundsException if startingIndex < 0 || startingIndex > size
+		 */
+		public PersistentListIterator(int startingIndex) {
+			if(startingIndex < 0 || startingIndex > size(root)) throw new IndexOutOfBoundsException();
+			path = new ArrayDeque<PersistentNode<T>>();
+			index = startingIndex;
+			lastIndex = NOT_FOUND;
+			iterModCount = modCount;
+			seek();
+		}
+
+		/** Rebuilds the path to the element at index with one descent from the root */
+		private void seek() {
+			path.clear();
+			if(index == size(root)) return;
+			PersistentNode<T> node = root;
+			int offset = index;
+			while(true) {
+				path.push(node);
+				int leftSize = size(node.left);
+				if(offset < leftSize) {
+					node = node.left;
+				} else if(offset > leftSize) {
+					offset -= leftSize + 1;
+					node = node.right;
+				} else {
+					return;
+				}
+			}
+		}
+
+		/** Moves the path to the in-order successor, leaving it empty after the last node */
+		private void stepForward() {
+			PersistentNode<T> node = path.peek();
+			if(node.right != null) {
+				for(node = node.right; node != null; node = node.left) path.push(node);
+				return;
+			}
+			PersistentNode<T> child = path.pop();
+			while(!path.isEmpty() && path.peek().right == child) {
+				child = path.pop();
+			}
+		}
+
+		/** Moves the path to the in-order predecessor; the path must not be at the first node */
+		private void stepBack() {
+			if(path.isEmpty()) { // past the end: descend to the last node
+				for(PersistentNode<T> node = root; node != null; node = node.right) path.push(node);
+				return;
+			}
+			PersistentNode<T> node = path.peek();
+			if(node.left != null) {
+				for(node = node.left; node != null; node = node.right) path.push(node);
+				return;
+			}
+			PersistentNode<T> child = path.pop();
+			while(path.peek().left == child) {
+				child = path.pop();
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return index < size(root);
+		}
+
+		@Override
+		public T next() {
+			if(!hasNext()) throw new NoSuchElementException();
+			T returnVal = path.peek().element;
+			stepForward();
+			lastIndex = index++;
+			return returnVal;
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return index > 0;
+		}
+
+		@Override
+		public T previous() {
+			if(!hasPrevious()) throw new NoSuchElementException();
+			stepBack();
+			lastIndex = --index;
+			return path.peek().element;
+		}
+
+		@Override
+		public int nextIndex() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return index;
+		}
+
+		@Override
+		public int previousIndex() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return index - 1;
+		}
+
+		@Override
+		public void remove() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			if(lastIndex == NOT_FOUND) throw new IllegalStateException();
+
+			IUPersistentList.this.remove(lastIndex);
+			if(lastIndex < index) {
+				index--; // last move was next()
+			}
+			lastIndex = NOT_FOUND;
+			iterModCount = modCount;
+			seek();
+		}
+
+		@Override
+		public void set(T e) {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			if(lastIndex == NOT_FOUND) throw new IllegalStateException();
+
+			IUPersistentList.this.set(lastIndex, e);
+			iterModCount = modCount;
+			seek();
+		}
+
+		@Override
+		public void add(T e) {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+
+			IUPersistentList.this.add(index++, e);
+			lastIndex = NOT_FOUND;
+			iterModCount = modCount;
+			seek();
+		}
+	}
+}
@@ -0,0 +1,734 @@
+package iulist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Single-linked node implementation of IndexedUnsortedList.
+ * An Iterator with working remove() method is implemented, and a
+ * ListIterator. Nodes have no previous link, so the ListIterator's first
+ * previous() walks from the head, recording the Nodes it passes; later
+ * steps back are O(1) amortized, at the cost of that record.
+ * 
+ * @author Preston Hardy
+ * 
+ * @param <T> type to store
+ */
+public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
+	private Node<T> head, tail;
+	private int size;
+	private int modCount;
+	private Node<T> previous; // used to fix iterator tests
+	
+	/** Creates an empty list */
+	public IUSingleLinkedList() {
+		head = tail = null;
+		previous = null;
+		size = 0;
+		modCount = 0;
+	}
+
+	@Override
+	public void addToFront(T element) {
+		Node<T> newNode = new Node<T>(element);
+		
+		newNode.setNext(head);
+		
+		head = newNode;
+		
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public void addToRear(T element) {
+		add(size, element); 
+	}
+
+	@Override
+	public void add(T element) {
+		addToRear(element);
+	}
+
+	@Override
+	public void addAfter(T element, T target) {
+		Node<T> currentNode = head;
+		Node<T> previousNode = null;
+		boolean found = false;
+		
+		if(isEmpty()) throw new NoSuchElementException();
+		
+		while(currentNode != null && !found) {
+			if (currentNode.getElement().equals(target)) {
+				found = true;
+			} else {
+				previousNode = currentNode;
+				currentNode = currentNode.getNext();
+			}
+		}
+		
+		if(!found) throw new NoSuchElementException();
+		
+		Node<T> newNode = new Node<T>(element);
+		newNode.setNext(currentNode.getNext());
+		currentNode.setNext(newNode);
+		if(currentNode == tail) tail = newNode;
+		
+		size++;
+		modCount++;
+		
+	}
+
+	@Override
+	public void add(int index, T element) {
+		
+		Node<T> currentNode = head;
+		Node<T> previousNode = null;
+		int currentIndex = 0;
+		
+		boolean found = false;
+		
+		if(index < 0 || index > size) throw new IndexOutOfBoundsException();
+		
+		while(currentNode != null && !found) {
+			if(currentIndex >= index) {
+				found = true;
+			}
+			else {
+				previousNode = currentNode;
+				currentNode = currentNode.getNext();
+				currentIndex++;
+			}
+		}
+		
+
+		Node<T> newNode = new Node<T>(element);
+		
+		if(isEmpty()) head = tail = newNode;
+		
+		else {
+			
+			if(previousNode != null) previousNode.setNext(newNode);
+			else head = newNode;
+			newNode.setNext(currentNode);
+			if(newNode.getNext() == null) tail = newNode;
+			
+		}
+		
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public T removeFirst() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return remove(0);
+	}
+
+	@Override
+	public T removeLast() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return remove(size-1);
+	}
+
+	@Override
+	public T remove(T element) {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		
+		boolean found = false;
+		Node<T> previousNode = null;
+		Node<T> currentNode = head;
+		
+		while (currentNode != null && !found) {
+			if (element.equals(currentNode.getElement())) {
+				found = true;
+			} else {
+				previousNode = currentNode;
+				currentNode = currentNode.getNext();
+			}
+		}
+		
+		if (!found) {
+			throw new NoSuchElementException();
+		}
+		
+		if (size() == 1) { //only node
+			head = tail = null;
+		} else if (currentNode == head) { //first node
+			head = currentNode.getNext();
+		} else if (currentNode == tail) { //last node
+			tail = previousNode;
+			tail.setNext(null);
+		} else { //somewhere in the middle
+			previousNode.setNext(currentNode.getNext());
+		}
+		
+		size--;
+		modCount++;
+		
+		return currentNode.getElement();
+	}
+
+	@Override
+	public T remove(int index) {
+		T returnVal;
+		
+		Node<T> currentNode = head;
+		Node<T> previousNode = null;
+		int currentIndex = 0;
+		
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		
+		while(currentNode != null && currentIndex < index) {
+			previousNode = currentNode;
+			currentNode = currentNode.getNext();
+			currentIndex++;
+		}
+		
+		if(currentNode == null) throw new NoSuchElementException();
+		
+		returnVal = currentNode.getElement();
+		
+		if (size() == 1) { //only node
+			head = tail = null;
+		} else if (currentNode == head) { //first node
+			head = currentNode.getNext();
+		} else if (currentNode == tail) { //last node
+			tail = previousNode;
+			tail.setNext(null);
+		} else { //somewhere in the middle
+			previousNode.setNext(currentNode.getNext());
+		}
+		
+		size--;
+		modCount++;
+		return returnVal;
+	}
+
+	@Override
+	public void set(int index, T element) {
+		Node<T> currentNode = head;
+		int currentIndex = 0;
+		
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		
+		while(currentNode != null && currentIndex < index) {
+			currentNode = currentNode.getNext();
+			currentIndex++;
+		}
+		
+		currentNode.setElement(element);
+		modCount++;
+	}
+
+	@Override
+	public T get(int index) {
+		Node<T> currentNode = head;
+		int currentIndex = 0;
+		
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		
+		while(currentNode != null && currentIndex < index) {
+			currentNode = currentNode.getNext();
+			currentIndex++;
+		}
+		
+		return currentNode.getElement();
+	}
+
+	/**
+	 * Gets the elements at several indexes in a single walk from the head,
+	 * visiting the indexes in ascending order.
+	 */
+	@Override
+	public List<T> get(int[] indexes) {
+		long[] entries = IndexBatch.sorted(indexes, size, true);
+		List<T> elements = new ArrayList<T>(Collections.<T>nCopies(indexes.length, null));
+		
+		Node<T> currentNode = head;
+		int currentIndex = 0;
+		for(long entry : entries) {
+			while(currentIndex < IndexBatch.index(entry)) {
+				currentNode = currentNode.getNext();
+				currentIndex++;
+			}
+			elements.set(IndexBatch.position(entry), currentNode.getElement());
+		}
+		return elements;
+	}
+	
+	/**
+	 * Sets the elements at several indexes in a single walk from the head.
+	 * Repeated indexes are visited in the caller's order, so the last of their
+	 * elements is kept.
+	 */
+	@Override
+	public void set(int[] indexes, T[] elements) {
+		if(indexes.length != elements.length) throw new IllegalArgumentException();
+		long[] entries = IndexBatch.sorted(indexes, size, true);
+		
+		Node<T> currentNode = head;
+		int currentIndex = 0;
+		for(long entry : entries) {
+			while(currentIndex < IndexBatch.index(entry)) {
+				currentNode = currentNode.getNext();
+				currentIndex++;
+			}
+			currentNode.setElement(elements[IndexBatch.position(entry)]);
+		}
+		modCount++;
+	}
+	
+	/**
+	 * Removes the elements at several indexes in a single walk from the head,
+	 * unlinking each Node as it is reached. currentIndex keeps counting the
+	 * original positions, which is what the indexes refer to.
+	 */
+	@Override
+	public List<T> remove(int[] indexes) {
+		long[] entries = IndexBatch.sorted(indexes, size, false);
+		List<T> removed = new ArrayList<T>(Collections.<T>nCopies(indexes.length, null));
+		
+		Node<T> previousNode = null;
+		Node<T> currentNode = head;
+		int currentIndex = 0;
+		for(long entry : entries) {
+			while(currentIndex < IndexBatch.index(entry)) {
+				previousNode = currentNode;
+				currentNode = currentNode.getNext();
+				currentIndex++;
+			}
+			removed.set(IndexBatch.position(entry), currentNode.getElement());
+			
+			Node<T> nextNode = currentNode.getNext();
+			if(previousNode == null) head = nextNode;
+			else previousNode.setNext(nextNode);
+			if(currentNode == tail) tail = previousNode;
+			
+			currentNode = nextNode;
+			currentIndex++;
+			size--;
+		}
+		modCount++;
+		return removed;
+	}
+
+	@Override
+	public int indexOf(T element) {
+		int index = 0;
+		
+		if(isEmpty()) return -1;
+		
+		Node<T> currentNode = head;
+		while (currentNode != null && !currentNode.getElement().equals(element)) {
+			currentNode = currentNode.getNext();
+			index++;
+		}
+		
+		if (currentNode == null) return -1;
+		
+		return index;
+	}
+
+	@Override
+	public T first() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return get(0);
+	}
+
+	@Override
+	public T last() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return get(size-1);
+	}
+
+	@Override
+	public boolean contains(T target) {
+		Node<T> currentNode = head;
+		
+		while(currentNode != null) {
+			if(currentNode.getElement().equals(target)) return true;
+			else {
+				currentNode = currentNode.getNext();
+			}
+		}
+		
+		return false;
+	}
+
+	/**
+	 * Walks the Nodes once, checking each element against a hash set of the targets.
+	 */
+	@Override
+	public int indexOfAny(Iterable<? extends T> targets) {
+		HashSet<T> wanted = new HashSet<T>();
+		targets.forEach(wanted::add);
+		
+		int index = 0;
+		for(Node<T> currentNode = head; currentNode != null; currentNode = currentNode.getNext()) {
+			if(wanted.contains(currentNode.getElement())) return index;
+			index++;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Walks the Nodes once, crossing found elements off a hash set of the
+	 * targets, and stops when none are left.
+	 */
+	@Override
+	public boolean containsAll(Iterable<? extends T> targets) {
+		HashSet<T> missing = new HashSet<T>();
+		targets.forEach(missing::add);
+		
+		Node<T> currentNode = head;
+		while(currentNode != null && !missing.isEmpty()) {
+			missing.remove(currentNode.getElement());
+			currentNode = currentNode.getNext();
+		}
+		return missing.isEmpty();
+	}
+
+	@Override
+	public boolean isEmpty() { 
+		return size == 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		Node<T> currentNode = head;
+		StringBuilder str = new StringBuilder();
+		str.append("[");
+		for (int i = 0; i < size; i++) {
+			str.append(currentNode.getElement());
+			str.append(", ");
+			currentNode = currentNode.getNext();
+		}
+		if (size > 0) {
+			str.delete(str.length()-2, str.length());
+		}
+		str.append("]");
+		return str.toString();
+	}
+	
+	/**
+	 * Sorts a list of Integers in O(n) time with an LSD radix sort instead of
+	 * comparing boxed values. Each pass deals the Nodes onto one chain per byte
+	 * value and joins the chains, so the Nodes are relinked rather than copied.
+	 * The list is unchanged if an element is not an Integer.
+	 * 
+	 * @throws ClassCastException if an element is not an Integer
+	 * @throws NullPointerException if an element is null
+	 */
+	public void sortInts() {
+		if(size < 2) return;
+		
+		head = RadixSort.sort(head);
+		Node<T> last = head;
+		while(last.getNext() != null) {
+			last = last.getNext();
+		}
+		tail = last;
+		modCount++;
+	}
+	
+	/**
+	 * Relinks the surviving Nodes in a single pass. Removed Nodes are only
+	 * bypassed once the next survivor is found, so the list stays consistent
+	 * if the filter throws part way through.
+	 */
+	@Override
+	public boolean removeIf(Predicate<? super T> filter) {
+		if(filter == null) throw new NullPointerException();
+		
+		int expectedModCount = modCount;
+		Node<T> lastKept = null;
+		Node<T> currentNode = head;
+		int skipped = 0; // matching Nodes since lastKept, still linked
+		boolean removed = false;
+		
+		while(currentNode != null) {
+			boolean matches = filter.test(currentNode.getElement());
+			if(modCount != expectedModCount) throw new ConcurrentModificationException();
+			
+			if(matches) {
+				skipped++;
+			} else {
+				if(skipped > 0) {
+					if(lastKept == null) head = currentNode;
+					else lastKept.setNext(currentNode);
+					size -= skipped;
+					skipped = 0;
+					removed = true;
+					modCount++;
+					expectedModCount = modCount;
+				}
+				lastKept = currentNode;
+			}
+			currentNode = currentNode.getNext();
+		}
+		
+		if(skipped > 0) {
+			if(lastKept == null) head = null;
+			else lastKept.setNext(null);
+			tail = lastKept;
+			size -= skipped;
+			removed = true;
+			modCount++;
+		}
+		return removed;
+	}
+	
+	@Override
+	public Iterator<T> iterator() {
+		return new SLLIterator();
+	}
+
+	@Override
+	public ListIterator<T> listIterator() {
+		return new SLLListIterator(0);
+	}
+
+	@Override
+	public ListIterator<T> listIterator(int startingIndex) {
+		return new SLLListIterator(startingIndex);
+	}
+
+	/** Iterator for IUSingleLinkedList */
+	private class SLLIterator implements Iterator<T> {
+		private Node<T> nextNode;
+		private int iterModCount;
+		private boolean nextCalled;
+		private Node<T> currentNode;
+		private Node<T> previousNode;
+		
+		/** Creates a new iterator for the list */
+		public SLLIterator() {
+			nextNode = head;
+			currentNode = null;
+			previousNode = null;
+			nextCalled = false;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			return nextNode != null;
+		}
+
+		@Override
+		public T next() {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			if(!hasNext()) throw new NoSuchElementException();
+			
+			nextCalled = true;
+			
+			previousNode = currentNode;
+			currentNode = nextNode;
+			nextNode = nextNode.getNext();
+
+			return currentNode.getElement();
+		}
+		
+		@Override
+		public void remove() {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			if(!nextCalled) throw new IllegalStateException();
+			
+			if(previousNode == null) head = nextNode;
+			else previousNode.setNext(nextNode);
+			if(currentNode == tail) tail = previousNode;
+			currentNode = previousNode; // the next call to next() must see it as the previous Node
+			
+			size--;
+			nextCalled = false;
+			iterModCount++;
+			modCount++;
+			
+		}
+	}
+	
+	/**
+	 * ListIterator for IUSingleLinkedList. It keeps the Node before the cursor
+	 * so that add() and remove() relink in O(1). previous() needs the Node two
+	 * before the cursor, which it takes from a trail of the Nodes from the
+	 * head on; the trail is filled in by walking forward only as far as needed,
+	 * so a full backward scan is O(n) time and O(n) extra memory.
+	 */
+	private class SLLListIterator implements ListIterator<T> {
+		private Node<T> nextNode;     // Node at index, or null at the end
+		private Node<T> previousNode; // Node at index - 1, or null at the start
+		private int index;
+		private Node<T> lastNode;     // Node last returned, or null
+		private Node<T> beforeLast;   // Node before lastNode, or null if lastNode is the head
+		private ArrayList<Node<T>> trail; // Nodes at indexes 0 to trail.size() - 1, or null before any previous()
+		private int iterModCount;
+		
+		/**
+		 * Creates a new iterator positioned before the starting index.
+		 * 
+		 * @param the index next() will return first
+		 * @throws IndexOutOfBoundsException if the index is not within the list's constraints
+		 */
+		public SLLListIterator(int startingIndex) {
+			if(startingIndex < 0 || startingIndex > size) throw new IndexOutOfBoundsException();
+			index = startingIndex;
+			previousNode = nodeBefore(startingIndex);
+			nextNode = (previousNode == null) ? head : previousNode.getNext();
+			lastNode = beforeLast = null;
+			trail = null;
+			iterModCount = modCount;
+		}
+		
+		/**
+		 * Walks from the head to the Node before an index.
+		 * 
+		 * @param an index from 0 to size
+		 * @return the Node at index - 1, or null for index 0
+		 */
+		private Node<T> nodeBefore(int index) {
+			Node<T> currentNode = null;
+			for(int i = 0; i < index; i++) {
+				currentNode = (currentNode == null) ? head : currentNode.getNext();
+			}
+			return currentNode;
+		}
+		
+		/**
+		 * Returns the Node at an index, extending the trail up to it if needed.
+		 * 
+		 * @param an index before the cursor
+		 * @return the Node at that index
+		 */
+		private Node<T> trailNode(int index) {
+			if(trail == null) trail = new ArrayList<Node<T>>();
+			while(trail.size() <= index) {
+				trail.add(trail.isEmpty() ? head : trail.get(trail.size() - 1).getNext());
+			}
+			return trail.get(index);
+		}
+		
+		/**
+		 * Drops the trail from an index on, after a change that moved the Nodes there.
+		 * 
+		 * @param the index of the first changed position
+		 */
+		private void cutTrail(int index) {
+			if(trail != null && trail.size() > index) trail.subList(index, trail.size()).clear();
+		}
+
+		@Override
+		public boolean hasNext() {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			return nextNode != null;
+		}
+
+		@Override
+		public T next() {
+			if(!hasNext()) throw new NoSuchElementException();
+			
+			beforeLast = previousNode;
+			lastNode = nextNode;
+			previousNode = nextNode;
+			nextNode = nextNode.getNext();
+			index++;
+			return lastNode.getElement();
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			return previousNode != null;
+		}
+
+		@Override
+		public T previous() {
+			if(!hasPrevious()) throw new NoSuchElementException();
+			
+			index--;
+			nextNode = previousNode;
+			previousNode = (index == 0) ? null : trailNode(index - 1);
+			lastNode = nextNode;
+			beforeLast = previousNode;
+			return lastNode.getElement();
+		}
+
+		@Override
+		public int nextIndex() {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			return index;
+		}
+
+		@Override
+		public int previousIndex() {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			return index - 1;
+		}
+
+		@Override
+		public void remove() {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			if(lastNode == null) throw new IllegalStateException();
+			
+			if(beforeLast == null) head = lastNode.getNext();
+			else beforeLast.setNext(lastNode.getNext());
+			if(lastNode == tail) tail = beforeLast;
+			
+			if(lastNode == previousNode) { // last move was next()
+				previousNode = beforeLast;
+				index--;
+			} else {
+				nextNode = lastNode.getNext();
+			}
+			cutTrail(index);
+			lastNode = beforeLast = null;
+			size--;
+			modCount++;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void set(T e) {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			if(lastNode == null) throw new IllegalStateException();
+			
+			lastNode.setElement(e);
+			modCount++;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void add(T e) {
+			if(modCount != iterModCount) throw new ConcurrentModificationException();
+			
+			Node<T> newNode = new Node<T>(e);
+			newNode.setNext(nextNode);
+			if(previousNode == null) head = newNode;
+			else previousNode.setNext(newNode);
+			if(nextNode == null) tail = newNode;
+			
+			cutTrail(index);
+			previousNode = newNode;
+			index++;
+			lastNode = beforeLast = null;
+			size++;
+			modCount++;
+			iterModCount = modCount;
+		}
+	}
+}
@@ -0,0 +1,287 @@
+package iulist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe wrapper for any IndexedUnsortedList, tuned for workloads that
+ * are mostly reads. Reads (get, indexOf, contains, first, last, isEmpty,
+ * size, toString and the batched and multi-target reads) share the lock,
+ * so they never block each other; mutators take the write lock.
+ *
+ * When the wrapped list is IUArrayList or IUPersistentList, reads first run
+ * with no lock at all under an optimistic StampedLock stamp, and only take
+ * the read lock if a writer got in while they ran. Such a read may see the
+ * list half-way through a change and return garbage or throw; the result or
+ * exception is discarded and the read retried under the read lock.
+ * StampedLock only makes that safe for code that writes nothing and cannot
+ * loop forever over a torn structure, such as a linked chain, a tree or a
+ * HashMap (see OptimisticReadSafe). Every other list, including
+ * IUDoubleLinkedList, whose get(int) records a finger, is always read
+ * under the read lock.
+ *
+ * The wrapped list must not be used directly once wrapped.
+ *
+ * iterator() walks a copy taken under the read lock, so it never throws
+ * ConcurrentModificationException and does not support remove.
+ *
+ * @author Preston Hardy
+ *
+ * @param <T> type to store
+ */
+public class IUStampedList<T> implements IndexedUnsortedList<T> {
+
+	private final IndexedUnsortedList<T> list;
+	private final StampedLock lock;
+	private final boolean optimisticReads; // the list is OptimisticReadSafe
+
+	/**
+	 * Wraps a list.
+	 *
+	 * @param the list to guard; it should not be shared with any other code
+	 */
+	public IUStampedList(IndexedUnsortedList<T> list) {
+		if(list == null) throw new NullPointerException();
+		this.list = list;
+		lock = new StampedLock();
+		optimisticReads = list instanceof OptimisticReadSafe;
+	}
+
+	/**
+	 * Runs a read, optimistically if the wrapped list allows it, retrying it
+	 * under the read lock if a write overlapped it. Exceptions from an
+	 * overlapped attempt are discarded; exceptions from a clean attempt are
+	 * the real result.
+	 *
+	 * @param the read to run against the wrapped list
+	 * @return the reader's result
+	 */
+	private <R> R read(Supplier<R> reader) {
+		long stamp = optimisticReads ? lock.tryOptimisticRead() : 0;
+		if(stamp != 0) {
+			try {
+				R returnVal = reader.get();
+				if(lock.validate(stamp)) return returnVal;
+			} catch(RuntimeException e) {
+				if(lock.validate(stamp)) throw e;
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return reader.get();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	private void write(Runnable writer) {
+		long stamp = lock.writeLock();
+		try {
+			writer.run();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	private <R> R write(Supplier<R> writer) {
+		long stamp = lock.writeLock();
+		try {
+			return writer.get();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void addToFront(T element) {
+		write(() -> list.addToFront(element));
+	}
+
+	@Override
+	public void addToRear(T element) {
+		write(() -> list.addToRear(element));
+	}
+
+	@Override
+	public void add(T element) {
+		write(() -> list.add(element));
+	}
+
+	@Override
+	public void addAfter(T element, T target) {
+		write(() -> list.addAfter(element, target));
+	}
+
+	@Override
+	public void add(int index, T element) {
+		write(() -> list.add(index, element));
+	}
+
+	@Override
+	public T removeFirst() {
+		return write(() -> list.removeFirst());
+	}
+
+	@Override
+	public T removeLast() {
+		return write(() -> list.removeLast());
+	}
+
+	@Override
+	public T remove(T element) {
+		return write(() -> list.remove(element));
+	}
+
+	@Override
+	public T remove(int index) {
+		return write(() -> list.remove(index));
+	}
+
+	@Override
+	public void set(int index, T element) {
+		write(() -> list.set(index, element));
+	}
+
+	@Override
+	public void replaceAll(UnaryOperator<T> operator) {
+		write(() -> list.replaceAll(operator));
+	}
+
+	@Override
+	public void parallelReplaceAll(UnaryOperator<T> operator) {
+		write(() -> list.parallelReplaceAll(operator));
+	}
+
+	@Override
+	public boolean removeIf(Predicate<? super T> filter) {
+		return write(() -> list.removeIf(filter));
+	}
+
+	@Override
+	public void set(int[] indexes, T[] elements) {
+		write(() -> list.set(indexes, elements));
+	}
+
+	@Override
+	public List<T> remove(int[] indexes) {
+		return write(() -> list.remove(indexes));
+	}
+
+	@Override
+	public List<T> get(int[] indexes) {
+		return read(() -> list.get(indexes));
+	}
+
+	@Override
+	public T get(int index) {
+		return read(() -> list.get(index));
+	}
+
+	@Override
+	public int indexOf(T element) {
+		return read(() -> list.indexOf(element));
+	}
+
+	@Override
+	public T first() {
+		return read(() -> list.first());
+	}
+
+	@Override
+	public T last() {
+		return read(() -> list.last());
+	}
+
+	@Override
+	public boolean contains(T target) {
+		return read(() -> list.contains(target));
+	}
+
+	@Override
+	public int indexOfAny(Iterable<? extends T> targets) {
+		return read(() -> list.indexOfAny(targets));
+	}
+
+	@Override
+	public boolean containsAll(Iterable<? extends T> targets) {
+		return read(() -> list.containsAll(targets));
+	}
+
+	@Override
+	public boolean removeAll(Iterable<? extends T> targets) {
+		return write(() -> list.removeAll(targets));
+	}
+
+	@Override
+	public boolean retainAll(Iterable<? extends T> targets) {
+		return write(() -> list.retainAll(targets));
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return read(() -> list.isEmpty());
+	}
+
+	@Override
+	public int size() {
+		return read(() -> list.size());
+	}
+
+	@Override
+	public String toString() {
+		return read(() -> list.toString());
+	}
+
+	/**
+	 * Copies the wrapped list under the read lock.
+	 *
+	 * @return an unmodifiable copy
+	 */
+	private List<T> copy() {
+		long stamp = lock.readLock();
+		try {
+			ArrayList<T> copy = new ArrayList<T>(list.size());
+			for(T element : list) {
+				copy.add(element);
+			}
+			return Collections.unmodifiableList(copy);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Returns an iterator over a copy of the list taken under the read lock.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return copy().iterator();
+	}
+
+	/**
+	 * Returns a Spliterator over a copy of the list taken under the read lock,
+	 * so parallel streams split it by index.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return copy().spliterator();
+	}
+
+	@Override
+	public ListIterator<T> listIterator() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ListIterator<T> listIterator(int startingIndex) {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,502 @@
+package iulist;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Unrolled linked list implementation of IndexedUnsortedList.
+ * Each Chunk holds up to chunkCapacity elements in an array, so there is one
+ * header and two links per chunk instead of per element, and scans such as
+ * indexOf and contains run over contiguous arrays. A full Chunk is split in
+ * half on insert, and a Chunk that drops below half full is merged with the
+ * Chunk after it when they fit together.
+ *
+ * @author Preston Hardy
+ *
+ * @param <T> type to store
+ */
+public class IUUnrolledLinkedList<T> implements IndexedUnsortedList<T> {
+
+	/** A node of the unrolled list holding a run of elements */
+	private static class Chunk<T> {
+		private final Object[] elements;
+		private int count;
+		private Chunk<T> next, previous;
+
+		private Chunk(int capacity) {
+			elements = new Object[capacity];
+			count = 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		private T get(int offset) {
+			return (T) elements[offset];
+		}
+	}
+
+	/** Where an element lives: a Chunk and the offset within it */
+	private static class Position<T> {
+		private final Chunk<T> chunk;
+		private final int offset;
+
+		private Position(Chunk<T> chunk, int offset) {
+			this.chunk = chunk;
+			this.offset = offset;
+		}
+	}
+
+	private static final int NOT_FOUND = -1;
+	private static final int DEFAULT_CHUNK_CAPACITY = 32;
+
+	private Chunk<T> head, tail;
+	private int size;
+	private int modCount;
+	private final int chunkCapacity;
+
+	/** Creates an empty list with the default of 32 elements per chunk */
+	public IUUnrolledLinkedList() {
+		this(DEFAULT_CHUNK_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list with the given number of elements per chunk.
+	 *
+	 * @param chunkCapacity - the most elements a chunk holds, at least 2
+	 * @throws IllegalArgumentException if chunkCapacity is less than 2
+	 */
+	public IUUnrolledLinkedList(int chunkCapacity) {
+		if(chunkCapacity < 2) throw new IllegalArgumentException();
+		this.chunkCapacity = chunkCapacity;
+		head = tail = null;
+		size = 0;
+		modCount = 0;
+	}
+
+	/**
+	 * Finds the Chunk holding an index, walking from the nearer end.
+	 * Bounds must be checked by the caller.
+	 *
+	 * @param index - the index of the element
+	 * @return the Chunk holding it and the element's offset within that Chunk
+	 */
+	private Position<T> chunkAt(int index) {
+		Chunk<T> chunk;
+		if(index < size / 2) {
+			chunk = head;
+			while(index >= chunk.count) {
+				index -= chunk.count;
+				chunk = chunk.next;
+			}
+		} else {
+			chunk = tail;
+			int before = size - chunk.count;
+			while(index < before) {
+				chunk = chunk.previous;
+				before -= chunk.count;
+			}
+			index -= before;
+		}
+		return new Position<T>(chunk, index);
+	}
+
+	/**
+	 * Links a new, empty Chunk between two neighbors.
+	 *
+	 * @param previous - the Chunk before, or null for a new head
+	 * @param next - the Chunk after, or null for a new tail
+	 * @return the new Chunk
+	 */
+	private Chunk<T> linkChunk(Chunk<T> previous, Chunk<T> next) {
+		Chunk<T> chunk = new Chunk<T>(chunkCapacity);
+		chunk.previous = previous;
+		chunk.next = next;
+		if(previous == null) head = chunk;
+		else previous.next = chunk;
+		if(next == null) tail = chunk;
+		else next.previous = chunk;
+		return chunk;
+	}
+
+	/**
+	 * Unlinks an empty Chunk.
+	 *
+	 * @param chunk - the Chunk to unlink
+	 */
+	private void unlinkChunk(Chunk<T> chunk) {
+		if(chunk.previous == null) head = chunk.next;
+		else chunk.previous.next = chunk.next;
+		if(chunk.next == null) tail = chunk.previous;
+		else chunk.next.previous = chunk.previous;
+		chunk.next = chunk.previous = null;
+	}
+
+	/**
+	 * Inserts an element into a Chunk, splitting the Chunk first if it is full.
+	 *
+	 * @param chunk - the Chunk to insert into
+	 * @param offset - the offset to insert at, 0 to chunk.count
+	 * @param element - the element to insert
+	 * @return the Chunk that now holds the element and its offset there
+	 */
+	private Position<T> insertAt(Chunk<T> chunk, int offset, T element) {
+		if(chunk.count == chunkCapacity) {
+			Chunk<T> upper = linkChunk(chunk, chunk.next);
+			int half = chunkCapacity / 2;
+			upper.count = chunk.count - half;
+			System.arraycopy(chunk.elements, half, upper.elements, 0, upper.count);
+			for(int i = half; i < chunk.count; i++) {
+				chunk.elements[i] = null;
+			}
+			chunk.count = half;
+			if(offset > half) {
+				chunk = upper;
+				offset -= half;
+			}
+		}
+		System.arraycopy(chunk.elements, offset, chunk.elements, offset + 1, chunk.count - offset);
+		chunk.elements[offset] = element;
+		chunk.count++;
+		size++;
+		modCount++;
+		return new Position<T>(chunk, offset);
+	}
+
+	/**
+	 * Removes an element from a Chunk. An emptied Chunk is unlinked; a Chunk
+	 * under half full absorbs the next Chunk if both fit in one. Either way the
+	 * element after the removed one ends up at the same Chunk and offset, unless
+	 * the Chunk was unlinked (count is then 0).
+	 *
+	 * @param chunk - the Chunk holding the element
+	 * @param offset - the offset of the element
+	 * @return the removed element
+	 */
+	private T removeAt(Chunk<T> chunk, int offset) {
+		T returnVal = chunk.get(offset);
+		System.arraycopy(chunk.elements, offset + 1, chunk.elements, offset, chunk.count - offset - 1);
+		chunk.elements[--chunk.count] = null;
+
+		if(chunk.count == 0) {
+			unlinkChunk(chunk);
+		} else if(chunk.count < chunkCapacity / 2 && chunk.next != null
+				&& chunk.count + chunk.next.count <= chunkCapacity) {
+			Chunk<T> absorbed = chunk.next;
+			System.arraycopy(absorbed.elements, 0, chunk.elements, chunk.count, absorbed.count);
+			chunk.count += absorbed.count;
+			absorbed.count = 0;
+			unlinkChunk(absorbed);
+		}
+
+		size--;
+		modCount++;
+		return returnVal;
+	}
+
+	@Override
+	public void addToFront(T element) {
+		if(head == null || head.count == chunkCapacity) {
+			linkChunk(null, head);
+		}
+		insertAt(head, 0, element);
+	}
+
+	@Override
+	public void addToRear(T element) {
+		if(tail == null || tail.count == chunkCapacity) {
+			linkChunk(tail, null);
+		}
+		insertAt(tail, tail.count, element);
+	}
+
+	@Override
+	public void add(T element) {
+		addToRear(element);
+	}
+
+	@Override
+	public void addAfter(T element, T target) {
+		for(Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+			for(int i = 0; i < chunk.count; i++) {
+				if(Objects.equals(chunk.get(i), target)) {
+					insertAt(chunk, i + 1, element);
+					return;
+				}
+			}
+		}
+		throw new NoSuchElementException();
+	}
+
+	@Override
+	public void add(int index, T element) {
+		if(index < 0 || index > size) throw new IndexOutOfBoundsException();
+		if(index == size) {
+			addToRear(element);
+		} else {
+			Position<T> position = chunkAt(index);
+			insertAt(position.chunk, position.offset, element);
+		}
+	}
+
+	@Override
+	public T removeFirst() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return removeAt(head, 0);
+	}
+
+	@Override
+	public T removeLast() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return removeAt(tail, tail.count - 1);
+	}
+
+	@Override
+	public T remove(T element) {
+		for(Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+			for(int i = 0; i < chunk.count; i++) {
+				if(Objects.equals(chunk.get(i), element)) {
+					return removeAt(chunk, i);
+				}
+			}
+		}
+		throw new NoSuchElementException();
+	}
+
+	@Override
+	public T remove(int index) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		Position<T> position = chunkAt(index);
+		return removeAt(position.chunk, position.offset);
+	}
+
+	@Override
+	public void set(int index, T element) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		Position<T> position = chunkAt(index);
+		position.chunk.elements[position.offset] = element;
+		modCount++;
+	}
+
+	@Override
+	public T get(int index) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		Position<T> position = chunkAt(index);
+		return position.chunk.get(position.offset);
+	}
+
+	@Override
+	public int indexOf(T element) {
+		int base = 0;
+		for(Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+			for(int i = 0; i < chunk.count; i++) {
+				if(Objects.equals(chunk.get(i), element)) {
+					return base + i;
+				}
+			}
+			base += chunk.count;
+		}
+		return NOT_FOUND;
+	}
+
+	@Override
+	public T first() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return head.get(0);
+	}
+
+	@Override
+	public T last() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return tail.get(tail.count - 1);
+	}
+
+	@Override
+	public boolean contains(T target) {
+		return indexOf(target) != NOT_FOUND;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder str = new StringBuilder();
+		str.append("[");
+		for(Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+			for(int i = 0; i < chunk.count; i++) {
+				str.append(chunk.get(i));
+				str.append(", ");
+			}
+		}
+		if(size > 0) {
+			str.delete(str.length()-2, str.length());
+		}
+		str.append("]");
+		return str.toString();
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new UnrolledListIterator(0);
+	}
+
+	@Override
+	public ListIterator<T> listIterator() {
+		return new UnrolledListIterator(0);
+	}
+
+	@Override
+	public ListIterator<T> listIterator(int startingIndex) {
+		return new UnrolledListIterator(startingIndex);
+	}
+
+	/**
+	 * ListIterator for IUUnrolledLinkedList. The cursor is a Chunk and offset;
+	 * an offset equal to the Chunk's count means the next element is at the
+	 * start of the following Chunk.
+	 */
+	private class UnrolledListIterator implements ListIterator<T> {
+		private Chunk<T> chunk;
+		private int offset;
+		private int index;
+		private Chunk<T> lastChunk; // holds the element last returned, or null
+		private int lastOffset;
+		private int iterModCount;
+
+		/**
+		 * Creates a new iterator positioned before the starting index.
+		 *
+		 * @param startingIndex - the index next() will return first
+		 * @throws IndexOutOfBoundsException if startingIndex < 0 || startingIndex > size
+		 */
+		public UnrolledListIterator(int startingIndex) {
+			if(startingIndex < 0 || startingIndex > size) throw new IndexOutOfBoundsException();
+
+			if(startingIndex == size) {
+				chunk = tail;
+				offset = (tail == null) ? 0 : tail.count;
+			} else {
+				Position<T> position = chunkAt(startingIndex);
+				chunk = position.chunk;
+				offset = position.offset;
+			}
+			index = startingIndex;
+			lastChunk = null;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return index < size;
+		}
+
+		@Override
+		public T next() {
+			if(!hasNext()) throw new NoSuchElementException();
+
+			while(offset == chunk.count) {
+				chunk = chunk.next;
+				offset = 0;
+			}
+			lastChunk = chunk;
+			lastOffset = offset;
+			offset++;
+			index++;
+			return lastChunk.get(lastOffset);
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return index > 0;
+		}
+
+		@Override
+		public T previous() {
+			if(!hasPrevious()) throw new NoSuchElementException();
+
+			while(offset == 0) {
+				chunk = chunk.previous;
+				offset = chunk.count;
+			}
+			offset--;
+			index--;
+			lastChunk = chunk;
+			lastOffset = offset;
+			return lastChunk.get(lastOffset);
+		}
+
+		@Override
+		public int nextIndex() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return index;
+		}
+
+		@Override
+		public int previousIndex() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			return index - 1;
+		}
+
+		@Override
+		public void remove() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			if(lastChunk == null) throw new IllegalStateException();
+
+			if(lastChunk != chunk || lastOffset != offset) {
+				index--; // last move was next(), so the cursor was after the element
+			}
+			Chunk<T> following = lastChunk.next;
+			removeAt(lastChunk, lastOffset);
+
+			if(lastChunk.count > 0) {
+				chunk = lastChunk;
+				offset = lastOffset;
+			} else if(following != null) {
+				chunk = following;
+				offset = 0;
+			} else {
+				chunk = tail;
+				offset = (tail == null) ? 0 : tail.count;
+			}
+			lastChunk = null;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void set(T e) {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+			if(lastChunk == null) throw new IllegalStateException();
+
+			lastChunk.elements[lastOffset] = e;
+			modCount++;
+			iterModCount = modCount;
+		}
+
+		@Override
+		public void add(T e) {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+
+			if(chunk == null) {
+				chunk = linkChunk(null, null);
+				offset = 0;
+			}
+			Position<T> position = insertAt(chunk, offset, e);
+			chunk = position.chunk;
+			offset = position.offset + 1;
+			index++;
+			lastChunk = null;
+			iterModCount = modCount;
+		}
+	}
+}
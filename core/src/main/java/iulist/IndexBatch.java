@@ -0,0 +1,61 @@
+package iulist;
+
+import java.util.Arrays;
+
+/**
+ * Puts the indexes given to the batched positional methods (get(int[]),
+ * set(int[], T[]) and remove(int[])) in ascending order, so that a list can
+ * serve them all in one walk and still answer in the caller's order. Each
+ * index is packed with its position in the caller's array into one long, so
+ * sorting k indexes is a primitive O(k log k) sort with no boxing.
+ *
+ * @author Preston Hardy
+ */
+final class IndexBatch {
+
+	private IndexBatch() {
+	}
+
+	/**
+	 * Checks and sorts a batch of indexes.
+	 *
+	 * @param the indexes, in the caller's order
+	 * @param the size of the list; every index must be below it
+	 * @param false if an index may only appear once
+	 * @throws IndexOutOfBoundsException if any index is out of range (index < 0 || index >= size)
+	 * @throws IllegalArgumentException if repeats are not allowed and an index appears twice
+	 * @return one entry per index, in ascending order of index and then of position
+	 */
+	static long[] sorted(int[] indexes, int size, boolean repeatsAllowed) {
+		long[] entries = new long[indexes.length];
+		for(int position = 0; position < indexes.length; position++) {
+			int index = indexes[position];
+			if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+			entries[position] = ((long) index << 32) | position;
+		}
+		Arrays.sort(entries);
+
+		if(!repeatsAllowed) {
+			for(int i = 1; i < entries.length; i++) {
+				if(index(entries[i]) == index(entries[i - 1])) throw new IllegalArgumentException();
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * @param an entry from sorted()
+	 * @return the list index it holds
+	 */
+	static int index(long entry) {
+		return (int) (entry >>> 32);
+	}
+
+	/**
+	 * @param an entry from sorted()
+	 * @return where its index was in the caller's array
+	 */
+	static int position(long entry) {
+		return (int) entry;
+	}
+}
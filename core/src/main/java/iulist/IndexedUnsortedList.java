@@ -0,0 +1,455 @@
+package iulist;
+
+import java.util.*;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ *  Interface for an Iterable, Indexed, Unsorted List ADT.
+ *  Iterators and ListIterators provided by the list are required
+ *  to be "fail-fast" and throw ConcurrentModificationException if
+ *  the iterator detects any change to the list from another source. 
+ *  Note: "Unsorted" only means that it is not inherently maintained
+ *  in a sorted order. It may or may not be sorted.
+ *
+ * @author CS 221
+ *
+ * @param <T> - class of objects stored in the list 
+ */
+public interface IndexedUnsortedList<T> extends Iterable<T>
+{
+    /**  
+     * Adds the specified element to the front of this list. 
+     *
+     * @param element the element to be added to the front of this list    
+     */
+    public void addToFront(T element);  
+
+    /**  
+     * Adds the specified element to the rear of this list. 
+     *
+     * @param element the element to be added to the rear of this list    
+     */
+    public void addToRear(T element); 
+
+    /**  
+     * Adds the specified element to the rear of this list. 
+     *
+     * @param element  the element to be added to the rear of the list    
+     */
+    public void add(T element);
+
+    /**  
+     * Adds the specified element after the specified target. 
+     *
+     * @param element the element to be added after the target
+     * @param target  the target is the item that the element will be added after
+     * @throws NoSuchElementException if target element is not in this list
+     */
+    public void addAfter(T element, T target);
+    
+    /**  
+     * Inserts the specified element at the specified index. 
+     * 
+     * @param index   the index into the array to which the element is to be inserted.
+     * @param element the element to be inserted into the array
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    public void add(int index, T element);
+
+    /**  
+     * Removes and returns the first element from this list. 
+     * 
+     * @return the first element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    public T removeFirst();
+
+    /**  
+     * Removes and returns the last element from this list. 
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    public T removeLast();
+
+    /**  
+     * Removes and returns the first element from the list matching the specified element.
+     *
+     * @param element the element to be removed from the list
+     * @return removed element
+     * @throws NoSuchElementException if element is not in this list
+     */
+    public T remove(T element);
+
+    /**  
+     * Removes  and returns the element at the specified index. 
+     *
+     * @param index the index of the element to be retrieved
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public T remove(int index); 
+        
+    /**  
+     * Replace the element at the specified index with the given element. 
+     *
+     * @param index   the index of the element to replace
+     * @param element the replacement element to be set into the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public void set(int index, T element);
+
+    /**  
+     * Returns a reference to the element at the specified index. 
+     *
+     * @param index  the index to which the reference is to be retrieved from
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public T get(int index);
+
+    /**  
+     * Returns the index of the first element from the list matching the specified element. 
+     *
+     * @param element  the element for the index is to be retrieved
+     * @return the integer index for this element or -1 if element is not in the list    
+     */
+    public int indexOf(T element);
+
+    /**  
+     * Returns a reference to the first element in this list. 
+     *
+     * @return a reference to the first element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    public T first();
+
+    /**  
+     * Returns a reference to the last element in this list. 
+     *
+     * @return a reference to the last element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    public T last();
+
+    /**  
+     * Returns true if this list contains the specified target element. 
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element, else false
+     */
+    public boolean contains(T target);
+
+    /**  
+     * Returns true if this list contains no elements. 
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty();
+
+    /**  
+     * Returns the number of elements in this list. 
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    public int size();
+
+    /**  
+     * Returns a string representation of this list. 
+     *
+     * @return a string representation of this list
+     */
+    public String toString();
+
+    /**  
+     * Returns an Iterator for the elements in this list. 
+     *
+     * @return an Iterator over the elements in this list
+     */
+    public Iterator<T> iterator();
+
+    /**  
+     * Returns a ListIterator for the elements in this list. 
+     *
+     * @return a ListIterator over the elements in this list
+     *
+     * @throws UnsupportedOperationException if not implemented
+     */
+    public ListIterator<T> listIterator();
+
+    /**  
+     * Returns a ListIterator for the elements in this list, with
+     * the iterator positioned before the specified index. 
+     *
+     * @return a ListIterator over the elements in this list
+     *
+     * @throws UnsupportedOperationException if not implemented
+     */
+    public ListIterator<T> listIterator(int startingIndex);
+
+    /**  
+     * Returns an ORDERED and SIZED Spliterator over the elements in this list.
+     * This default splits by copying batches out of iterator(); lists that
+     * can find their midpoint cheaply should override it.
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    @Override
+    public default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**  
+     * Returns a sequential Stream over the elements in this list.
+     *
+     * @return a Stream over the elements in this list
+     */
+    public default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**  
+     * Returns a parallel Stream over the elements in this list, split by spliterator().
+     *
+     * @return a possibly parallel Stream over the elements in this list
+     */
+    public default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**  
+     * Replaces each element with the result of applying the operator to it.
+     * This default uses listIterator() when the list supports it and
+     * get/set by index otherwise.
+     *
+     * @param operator the function to apply to each element
+     */
+    public default void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        ListIterator<T> it;
+        try {
+            it = listIterator();
+        } catch (UnsupportedOperationException e) {
+            for (int i = 0; i < size(); i++) {
+                set(i, operator.apply(get(i)));
+            }
+            return;
+        }
+        while (it.hasNext()) {
+            it.set(operator.apply(it.next()));
+        }
+    }
+
+    /**  
+     * Replaces each element with the result of applying the operator to it,
+     * possibly on several threads of the common ForkJoinPool at once. The
+     * operator must be stateless and safe to call concurrently. This default
+     * is sequential.
+     *
+     * @param operator the function to apply to each element
+     */
+    public default void parallelReplaceAll(UnaryOperator<T> operator) {
+        replaceAll(operator);
+    }
+
+    /**  
+     * Performs the action for each element, possibly on several threads at
+     * once and in no particular order. The list must not change meanwhile.
+     *
+     * @param action the action to perform on each element
+     */
+    public default void parallelForEach(Consumer<? super T> action) {
+        parallelStream().forEach(action);
+    }
+
+    /**  
+     * Combines the elements in order with an associative operator.
+     *
+     * @param identity the result for an empty list, and an identity for the operator
+     * @param accumulator an associative function combining two values
+     * @return the combined value
+     */
+    public default T reduce(T identity, BinaryOperator<T> accumulator) {
+        return stream().reduce(identity, accumulator);
+    }
+
+    /**  
+     * Combines the elements with an associative operator, reducing pieces of
+     * the list on several threads at once and then combining the results.
+     *
+     * @param identity the result for an empty list, and an identity for the operator
+     * @param accumulator an associative, stateless function combining two values
+     * @return the combined value
+     */
+    public default T parallelReduce(T identity, BinaryOperator<T> accumulator) {
+        return parallelStream().reduce(identity, accumulator);
+    }
+
+    /**  
+     * Removes every element matching the filter in a single pass.
+     * This default removes through iterator(), so it is only linear
+     * if the iterator's remove is constant time.
+     *
+     * @param filter returns true for elements to be removed
+     * @return true if any elements were removed
+     * @throws UnsupportedOperationException if the iterator does not support remove
+     */
+    public default boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        Iterator<T> it = iterator();
+        while (it.hasNext()) {
+            if (filter.test(it.next())) {
+                it.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**  
+     * Returns the elements at several indexes at once, in the order the
+     * indexes are given. An index may appear more than once. This default
+     * calls get(int) for each index; the linked lists override it to reach
+     * every index in one walk.
+     *
+     * @param indexes the indexes of the elements to return
+     * @return a List whose element i is the element at indexes[i]
+     * @throws IndexOutOfBoundsException if any index is out of range (index < 0 || index >= size)
+     */
+    public default List<T> get(int[] indexes) {
+        List<T> elements = new ArrayList<T>(indexes.length);
+        for (int index : indexes) {
+            elements.add(get(index));
+        }
+        return elements;
+    }
+
+    /**  
+     * Replaces the elements at several indexes at once: the element at
+     * indexes[i] becomes elements[i]. If an index appears more than once, the
+     * last of its elements is kept. Every index is checked before anything
+     * is replaced.
+     *
+     * @param indexes the indexes of the elements to replace
+     * @param elements the replacement for each index
+     * @throws IllegalArgumentException if the arrays are not the same length
+     * @throws IndexOutOfBoundsException if any index is out of range (index < 0 || index >= size)
+     */
+    public default void set(int[] indexes, T[] elements) {
+        if (indexes.length != elements.length) throw new IllegalArgumentException();
+        for (int index : indexes) {
+            if (index < 0 || index >= size()) throw new IndexOutOfBoundsException();
+        }
+        for (int i = 0; i < indexes.length; i++) {
+            set(indexes[i], elements[i]);
+        }
+    }
+
+    /**  
+     * Removes the elements at several indexes at once. The indexes refer to
+     * positions before anything is removed, and are checked before anything
+     * is removed. This default removes the highest index first so that the
+     * others do not shift, calling remove(int) for each.
+     *
+     * @param indexes the indexes of the elements to remove, with no repeats
+     * @return a List whose element i is the element that was at indexes[i]
+     * @throws IndexOutOfBoundsException if any index is out of range (index < 0 || index >= size)
+     * @throws IllegalArgumentException if an index appears more than once
+     */
+    public default List<T> remove(int[] indexes) {
+        long[] entries = IndexBatch.sorted(indexes, size(), false);
+        List<T> removed = new ArrayList<T>(Collections.<T>nCopies(indexes.length, null));
+        for (int i = entries.length - 1; i >= 0; i--) {
+            removed.set(IndexBatch.position(entries[i]), remove(IndexBatch.index(entries[i])));
+        }
+        return removed;
+    }
+
+    /**  
+     * Finds the first element equal to any of the targets. The targets are
+     * put in a hash set once, so the list is scanned a single time however
+     * many targets there are.
+     *
+     * @param targets the elements being sought
+     * @return the index of the first element that matches a target, or -1 if none does
+     */
+    public default int indexOfAny(Iterable<? extends T> targets) {
+        Set<T> wanted = new HashSet<T>();
+        targets.forEach(wanted::add);
+        int index = 0;
+        for (T element : this) {
+            if (wanted.contains(element)) return index;
+            index++;
+        }
+        return -1;
+    }
+
+    /**  
+     * Checks that every target is in the list, in a single scan that stops
+     * as soon as the last of them has been seen.
+     *
+     * @param targets the elements being sought
+     * @return true if the list contains every target, else false
+     */
+    public default boolean containsAll(Iterable<? extends T> targets) {
+        Set<T> missing = new HashSet<T>();
+        targets.forEach(missing::add);
+        Iterator<T> it = iterator();
+        while (!missing.isEmpty() && it.hasNext()) {
+            missing.remove(it.next());
+        }
+        return missing.isEmpty();
+    }
+
+    /**  
+     * Removes every element equal to any of the targets. The targets are put
+     * in a hash set once and the list is filtered with removeIf, so this is a
+     * single pass wherever removeIf is.
+     *
+     * @param targets the elements to remove, each as often as it occurs
+     * @return true if any elements were removed
+     */
+    public default boolean removeAll(Iterable<? extends T> targets) {
+        Set<T> doomed = new HashSet<T>();
+        targets.forEach(doomed::add);
+        return removeIf(doomed::contains);
+    }
+
+    /**  
+     * Removes every element that is not equal to one of the targets, in a
+     * single pass wherever removeIf is.
+     *
+     * @param targets the elements to keep
+     * @return true if any elements were removed
+     */
+    public default boolean retainAll(Iterable<? extends T> targets) {
+        Set<T> kept = new HashSet<T>();
+        targets.forEach(kept::add);
+        return removeIf(element -> !kept.contains(element));
+    }
+
+    /**  
+     * Returns a new list holding the result of applying the mapper to each
+     * element, in order.
+     *
+     * @param mapper the function to apply to each element
+     * @param factory creates the empty list to fill
+     * @return the list created by the factory, filled with the mapped elements
+     */
+    public default <R> IndexedUnsortedList<R> map(Function<? super T, ? extends R> mapper,
+            Supplier<? extends IndexedUnsortedList<R>> factory) {
+        IndexedUnsortedList<R> result = factory.get();
+        for (T element : this) {
+            result.add(mapper.apply(element));
+        }
+        return result;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,340 @@
+package iulist;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Doubly-linked list of primitive ints with the operations of
+ * IndexedUnsortedList. Elements and links live in parallel int arrays
+ * (see SlotLinkedList), so there is no boxing and no Node per element.
+ * Because remove(int) removes by index, removal by value is removeElement(int).
+ *
+ * @author Preston Hardy
+ */
+public class IntDoubleLinkedList extends SlotLinkedList {
+
+	private static final int NOT_FOUND = -1;
+
+	private int[] elements;
+
+	/** Creates an empty list with room for 16 elements before growing */
+	public IntDoubleLinkedList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list that doubles its arrays when full.
+	 *
+	 * @param initialCapacity - the number of elements to make room for
+	 */
+	public IntDoubleLinkedList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.doubling());
+	}
+
+	/**
+	 * Creates an empty list.
+	 *
+	 * @param initialCapacity - the number of elements to make room for
+	 * @param growthPolicy - decides the new capacity when the arrays are full
+	 */
+	public IntDoubleLinkedList(int initialCapacity, GrowthPolicy growthPolicy) {
+		super(initialCapacity, growthPolicy);
+		elements = new int[initialCapacity];
+	}
+
+	@Override
+	void resizeElements(int capacity) {
+		elements = Arrays.copyOf(elements, capacity);
+	}
+
+	/**
+	 * Finds the first slot holding an element.
+	 *
+	 * @param element - the element to find
+	 * @return the slot, or NIL
+	 */
+	private int slotOf(int element) {
+		int slot = head;
+		while(slot != NIL && elements[slot] != element) {
+			slot = next[slot];
+		}
+		return slot;
+	}
+
+	private int linkNew(int element, int successor) {
+		int slot = allocate();
+		elements[slot] = element;
+		linkBefore(slot, successor);
+		return slot;
+	}
+
+	/**
+	 * Adds the specified element to the front of this list.
+	 *
+	 * @param element the element to be added to the front of this list
+	 */
+	public void addToFront(int element) {
+		linkNew(element, head);
+	}
+
+	/**
+	 * Adds the specified element to the rear of this list.
+	 *
+	 * @param element the element to be added to the rear of this list
+	 */
+	public void addToRear(int element) {
+		linkNew(element, NIL);
+	}
+
+	/**
+	 * Adds the specified element to the rear of this list.
+	 *
+	 * @param element the element to be added to the rear of this list
+	 */
+	public void add(int element) {
+		linkNew(element, NIL);
+	}
+
+	/**
+	 * Adds the specified element after the first occurrence of the target.
+	 *
+	 * @param element the element to be added after the target
+	 * @param target the element that the new element will be added after
+	 * @throws NoSuchElementException if target element is not in this list
+	 */
+	public void addAfter(int element, int target) {
+		int slot = slotOf(target);
+		if(slot == NIL) throw new NoSuchElementException();
+		linkNew(element, next[slot]);
+	}
+
+	/**
+	 * Inserts the specified element at the specified index.
+	 *
+	 * @param index the index to insert at
+	 * @param element the element to be inserted
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+	 */
+	public void add(int index, int element) {
+		if(index < 0 || index > size) throw new IndexOutOfBoundsException();
+		linkNew(element, (index == size) ? NIL : slotAt(index));
+	}
+
+	/**
+	 * Removes and returns the first element from this list.
+	 *
+	 * @return the first element from this list
+	 * @throws NoSuchElementException if list contains no elements
+	 */
+	public int removeFirst() {
+		if(isEmpty()) throw new NoSuchElementException();
+		int returnVal = elements[head];
+		unlink(head);
+		return returnVal;
+	}
+
+	/**
+	 * Removes and returns the last element from this list.
+	 *
+	 * @return the last element from this list
+	 * @throws NoSuchElementException if list contains no elements
+	 */
+	public int removeLast() {
+		if(isEmpty()) throw new NoSuchElementException();
+		int returnVal = elements[tail];
+		unlink(tail);
+		return returnVal;
+	}
+
+	/**
+	 * Removes the first occurrence of the specified element.
+	 *
+	 * @param element the element to be removed from the list
+	 * @return the removed element
+	 * @throws NoSuchElementException if element is not in this list
+	 */
+	public int removeElement(int element) {
+		int slot = slotOf(element);
+		if(slot == NIL) throw new NoSuchElementException();
+		unlink(slot);
+		return element;
+	}
+
+	/**
+	 * Removes and returns the element at the specified index.
+	 *
+	 * @param index the index of the element to be removed
+	 * @return the element that was at the given index
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+	 */
+	public int remove(int index) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		int slot = slotAt(index);
+		int returnVal = elements[slot];
+		unlink(slot);
+		return returnVal;
+	}
+
+	/**
+	 * Replaces the element at the specified index.
+	 *
+	 * @param index the index of the element to replace
+	 * @param element the replacement element
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+	 */
+	public void set(int index, int element) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		elements[slotAt(index)] = element;
+		modCount++;
+	}
+
+	/**
+	 * Returns the element at the specified index.
+	 *
+	 * @param index the index of the element
+	 * @return the element at the specified index
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+	 */
+	public int get(int index) {
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException();
+		return elements[slotAt(index)];
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified element.
+	 *
+	 * @param element the element to find
+	 * @return the index of the element, or -1 if it is not in the list
+	 */
+	public int indexOf(int element) {
+		int index = 0;
+		for(int slot = head; slot != NIL; slot = next[slot]) {
+			if(elements[slot] == element) return index;
+			index++;
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Returns the first element in this list.
+	 *
+	 * @return the first element in this list
+	 * @throws NoSuchElementException if list contains no elements
+	 */
+	public int first() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return elements[head];
+	}
+
+	/**
+	 * Returns the last element in this list.
+	 *
+	 * @return the last element in this list
+	 * @throws NoSuchElementException if list contains no elements
+	 */
+	public int last() {
+		if(isEmpty()) throw new NoSuchElementException();
+		return elements[tail];
+	}
+
+	/**
+	 * Returns true if this list contains the specified element.
+	 *
+	 * @param target the element being sought
+	 * @return true if the list contains the element
+	 */
+	public boolean contains(int target) {
+		return slotOf(target) != NIL;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder str = new StringBuilder();
+		str.append("[");
+		for(int slot = head; slot != NIL; slot = next[slot]) {
+			str.append(elements[slot]);
+			str.append(", ");
+		}
+		if(size > 0) {
+			str.delete(str.length()-2, str.length());
+		}
+		str.append("]");
+		return str.toString();
+	}
+
+	/**
+	 * Returns an unboxed iterator over the elements in this list.
+	 *
+	 * @return a fail-fast PrimitiveIterator.OfInt
+	 */
+	public PrimitiveIterator.OfInt iterator() {
+		return new IntListIterator(0);
+	}
+
+	/**
+	 * Returns an unboxed list iterator over the elements in this list.
+	 *
+	 * @return a fail-fast IntListIterator positioned at the front
+	 */
+	public IntListIterator listIterator() {
+		return new IntListIterator(0);
+	}
+
+	/**
+	 * Returns an unboxed list iterator positioned before the specified index.
+	 *
+	 * @param startingIndex the index the first nextInt() returns
+	 * @return a fail-fast IntListIterator
+	 * @throws IndexOutOfBoundsException if startingIndex < 0 || startingIndex > size
+	 */
+	public IntListIterator listIterator(int startingIndex) {
+		return new IntListIterator(startingIndex);
+	}
+
+	/**
+	 * The unboxed equivalent of a ListIterator for IntDoubleLinkedList.
+	 * The boxed next() inherited from PrimitiveIterator.OfInt still works.
+	 */
+	public class IntListIterator extends SlotIterator implements PrimitiveIterator.OfInt {
+
+		private IntListIterator(int startingIndex) {
+			super(startingIndex);
+		}
+
+		@Override
+		public int nextInt() {
+			return elements[advance()];
+		}
+
+		/**
+		 * Moves the cursor backward.
+		 *
+		 * @return the element passed over
+		 * @throws NoSuchElementException if there is no previous element
+		 */
+		public int previousInt() {
+			return elements[retreat()];
+		}
+
+		/**
+		 * Replaces the element last returned by nextInt or previousInt.
+		 *
+		 * @param e the replacement element
+		 * @throws IllegalStateException if there is no element to replace
+		 */
+		public void set(int e) {
+			elements[slotToSet()] = e;
+		}
+
+		/**
+		 * Inserts an element before the cursor.
+		 *
+		 * @param e the element to insert
+		 */
+		public void add(int e) {
+			int slot = insertSlot(); // may grow the arrays, so take the slot first
+			elements[slot] = e;
+		}
+	}
+}
@@ -0,0 +1,200 @@
+package iulist;
+
+import java.util.HashMap;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Least-recently-used cache built on IUDoubleLinkedList Node handles.
+ * A HashMap finds the Node for a key, hits move that Node to the front of
+ * the list, and eviction removes from the rear, so get, put and eviction
+ * are all O(1). Capacity is either a number of entries or a total weight
+ * computed by a weigher function. Hit, miss and eviction counts are kept.
+ *
+ * @author Preston Hardy
+ *
+ * @param <K> type of keys
+ * @param <V> type of cached values
+ */
+public class LRUCache<K, V> {
+
+	/** A cached key/value pair along with its weight */
+	private static class Entry<K, V> {
+		private final K key;
+		private V value;
+		private int weight;
+
+		private Entry(K key, V value, int weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	private final HashMap<K, Node<Entry<K, V>>> map;
+	private final IUDoubleLinkedList<Entry<K, V>> order; // most recently used at the front
+	private final ToIntBiFunction<? super K, ? super V> weigher;
+	private final long maxWeight;
+	private long weight;
+
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	/**
+	 * Creates a cache holding at most maxSize entries.
+	 *
+	 * @param the most entries the cache will hold
+	 * @throws IllegalArgumentException if maxSize is less than 1
+	 */
+	public LRUCache(int maxSize) {
+		this(maxSize, (key, value) -> 1);
+	}
+
+	/**
+	 * Creates a cache whose entries may weigh at most maxWeight in total.
+	 *
+	 * @param the most total weight the cache will hold
+	 * @param the function computing the non-negative weight of an entry when it is put
+	 * @throws IllegalArgumentException if maxWeight is less than 1
+	 */
+	public LRUCache(long maxWeight, ToIntBiFunction<? super K, ? super V> weigher) {
+		if(maxWeight < 1) throw new IllegalArgumentException();
+		this.map = new HashMap<K, Node<Entry<K, V>>>();
+		this.order = new IUDoubleLinkedList<Entry<K, V>>();
+		this.weigher = weigher;
+		this.maxWeight = maxWeight;
+		weight = 0;
+		hits = misses = evictions = 0;
+	}
+
+	/**
+	 * Returns the value cached for a key and marks it most recently used.
+	 *
+	 * @param the key to look up
+	 * @return the cached value, or null on a miss
+	 */
+	public V get(K key) {
+		Node<Entry<K, V>> node = map.get(key);
+		if(node == null) {
+			misses++;
+			return null;
+		}
+		hits++;
+		order.moveToFront(node);
+		return node.getElement().value;
+	}
+
+	/**
+	 * Caches a value for a key, marking it most recently used, then evicts
+	 * least recently used entries until the cache is within capacity. An entry
+	 * heavier than the whole capacity is evicted straight away, along with any
+	 * value previously cached for the key, and the other entries are kept.
+	 *
+	 * @param the key to cache under
+	 * @param the value to cache
+	 * @return the value previously cached for the key, or null if there was none
+	 * @throws IllegalArgumentException if the weigher returns a negative weight
+	 */
+	public V put(K key, V value) {
+		int entryWeight = weigher.applyAsInt(key, value);
+		if(entryWeight < 0) throw new IllegalArgumentException();
+
+		V previous = null;
+		Node<Entry<K, V>> node = map.get(key);
+		if(entryWeight > maxWeight) {
+			if(node != null) previous = remove(key);
+			evictions++;
+			return previous;
+		}
+		if(node == null) {
+			map.put(key, order.addToFrontNode(new Entry<K, V>(key, value, entryWeight)));
+		} else {
+			Entry<K, V> entry = node.getElement();
+			previous = entry.value;
+			weight -= entry.weight;
+			entry.value = value;
+			entry.weight = entryWeight;
+			order.moveToFront(node);
+		}
+		weight += entryWeight;
+
+		while(weight > maxWeight) {
+			Entry<K, V> evicted = order.removeLast();
+			map.remove(evicted.key);
+			weight -= evicted.weight;
+			evictions++;
+		}
+		return previous;
+	}
+
+	/**
+	 * Removes the entry for a key, if cached. This is not counted as an eviction.
+	 *
+	 * @param the key to remove
+	 * @return the value that was cached, or null if there was none
+	 */
+	public V remove(K key) {
+		Node<Entry<K, V>> node = map.remove(key);
+		if(node == null) return null;
+		Entry<K, V> entry = order.removeNode(node);
+		weight -= entry.weight;
+		return entry.value;
+	}
+
+	/**
+	 * Checks for a key without counting a hit or miss or changing recency.
+	 *
+	 * @param the key to look for
+	 * @return true if the key is cached
+	 */
+	public boolean containsKey(K key) {
+		return map.containsKey(key);
+	}
+
+	/** @return the number of cached entries */
+	public int size() {
+		return order.size();
+	}
+
+	/** @return the total weight of the cached entries (their count for size-bounded caches) */
+	public long weight() {
+		return weight;
+	}
+
+	/** @return the number of get calls that found a value */
+	public long hitCount() {
+		return hits;
+	}
+
+	/** @return the number of get calls that found nothing */
+	public long missCount() {
+		return misses;
+	}
+
+	/** @return the number of entries dropped to stay within capacity */
+	public long evictionCount() {
+		return evictions;
+	}
+
+	/**
+	 * Returns a string showing the cached keys, most recently used first.
+	 *
+	 * @return the keys as a String
+	 */
+	@Override
+	public String toString() {
+		StringBuilder str = new StringBuilder();
+		str.append("[");
+		for(Entry<K, V> entry : order) {
+			str.append(entry.key);
+			str.append("=");
+			str.append(entry.value);
+			str.append(", ");
+		}
+		if(order.size() > 0) {
+			str.delete(str.length()-2, str.length());
+		}
+		str.append("]");
+		return str.toString();
+	}
+}
@@ -0,0 +1,61 @@
+package iulist;
+
+/**
+ * A link in IUSingleLinkedList and IUDoubleLinkedList. IUDoubleLinkedList
+ * hands Nodes out as handles, so anyone may read a Node, but only the lists
+ * in this package may change its element or links; a Node changed behind a
+ * list's back would leave the list's indexes and snapshots stale.
+ * IUDoubleLinkedList also records which list a Node is linked into, so a
+ * handle passed to the wrong list is refused.
+ * 
+ * @author Preston Hardy
+ *
+ * @param <T> type of the element held
+ */
+public class Node<T> {
+
+	private T element;
+	private Node<T> next;
+	private Node<T> previous;
+	private IUDoubleLinkedList.Owner owner;
+	
+	public Node(T element) {
+		this.element = element;
+		next = null;
+		previous = null;
+		owner = null;
+	}
+	
+	public T getElement() {
+		return element;
+	}
+	
+	void setElement(T element) {
+		this.element = element;
+	}
+	
+	public Node<T> getPrevious() {
+		return previous;
+	}
+	
+	void setPrevious(Node<T> previous) {
+		this.previous = previous;
+	}
+	
+	public Node<T> getNext() {
+		return next;
+	}
+	
+	void setNext(Node<T> next) {
+		this.next = next;
+	}
+	
+	IUDoubleLinkedList.Owner getOwner() {
+		return owner;
+	}
+	
+	void setOwner(IUDoubleLinkedList.Owner owner) {
+		this.owner = owner;
+	}
+
+}
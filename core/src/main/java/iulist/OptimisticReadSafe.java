@@ -0,0 +1,22 @@
+package iulist;
+
+/**
+ * Marks the lists whose read methods IUStampedList may run under an
+ * optimistic stamp, with no lock held. StampedLock does not stop a writer
+ * while an optimistic read runs, so the read may see the list half-way
+ * through a change. That is only safe for a list whose read methods
+ * (get, indexOf, contains, first, last, isEmpty, size, toString and the
+ * batched and multi-target reads):
+ * - write nothing to the list, such as a cached position, so that
+ *   readers cannot disturb each other or leave behind state built from a
+ *   change they saw half-done;
+ * - only loop up to a count or over immutable nodes, never along links a
+ *   writer may be changing (a linked chain, a tree, a HashMap), so that a
+ *   torn read ends in a wrong answer or an exception, which validation
+ *   discards, rather than in an endless loop.
+ * IUStampedList reads every other list under its read lock.
+ *
+ * @author Preston Hardy
+ */
+interface OptimisticReadSafe {
+}
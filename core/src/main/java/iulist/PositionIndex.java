@@ -0,0 +1,230 @@
+package iulist;
+
+import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Order-statistic overlay for the Node chain of IUDoubleLinkedList.
+ * Every Node in an indexed list is an IndexNode, which doubles as a node of a
+ * treap ordered by list position and augmented with subtree sizes. This finds
+ * the Node at an index, or the index of a Node, in O(log n) expected time.
+ * The list itself still owns the next/previous links; this class only keeps
+ * the tree in step with them.
+ *
+ * @author Preston Hardy
+ *
+ * @param <T> type stored in the list
+ */
+class PositionIndex<T> {
+
+	/** A Node that also carries the treap links and subtree size. */
+	static class IndexNode<T> extends Node<T> {
+		private IndexNode<T> left, right, parent;
+		private int count;
+		private final int priority;
+
+		IndexNode(T element, int priority) {
+			super(element);
+			this.priority = priority;
+			count = 1;
+		}
+	}
+
+	private IndexNode<T> root;
+
+	/** Creates an empty index */
+	PositionIndex() {
+		root = null;
+	}
+
+	/**
+	 * Creates a Node that can be tracked by this index.
+	 *
+	 * @param the element for the Node
+	 * @return a new, unlinked Node
+	 */
+	Node<T> newNode(T element) {
+		return new IndexNode<T>(element, ThreadLocalRandom.current().nextInt());
+	}
+
+	/**
+	 * Adds a Node to the index directly before the successor Node.
+	 *
+	 * @param a Node created by newNode() that is not yet in the index
+	 * @param the Node that will follow it, or null if it is going at the end
+	 */
+	void insertBefore(Node<T> node, Node<T> successor) {
+		IndexNode<T> x = (IndexNode<T>) node;
+		x.left = x.right = x.parent = null;
+		x.count = 1;
+
+		if(root == null) {
+			root = x;
+			return;
+		}
+
+		IndexNode<T> parent;
+		if(successor == null) {
+			parent = rightmost(root);
+			parent.right = x;
+		} else {
+			IndexNode<T> s = (IndexNode<T>) successor;
+			if(s.left == null) {
+				parent = s;
+				parent.left = x;
+			} else {
+				parent = rightmost(s.left);
+				parent.right = x;
+			}
+		}
+		x.parent = parent;
+
+		for(IndexNode<T> p = parent; p != null; p = p.parent) {
+			p.count++;
+		}
+		while(x.parent != null && x.parent.priority < x.priority) {
+			rotateUp(x);
+		}
+	}
+
+	/**
+	 * Removes a Node from the index.
+	 *
+	 * @param a Node currently in the index
+	 */
+	void remove(Node<T> node) {
+		IndexNode<T> x = (IndexNode<T>) node;
+
+		// rotate x down until it has at most one child
+		while(x.left != null && x.right != null) {
+			rotateUp(x.left.priority > x.right.priority ? x.left : x.right);
+		}
+
+		IndexNode<T> child = (x.left != null) ? x.left : x.right;
+		IndexNode<T> parent = x.parent;
+		if(child != null) child.parent = parent;
+		if(parent == null) root = child;
+		else if(parent.left == x) parent.left = child;
+		else parent.right = child;
+
+		for(IndexNode<T> p = parent; p != null; p = p.parent) {
+			p.count--;
+		}
+		x.left = x.right = x.parent = null;
+		x.count = 1;
+	}
+
+	/**
+	 * Rebuilds the index for a chain whose Nodes have been reordered, in O(n)
+	 * time. The Nodes are placed in list order against the rightmost path of
+	 * the treap built so far: each one takes over the part of that path with
+	 * lower priorities as its left subtree.
+	 *
+	 * @param the first Node of the list, or null if it is empty
+	 */
+	void rebuild(Node<T> first) {
+		ArrayList<IndexNode<T>> rightPath = new ArrayList<IndexNode<T>>();
+		for(Node<T> node = first; node != null; node = node.getNext()) {
+			IndexNode<T> x = (IndexNode<T>) node;
+			x.left = x.right = x.parent = null;
+
+			IndexNode<T> popped = null;
+			while(!rightPath.isEmpty() && rightPath.get(rightPath.size() - 1).priority < x.priority) {
+				popped = rightPath.remove(rightPath.size() - 1);
+				popped.count = 1 + count(popped.left) + count(popped.right); // its subtree is complete
+			}
+			x.left = popped;
+			if(popped != null) popped.parent = x;
+			if(!rightPath.isEmpty()) {
+				IndexNode<T> parent = rightPath.get(rightPath.size() - 1);
+				parent.right = x;
+				x.parent = parent;
+			}
+			rightPath.add(x);
+		}
+		for(int i = rightPath.size() - 1; i >= 0; i--) {
+			IndexNode<T> x = rightPath.get(i);
+			x.count = 1 + count(x.left) + count(x.right);
+		}
+		root = rightPath.isEmpty() ? null : rightPath.get(0);
+	}
+
+	/**
+	 * Finds the Node at an index. Bounds must be checked by the caller.
+	 *
+	 * @param the index of the Node
+	 * @return the Node at that index
+	 */
+	Node<T> get(int index) {
+		IndexNode<T> current = root;
+		while(true) {
+			int leftCount = count(current.left);
+			if(index < leftCount) {
+				current = current.left;
+			} else if(index == leftCount) {
+				return current;
+			} else {
+				index -= leftCount + 1;
+				current = current.right;
+			}
+		}
+	}
+
+	/**
+	 * Finds the index of a Node in the index.
+	 *
+	 * @param a Node currently in the index
+	 * @return the position of the Node in the list
+	 */
+	int indexOf(Node<T> node) {
+		IndexNode<T> x = (IndexNode<T>) node;
+		int index = count(x.left);
+		while(x.parent != null) {
+			if(x == x.parent.right) {
+				index += count(x.parent.left) + 1;
+			}
+			x = x.parent;
+		}
+		return index;
+	}
+
+	private static <T> int count(IndexNode<T> node) {
+		return (node == null) ? 0 : node.count;
+	}
+
+	private static <T> IndexNode<T> rightmost(IndexNode<T> node) {
+		while(node.right != null) {
+			node = node.right;
+		}
+		return node;
+	}
+
+	/**
+	 * Rotates a Node above its parent, keeping the in-order (list) order intact.
+	 *
+	 * @param a Node that has a parent
+	 */
+	private void rotateUp(IndexNode<T> x) {
+		IndexNode<T> p = x.parent;
+		IndexNode<T> g = p.parent;
+
+		if(x == p.left) {
+			p.left = x.right;
+			if(x.right != null) x.right.parent = p;
+			x.right = p;
+		} else {
+			p.right = x.left;
+			if(x.left != null) x.left.parent = p;
+			x.left = p;
+		}
+		p.parent = x;
+		x.parent = g;
+
+		if(g == null) root = x;
+		else if(g.left == p) g.left = x;
+		else g.right = x;
+
+		p.count = 1 + count(p.left) + count(p.right);
+		x.count = 1 + count(x.left) + count(x.right);
+	}
+}
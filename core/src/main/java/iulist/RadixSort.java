@@ -0,0 +1,144 @@
+package iulist;
+
+import java.util.Arrays;
+
+/**
+ * Stable least-significant-digit radix sort on int keys, one byte per pass,
+ * behind the sortInts() methods of the lists. Keys are ordered as signed ints
+ * by flipping the sign bit. A single counting walk gathers the histograms for
+ * every pass up front, and a pass is skipped when all keys share that byte,
+ * so IDs drawn from a small range take fewer than four passes.
+ *
+ * @author Preston Hardy
+ */
+final class RadixSort {
+
+	private static final int BITS = 8;
+	private static final int RADIX = 1 << BITS;
+	private static final int PASSES = Integer.SIZE / BITS;
+
+	private RadixSort() {
+	}
+
+	/**
+	 * Sorts parallel arrays of keys and elements by key. The two arrays are
+	 * dealt back and forth between themselves and a pair of buffers of the
+	 * same length.
+	 *
+	 * @param the keys to sort by
+	 * @param the element for each key, moved along with it
+	 */
+	static void sort(int[] keys, Object[] elements) {
+		int n = keys.length;
+		if(n < 2) return;
+
+		int[][] counts = new int[PASSES][RADIX];
+		for(int key : keys) {
+			for(int pass = 0; pass < PASSES; pass++) {
+				counts[pass][digit(key, pass)]++;
+			}
+		}
+
+		int[] fromKeys = keys, toKeys = new int[n];
+		Object[] fromElements = elements, toElements = new Object[n];
+		for(int pass = 0; pass < PASSES; pass++) {
+			int[] offsets = counts[pass];
+			if(offsets[digit(keys[0], pass)] == n) continue; // every key has the same byte here
+
+			toOffsets(offsets);
+			for(int i = 0; i < n; i++) {
+				int to = offsets[digit(fromKeys[i], pass)]++;
+				toKeys[to] = fromKeys[i];
+				toElements[to] = fromElements[i];
+			}
+
+			int[] swapKeys = fromKeys;
+			fromKeys = toKeys;
+			toKeys = swapKeys;
+			Object[] swapElements = fromElements;
+			fromElements = toElements;
+			toElements = swapElements;
+		}
+		if(fromKeys != keys) {
+			System.arraycopy(fromKeys, 0, keys, 0, n);
+			System.arraycopy(fromElements, 0, elements, 0, n);
+		}
+	}
+
+	/**
+	 * Sorts a chain of Nodes holding Integers by relinking their next links.
+	 * Each pass deals the Nodes, in order, onto one chain per byte value and
+	 * then joins those chains, so no element is copied. Every element is
+	 * checked before any Node is moved.
+	 *
+	 * @param the first Node of a chain that ends in a null next link
+	 * @return the first Node of the sorted chain
+	 * @throws ClassCastException if an element is not an Integer
+	 * @throws NullPointerException if an element is null
+	 */
+	static <T> Node<T> sort(Node<T> first) {
+		int[][] counts = new int[PASSES][RADIX];
+		int n = 0;
+		for(Node<T> node = first; node != null; node = node.getNext()) {
+			int key = keyOf(node);
+			for(int pass = 0; pass < PASSES; pass++) {
+				counts[pass][digit(key, pass)]++;
+			}
+			n++;
+		}
+		if(n < 2) return first;
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		Node<T>[] heads = (Node<T>[]) new Node[RADIX];
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		Node<T>[] tails = (Node<T>[]) new Node[RADIX];
+		for(int pass = 0; pass < PASSES; pass++) {
+			if(counts[pass][digit(keyOf(first), pass)] == n) continue;
+
+			Arrays.fill(heads, null);
+			for(Node<T> node = first; node != null; node = node.getNext()) {
+				int digit = digit(keyOf(node), pass);
+				if(heads[digit] == null) heads[digit] = node;
+				else tails[digit].setNext(node);
+				tails[digit] = node;
+			}
+
+			Node<T> last = null;
+			for(int digit = 0; digit < RADIX; digit++) {
+				if(heads[digit] == null) continue;
+				if(last == null) first = heads[digit];
+				else last.setNext(heads[digit]);
+				last = tails[digit];
+			}
+			last.setNext(null);
+		}
+		return first;
+	}
+
+	/**
+	 * Turns a histogram into the index where each byte value's run starts.
+	 *
+	 * @param the counts for each byte value, overwritten with the offsets
+	 */
+	private static void toOffsets(int[] counts) {
+		int total = 0;
+		for(int digit = 0; digit < RADIX; digit++) {
+			int count = counts[digit];
+			counts[digit] = total;
+			total += count;
+		}
+	}
+
+	/**
+	 * @param the key
+	 * @param which byte to take, 0 being the lowest
+	 * @return that byte of the key, with the sign bit flipped so negative keys come first
+	 */
+	private static int digit(int key, int pass) {
+		return ((key ^ Integer.MIN_VALUE) >>> (pass * BITS)) & (RADIX - 1);
+	}
+
+	private static <T> int keyOf(Node<T> node) {
+		return (Integer) node.getElement();
+	}
+}
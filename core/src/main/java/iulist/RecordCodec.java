@@ -0,0 +1,107 @@
+package iulist;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Converts elements to and from a fixed number of bytes so they can be
+ * stored outside the Java heap by IUOffHeapLinkedList. Reads and writes use
+ * absolute offsets and must not move the buffer's position.
+ *
+ * @author Preston Hardy
+ *
+ * @param <T> type of element encoded
+ */
+public interface RecordCodec<T> {
+
+	/**
+	 * @return the number of bytes every encoded element takes
+	 */
+	int width();
+
+	/**
+	 * Encodes an element into width() bytes starting at offset.
+	 *
+	 * @param buffer - the buffer to write into
+	 * @param offset - the absolute offset of the first byte
+	 * @param element - the element to encode
+	 */
+	void write(ByteBuffer buffer, int offset, T element);
+
+	/**
+	 * Decodes the element stored starting at offset.
+	 *
+	 * @param buffer - the buffer to read from
+	 * @param offset - the absolute offset of the first byte
+	 * @return the decoded element
+	 */
+	T read(ByteBuffer buffer, int offset);
+
+	/**
+	 * Checks whether the element stored at offset equals the given one.
+	 * Codecs for simple values should override this to compare without
+	 * decoding, since searches call it for every element.
+	 *
+	 * @param buffer - the buffer to read from
+	 * @param offset - the absolute offset of the first byte
+	 * @param element - the element to compare against
+	 * @return true if the stored element equals the given one
+	 */
+	default boolean matches(ByteBuffer buffer, int offset, T element) {
+		return Objects.equals(read(buffer, offset), element);
+	}
+
+	/**
+	 * @return a codec storing non-null Integers in 4 bytes
+	 */
+	static RecordCodec<Integer> integers() {
+		return new RecordCodec<Integer>() {
+			@Override
+			public int width() {
+				return Integer.BYTES;
+			}
+
+			@Override
+			public void write(ByteBuffer buffer, int offset, Integer element) {
+				buffer.putInt(offset, element);
+			}
+
+			@Override
+			public Integer read(ByteBuffer buffer, int offset) {
+				return buffer.getInt(offset);
+			}
+
+			@Override
+			public boolean matches(ByteBuffer buffer, int offset, Integer element) {
+				return element != null && buffer.getInt(offset) == element;
+			}
+		};
+	}
+
+	/**
+	 * @return a codec storing non-null Longs in 8 bytes
+	 */
+	static RecordCodec<Long> longs() {
+		return new RecordCodec<Long>() {
+			@Override
+			public int width() {
+				return Long.BYTES;
+			}
+
+			@Override
+			public void write(ByteBuffer buffer, int offset, Long element) {
+				buffer.putLong(offset, element);
+			}
+
+			@Override
+			public Long read(ByteBuffer buffer, int offset) {
+				return buffer.getLong(offset);
+			}
+
+			@Override
+			public boolean matches(ByteBuffer buffer, int offset, Long element) {
+				return element != null && buffer.getLong(offset) == element;
+			}
+		};
+	}
+}
@@ -0,0 +1,312 @@
+package iulist;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * Shared link management for doubly-linked lists that keep their links as
+ * int slot numbers in parallel arrays instead of Node objects. Slot i's
+ * neighbors are next[i] and previous[i]; subclasses keep the element for
+ * slot i in their own array. Removed slots go onto a free list (chained
+ * through next) and are handed out again before the arrays grow, so a
+ * steady add/remove churn allocates nothing.
+ *
+ * @author Preston Hardy
+ */
+abstract class SlotLinkedList {
+
+	/** Stands in for a null link */
+	static final int NIL = -1;
+	static final int DEFAULT_CAPACITY = 16;
+
+	int[] next;
+	int[] previous;
+	int head, tail;
+	int size;
+	int modCount;
+
+	private int freeHead; // first slot on the free list
+	private int used;     // slots at or above this have never been handed out
+	private final GrowthPolicy growthPolicy;
+
+	/**
+	 * Creates empty link arrays. Subclasses must size their element
+	 * array to initialCapacity as well.
+	 *
+	 * @param initialCapacity - the number of slots to start with
+	 * @param growthPolicy - decides the new capacity when every slot is in use
+	 */
+	SlotLinkedList(int initialCapacity, GrowthPolicy growthPolicy) {
+		if(initialCapacity < 0) throw new IllegalArgumentException();
+		next = new int[initialCapacity];
+		previous = new int[initialCapacity];
+		head = tail = NIL;
+		size = 0;
+		modCount = 0;
+		freeHead = NIL;
+		used = 0;
+		this.growthPolicy = growthPolicy;
+	}
+
+	/**
+	 * Resizes the subclass's element array to match the link arrays.
+	 *
+	 * @param capacity - the new number of slots
+	 */
+	abstract void resizeElements(int capacity);
+
+	/**
+	 * Lets go of the element in a freed slot. Only needed for object elements.
+	 *
+	 * @param slot - the slot that was freed
+	 */
+	void releaseElement(int slot) {
+	}
+
+	/**
+	 * Takes a slot from the free list, or a fresh one, growing the arrays if needed.
+	 * The slot is not linked in yet.
+	 *
+	 * @return the slot
+	 */
+	int allocate() {
+		if(freeHead != NIL) {
+			int slot = freeHead;
+			freeHead = next[slot];
+			return slot;
+		}
+		if(used == next.length) {
+			resize(growthPolicy.newCapacity(next.length, used + 1));
+		}
+		return used++;
+	}
+
+	/**
+	 * Links an allocated slot in directly before the successor slot.
+	 *
+	 * @param slot - the slot to link in
+	 * @param successor - the slot that will follow it, or NIL to link at the tail
+	 */
+	void linkBefore(int slot, int successor) {
+		int predecessor = (successor == NIL) ? tail : previous[successor];
+
+		previous[slot] = predecessor;
+		next[slot] = successor;
+
+		if(predecessor == NIL) head = slot;
+		else next[predecessor] = slot;
+
+		if(successor == NIL) tail = slot;
+		else previous[successor] = slot;
+
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Unlinks a slot and puts it on the free list.
+	 *
+	 * @param slot - a linked slot
+	 */
+	void unlink(int slot) {
+		int predecessor = previous[slot];
+		int successor = next[slot];
+
+		if(predecessor == NIL) head = successor;
+		else next[predecessor] = successor;
+
+		if(successor == NIL) tail = predecessor;
+		else previous[successor] = predecessor;
+
+		releaseElement(slot);
+		previous[slot] = NIL;
+		next[slot] = freeHead;
+		freeHead = slot;
+
+		size--;
+		modCount++;
+	}
+
+	/**
+	 * Finds the slot at an index, walking from the nearer end.
+	 * Bounds must be checked by the caller.
+	 *
+	 * @param index - the index to find
+	 * @return the slot at that index
+	 */
+	int slotAt(int index) {
+		int slot;
+		if(index <= (size - 1) / 2) {
+			slot = head;
+			for(int i = 0; i < index; i++) {
+				slot = next[slot];
+			}
+		} else {
+			slot = tail;
+			for(int i = size - 1; i > index; i--) {
+				slot = previous[slot];
+			}
+		}
+		return slot;
+	}
+
+	private void resize(int capacity) {
+		next = Arrays.copyOf(next, capacity);
+		previous = Arrays.copyOf(previous, capacity);
+		resizeElements(capacity);
+	}
+
+	/**
+	 * Grows the arrays, if needed, so that minCapacity elements fit without another copy.
+	 *
+	 * @param minCapacity - the number of elements the list should be able to hold
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if(minCapacity > next.length) {
+			resize(growthPolicy.newCapacity(next.length, minCapacity));
+		}
+	}
+
+	/**
+	 * Returns true if this list contains no elements.
+	 *
+	 * @return true if this list contains no elements
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of elements in this list.
+	 *
+	 * @return the number of elements in this list
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Fail-fast cursor over the slots, shared by the subclasses' iterators.
+	 * Subclasses read and write elements through the slots it returns.
+	 */
+	abstract class SlotIterator {
+		private int nextSlot;
+		private int previousSlot;
+		private int lastSlot; // slot last returned by next or previous, or NIL
+		private int index;
+		private int iterModCount;
+
+		/**
+		 * Creates a cursor positioned before the starting index.
+		 *
+		 * @param startingIndex - the index the first advance() returns
+		 * @throws IndexOutOfBoundsException if startingIndex < 0 || startingIndex > size
+		 */
+		SlotIterator(int startingIndex) {
+			if(startingIndex < 0 || startingIndex > size) throw new IndexOutOfBoundsException();
+			nextSlot = (startingIndex == size) ? NIL : slotAt(startingIndex);
+			previousSlot = (nextSlot == NIL) ? tail : previous[nextSlot];
+			lastSlot = NIL;
+			index = startingIndex;
+			iterModCount = modCount;
+		}
+
+		private void checkForComodification() {
+			if(iterModCount != modCount) throw new ConcurrentModificationException();
+		}
+
+		public boolean hasNext() {
+			checkForComodification();
+			return nextSlot != NIL;
+		}
+
+		public boolean hasPrevious() {
+			checkForComodification();
+			return previousSlot != NIL;
+		}
+
+		public int nextIndex() {
+			checkForComodification();
+			return index;
+		}
+
+		public int previousIndex() {
+			checkForComodification();
+			return index - 1;
+		}
+
+		/**
+		 * Moves the cursor forward.
+		 *
+		 * @return the slot passed over
+		 * @throws NoSuchElementException if there is no next slot
+		 */
+		int advance() {
+			if(!hasNext()) throw new NoSuchElementException();
+			lastSlot = previousSlot = nextSlot;
+			nextSlot = next[nextSlot];
+			index++;
+			return lastSlot;
+		}
+
+		/**
+		 * Moves the cursor backward.
+		 *
+		 * @return the slot passed over
+		 * @throws NoSuchElementException if there is no previous slot
+		 */
+		int retreat() {
+			if(!hasPrevious()) throw new NoSuchElementException();
+			lastSlot = nextSlot = previousSlot;
+			previousSlot = previous[previousSlot];
+			index--;
+			return lastSlot;
+		}
+
+		/**
+		 * Returns the slot last passed over, for set(), and counts the change.
+		 *
+		 * @return the slot to overwrite
+		 * @throws IllegalStateException if there is no such slot
+		 */
+		int slotToSet() {
+			checkForComodification();
+			if(lastSlot == NIL) throw new IllegalStateException();
+			modCount++;
+			iterModCount = modCount;
+			return lastSlot;
+		}
+
+		/**
+		 * Links a new slot in before the cursor, for add().
+		 *
+		 * @return the new slot, for the caller to store its element in
+		 */
+		int insertSlot() {
+			checkForComodification();
+			int slot = allocate();
+			linkBefore(slot, nextSlot);
+			previousSlot = slot;
+			index++;
+			lastSlot = NIL;
+			iterModCount = modCount;
+			return slot;
+		}
+
+		public void remove() {
+			checkForComodification();
+			if(lastSlot == NIL) throw new IllegalStateException();
+
+			if(lastSlot == previousSlot) { // last move was forward
+				previousSlot = previous[lastSlot];
+				index--;
+			} else {
+				nextSlot = next[lastSlot];
+			}
+			unlink(lastSlot);
+			lastSlot = NIL;
+			iterModCount = modCount;
+		}
+	}
+}
@@ -1,3 +1,5 @@
+package iulist;
+
 import java.util.Iterator;
 import java.util.ListIterator;
 
@@ -0,0 +1,180 @@
+package iulist;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Presents an IntDoubleLinkedList as an IndexedUnsortedList of Integers so
+ * that ListTester can run its scenarios against it. Every call is passed
+ * straight through, unboxing on the way in and boxing on the way out.
+ * A null target is never found, since the list cannot hold null.
+ *
+ * @author Preston Hardy
+ */
+class IntListAdapter implements IndexedUnsortedList<Integer> {
+
+	private final IntDoubleLinkedList list = new IntDoubleLinkedList();
+
+	@Override
+	public void addToFront(Integer element) {
+		list.addToFront(element);
+	}
+
+	@Override
+	public void addToRear(Integer element) {
+		list.addToRear(element);
+	}
+
+	@Override
+	public void add(Integer element) {
+		list.add(element.intValue());
+	}
+
+	@Override
+	public void addAfter(Integer element, Integer target) {
+		if(target == null) throw new NoSuchElementException();
+		list.addAfter(element, target);
+	}
+
+	@Override
+	public void add(int index, Integer element) {
+		list.add(index, element.intValue());
+	}
+
+	@Override
+	public Integer removeFirst() {
+		return list.removeFirst();
+	}
+
+	@Override
+	public Integer removeLast() {
+		return list.removeLast();
+	}
+
+	@Override
+	public Integer remove(Integer element) {
+		if(element == null) throw new NoSuchElementException();
+		return list.removeElement(element);
+	}
+
+	@Override
+	public Integer remove(int index) {
+		return list.remove(index);
+	}
+
+	@Override
+	public void set(int index, Integer element) {
+		list.set(index, element.intValue());
+	}
+
+	@Override
+	public Integer get(int index) {
+		return list.get(index);
+	}
+
+	@Override
+	public int indexOf(Integer element) {
+		return (element == null) ? -1 : list.indexOf(element.intValue());
+	}
+
+	@Override
+	public Integer first() {
+		return list.first();
+	}
+
+	@Override
+	public Integer last() {
+		return list.last();
+	}
+
+	@Override
+	public boolean contains(Integer target) {
+		return target != null && list.contains(target.intValue());
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return list.isEmpty();
+	}
+
+	@Override
+	public int size() {
+		return list.size();
+	}
+
+	@Override
+	public String toString() {
+		return list.toString();
+	}
+
+	@Override
+	public Iterator<Integer> iterator() {
+		return list.iterator();
+	}
+
+	@Override
+	public ListIterator<Integer> listIterator() {
+		return new Adapter(list.listIterator());
+	}
+
+	@Override
+	public ListIterator<Integer> listIterator(int startingIndex) {
+		return new Adapter(list.listIterator(startingIndex));
+	}
+
+	/** Boxes an IntListIterator as a ListIterator */
+	private static class Adapter implements ListIterator<Integer> {
+
+		private final IntDoubleLinkedList.IntListIterator it;
+
+		private Adapter(IntDoubleLinkedList.IntListIterator it) {
+			this.it = it;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return it.hasNext();
+		}
+
+		@Override
+		public Integer next() {
+			return it.nextInt();
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return it.hasPrevious();
+		}
+
+		@Override
+		public Integer previous() {
+			return it.previousInt();
+		}
+
+		@Override
+		public int nextIndex() {
+			return it.nextIndex();
+		}
+
+		@Override
+		public int previousIndex() {
+			return it.previousIndex();
+		}
+
+		@Override
+		public void remove() {
+			it.remove();
+		}
+
+		@Override
+		public void set(Integer e) {
+			it.set(e.intValue());
+		}
+
+		@Override
+		public void add(Integer e) {
+			it.add(e.intValue());
+		}
+	}
+}
@@ -1,7 +1,17 @@
+package iulist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * A unit test class for lists that implement IndexedUnsortedList. 
@@ -17,14 +27,19 @@ import java.util.NoSuchElementException;
 public class ListTester {
 	//possible lists that could be tested
 	private static enum ListToUse {
-		goodList, badList, arrayList, singleLinkedList, doubleLinkedList
+		goodList, badList, arrayList, singleLinkedList, doubleLinkedList,
+		indexedDoubleLinkedList, hashedDoubleLinkedList, unrolledLinkedList,
+		arrayLinkedList, offHeapLinkedList, persistentList,
+		intDoubleLinkedList, longDoubleLinkedList
 	};
 	// TODO: THIS IS WHERE YOU CHOOSE WHICH LIST TO TEST
-	private final static ListToUse LIST_TO_USE = ListToUse.doubleLinkedList;
+	// (or pass -DlistToUse=<name>, as the Maven build does for each list it tests)
+	private final static ListToUse LIST_TO_USE =
+			ListToUse.valueOf(System.getProperty("listToUse", ListToUse.doubleLinkedList.name()));
 
 	// possible results expected in tests
 	private enum Result {
-		IndexOutOfBounds, IllegalState, NoSuchElement, 
+		IndexOutOfBounds, IllegalState, IllegalArgument, NoSuchElement, 
 		ConcurrentModification, UnsupportedOperation, 
 		NoException, UnexpectedException,
 		True, False, Pass, Fail, 
@@ -42,6 +57,10 @@ public class ListTester {
 
 	// determine whether to include ListIterator functionality tests
 	private final boolean SUPPORTS_LIST_ITERATOR; //initialized in constructor
+	// determine whether to include tests of the IUDoubleLinkedList-only methods
+	private final boolean DOUBLE_LINKED; //initialized in constructor
+	// determine whether to include sortInts tests
+	private final boolean SORTS_INTS; //initialized in constructor
 	
 	//tracking number of tests and test results
 	private int passes = 0;
@@ -62,12 +81,16 @@ public class ListTester {
 	 *  -a : print results from all tests (default is to print failed tests, only)
 	 *  -s : hide Strings from toString() tests
 	 *  -m : hide section summaries in output
+	 * Exits with status 1 if any test failed, so a build can stop on failures.
 	 * @param args not used
 	 */
 	public static void main(String[] args) {
 		// to avoid every method being static
 		ListTester tester = new ListTester(args);
 		tester.runTests();
+		if (tester.failures > 0) {
+			System.exit(1);
+		}
 	}
 
 	/** tester constructor
@@ -83,13 +106,45 @@ public class ListTester {
 				printSectionSummaries = false;
 		}
 		switch (LIST_TO_USE) {
+		case arrayList:
+		case singleLinkedList:
 		case doubleLinkedList:
+		case indexedDoubleLinkedList:
+		case hashedDoubleLinkedList:
+		case unrolledLinkedList:
+		case arrayLinkedList:
+		case offHeapLinkedList:
+		case persistentList:
+		case intDoubleLinkedList:
+		case longDoubleLinkedList:
 			SUPPORTS_LIST_ITERATOR = true;
 			break;
 		default:
 			SUPPORTS_LIST_ITERATOR = false;
 			break;
 		}
+		switch (LIST_TO_USE) {
+		case doubleLinkedList:
+		case indexedDoubleLinkedList:
+		case hashedDoubleLinkedList:
+			DOUBLE_LINKED = true;
+			break;
+		default:
+			DOUBLE_LINKED = false;
+			break;
+		}
+		switch (LIST_TO_USE) {
+		case arrayList:
+		case singleLinkedList:
+		case doubleLinkedList:
+		case indexedDoubleLinkedList:
+		case hashedDoubleLinkedList:
+			SORTS_INTS = true;
+			break;
+		default:
+			SORTS_INTS = false;
+			break;
+		}
 	}
 
 	/** Print test results in a consistent format
@@ -169,6 +224,14 @@ public class ListTester {
 		String STRING_ABD = "ABD";
 		Integer[] LIST_ADC = {ELEMENT_A, ELEMENT_D, ELEMENT_C};
 		String STRING_ADC = "ABD";
+		Integer[] LIST_BAC = {ELEMENT_B, ELEMENT_A, ELEMENT_C};
+		String STRING_BAC = "BAC";
+		Integer[] LIST_BCA = {ELEMENT_B, ELEMENT_C, ELEMENT_A};
+		String STRING_BCA = "BCA";
+		Integer[] LIST_CBA = {ELEMENT_C, ELEMENT_B, ELEMENT_A};
+		String STRING_CBA = "CBA";
+		Integer[] LIST_DBA = {ELEMENT_D, ELEMENT_B, ELEMENT_A};
+		String STRING_DBA = "DBA";
 
 		
 		//newly constructed empty list
@@ -207,6 +270,8 @@ public class ListTester {
 		testThreeElementList(AB_addTo0C_CAB, "AB_addTo0C_CAB", LIST_CAB, STRING_CAB);
 		testThreeElementList(AB_addC_ABC, "AB_addC_ABC", LIST_ABC, STRING_ABC);
 		testThreeElementList(AB_addTo2C_ABC, "AB_addTo2C_ABC", LIST_ABC, STRING_ABC);
+		testThreeElementList(AB_addAfterB_ABC, "AB_addAfterB_ABC", LIST_ABC, STRING_ABC);
+		testThreeElementList(BC_addTo0A_ABC, "BC_addTo0A_ABC", LIST_ABC, STRING_ABC);
 		testSingleElementList(AB_removeLast_A, "AB_removeLast_A", LIST_A, STRING_A);
 		testSingleElementList(AB_removeFirst_B, "AB_removeFirst_B", LIST_B, STRING_B);
 		testSingleElementList(AB_removeA_B, "AB_removeA_B", LIST_B, STRING_B);
@@ -239,6 +304,8 @@ public class ListTester {
 		testTwoElementList(BCD_IterRemoveC_BD, "BCD_IterRemoveC_BD", LIST_BD, STRING_BD);
 		testTwoElementList(BCD_IterRemoveD_BC, "BCD_IterRemoveD_BC", LIST_BC, STRING_BC);
 		testThreeElementList(ABCD_IterRemoveC_ABD, "ABCD_IterRemoveC_ABD", LIST_ABD, STRING_ABD);
+		testTwoElementList(AB_IterRemoveA_addToRearC_BC, "AB_IterRemoveA_addToRearC_BC", LIST_BC, STRING_BC);
+		testTwoElementList(AB_IterRemoveB_addToRearC_AC, "AB_IterRemoveB_addToRearC_AC", LIST_AC, STRING_AC);
 		
 		testEmptyList(A_ListIterRemoveA_empty, "A_ListIterRemoveA_empty");
 		testSingleElementList(AB_ListIterRemoveA_B, "AB_ListIterRemoveA_B", LIST_B, STRING_B);
@@ -274,12 +341,135 @@ public class ListTester {
 		testThreeElementList(ABC_ListIterPreviousSetToD_ADC, "ABC_ListIterPreviousSetToD_ADC", LIST_ADC, STRING_ADC);
 		testThreeElementList(ABC_ListIterPreviousSetToD_ABD, "ABC_ListIterPreviousSetToD_ABD", LIST_ABD, STRING_ABD);
 		
+		//IUDoubleLinkedList appendAll, splitAt and spliceAt
+		if (DOUBLE_LINKED) {
+			testTwoElementList(emptyList_appendAllAB_AB, "emptyList_appendAllAB_AB", LIST_AB, STRING_AB);
+			testTwoElementList(AB_appendAllEmpty_AB, "AB_appendAllEmpty_AB", LIST_AB, STRING_AB);
+			testThreeElementList(A_appendAllBC_ABC, "A_appendAllBC_ABC", LIST_ABC, STRING_ABC);
+			testEmptyList(ABC_splitAt0_empty, "ABC_splitAt0_empty");
+			testSingleElementList(ABC_splitAt1_A, "ABC_splitAt1_A", LIST_A, STRING_A);
+			testTwoElementList(ABC_splitAt1Rest_BC, "ABC_splitAt1Rest_BC", LIST_BC, STRING_BC);
+			testEmptyList(ABC_splitAt3Rest_empty, "ABC_splitAt3Rest_empty");
+			testThreeElementList(BC_spliceAt0A_ABC, "BC_spliceAt0A_ABC", LIST_ABC, STRING_ABC);
+			testThreeElementList(AC_spliceAt1B_ABC, "AC_spliceAt1B_ABC", LIST_ABC, STRING_ABC);
+			testThreeElementList(A_spliceAt1BC_ABC, "A_spliceAt1BC_ABC", LIST_ABC, STRING_ABC);
+		}
+		
+		//IUDoubleLinkedList sort and parallelSort
+		if (DOUBLE_LINKED) {
+			testSingleElementList(A_sort_A, "A_sort_A", LIST_A, STRING_A);
+			testThreeElementList(CBA_sort_ABC, "CBA_sort_ABC", LIST_ABC, STRING_ABC);
+			testThreeElementList(ABC_sortReversed_CBA, "ABC_sortReversed_CBA", LIST_CBA, STRING_CBA);
+			testThreeElementList(ABC_sortByParity_BAC, "ABC_sortByParity_BAC", LIST_BAC, STRING_BAC);
+			testThreeElementList(CBA_sortByParity_BCA, "CBA_sortByParity_BCA", LIST_BCA, STRING_BCA);
+			testThreeElementList(CBA_parallelSort_ABC, "CBA_parallelSort_ABC", LIST_ABC, STRING_ABC);
+			testThreeElementList(CBA_parallelSortByParity_BCA, "CBA_parallelSortByParity_BCA", LIST_BCA, STRING_BCA);
+		}
+		
+		//sortInts, for the lists that have it
+		if (SORTS_INTS) {
+			testEmptyList(emptyList_sortInts_empty, "emptyList_sortInts_empty");
+			testSingleElementList(A_sortInts_A, "A_sortInts_A", LIST_A, STRING_A);
+			testTwoElementList(BA_sortInts_AB, "BA_sortInts_AB", LIST_AB, STRING_AB);
+			testThreeElementList(CBA_sortInts_ABC, "CBA_sortInts_ABC", LIST_ABC, STRING_ABC);
+			testThreeElementList(CAB_sortInts_ABC, "CAB_sortInts_ABC", LIST_ABC, STRING_ABC);
+			testThreeElementList(ABC_sortInts_ABC, "ABC_sortInts_ABC", LIST_ABC, STRING_ABC);
+		}
+		
+		//batched get, set and remove by index
+		testEmptyList(ABC_removeIndexes012_empty, "ABC_removeIndexes012_empty");
+		testSingleElementList(ABC_removeIndexes20_B, "ABC_removeIndexes20_B", LIST_B, STRING_B);
+		testTwoElementList(ABC_removeIndexes1_AC, "ABC_removeIndexes1_AC", LIST_AC, STRING_AC);
+		testTwoElementList(AB_setNoIndexes_AB, "AB_setNoIndexes_AB", LIST_AB, STRING_AB);
+		testThreeElementList(ABC_setIndexes20ToAD_DBA, "ABC_setIndexes20ToAD_DBA", LIST_DBA, STRING_DBA);
+		testThreeElementList(ABC_setIndexes11ToCD_ADC, "ABC_setIndexes11ToCD_ADC", LIST_ADC, STRING_ADC);
+		
+		//removeAll and retainAll
+		testEmptyList(ABC_removeAllABC_empty, "ABC_removeAllABC_empty");
+		testSingleElementList(ABC_removeAllCA_B, "ABC_removeAllCA_B", LIST_B, STRING_B);
+		testThreeElementList(ABC_removeAllXZ_ABC, "ABC_removeAllXZ_ABC", LIST_ABC, STRING_ABC);
+		testEmptyList(ABC_retainAllNone_empty, "ABC_retainAllNone_empty");
+		testSingleElementList(ABC_retainAllBD_B, "ABC_retainAllBD_B", LIST_B, STRING_B);
+		testTwoElementList(ABC_retainAllCAX_AC, "ABC_retainAllCAX_AC", LIST_AC, STRING_AC);
+		testThreeElementList(ABC_retainAllABC_ABC, "ABC_retainAllABC_ABC", LIST_ABC, STRING_ABC);
+		
+		//IUDoubleLinkedList Node handles
+		if (DOUBLE_LINKED) {
+			testSingleElementList(emptyList_addToFrontNodeA_A, "emptyList_addToFrontNodeA_A", LIST_A, STRING_A);
+			testTwoElementList(A_addToRearNodeB_AB, "A_addToRearNodeB_AB", LIST_AB, STRING_AB);
+			testThreeElementList(AC_addNode1B_ABC, "AC_addNode1B_ABC", LIST_ABC, STRING_ABC);
+			testThreeElementList(AC_insertAfterNodeAB_ABC, "AC_insertAfterNodeAB_ABC", LIST_ABC, STRING_ABC);
+			testThreeElementList(AB_insertAfterNodeBC_ABC, "AB_insertAfterNodeBC_ABC", LIST_ABC, STRING_ABC);
+			testThreeElementList(AC_insertBeforeNodeCB_ABC, "AC_insertBeforeNodeCB_ABC", LIST_ABC, STRING_ABC);
+			testTwoElementList(A_insertBeforeNodeAB_BA, "A_insertBeforeNodeAB_BA", LIST_BA, STRING_BA);
+			testEmptyList(A_removeNodeA_empty, "A_removeNodeA_empty");
+			testTwoElementList(ABC_removeNodeB_AC, "ABC_removeNodeB_AC", LIST_AC, STRING_AC);
+			testThreeElementList(ABC_setNodeBToD_ADC, "ABC_setNodeBToD_ADC", LIST_ADC, STRING_ADC);
+			testThreeElementList(ABC_moveToFrontNodeC_CAB, "ABC_moveToFrontNodeC_CAB", LIST_CAB, STRING_CAB);
+			testThreeElementList(ABC_moveToBackNodeA_BCA, "ABC_moveToBackNodeA_BCA", LIST_BCA, STRING_BCA);
+			testThreeElementList(ABC_moveToFrontNodeA_ABC, "ABC_moveToFrontNodeA_ABC", LIST_ABC, STRING_ABC);
+		}
+		
 		//Iterator concurrency tests
 		test_IterConcurrency();
 		if (SUPPORTS_LIST_ITERATOR) {
 			test_ListIterConcurrency();
 		}
 
+		//Lists holding many equal elements
+		test_Duplicates();
+
+		//LRUCache, which is built on IUDoubleLinkedList Node handles
+		if (LIST_TO_USE == ListToUse.doubleLinkedList) {
+			test_LRUCache();
+		}
+
+		//IUDoubleLinkedList appendAll, splitAt and spliceAt
+		if (DOUBLE_LINKED) {
+			test_Splicing();
+		}
+
+		//IUDoubleLinkedList sort and parallelSort on long lists
+		if (DOUBLE_LINKED) {
+			test_Sorting();
+		}
+
+		//sortInts on long lists and bad elements
+		if (SORTS_INTS) {
+			test_SortInts();
+		}
+
+		//batched get, set and remove results and errors
+		test_BatchedIndexes();
+
+		//indexOfAny, containsAll, removeAll and retainAll results
+		test_MultiTarget();
+
+		//IUDoubleLinkedList snapshot iterators
+		if (DOUBLE_LINKED) {
+			test_SnapshotIter();
+		}
+
+		//IUDoubleLinkedList Node handles that outlive changes, or are no longer linked
+		if (DOUBLE_LINKED) {
+			test_NodeHandles();
+		}
+
+		//IntDoubleLinkedList and LongDoubleLinkedList beyond what the adapters expose
+		if (LIST_TO_USE == ListToUse.intDoubleLinkedList || LIST_TO_USE == ListToUse.longDoubleLinkedList) {
+			test_PrimitiveLists();
+		}
+
+		//IUOffHeapLinkedList elements its codec cannot write
+		if (LIST_TO_USE == ListToUse.offHeapLinkedList) {
+			test_OffHeapCodec();
+		}
+
+		//ListIterators walking long lists, such as IUPersistentList trees many levels deep
+		if (SUPPORTS_LIST_ITERATOR) {
+			test_LongListIter();
+		}
+
 		// report final verdict
 		printFinalSummary();
 	}
@@ -314,6 +504,30 @@ public class ListTester {
 		case doubleLinkedList:
 			listToUse = new IUDoubleLinkedList<Integer>();
 			break;
+		case indexedDoubleLinkedList:
+			listToUse = new IUDoubleLinkedList<Integer>(true);
+			break;
+		case hashedDoubleLinkedList:
+			listToUse = new IUDoubleLinkedList<Integer>(false, true);
+			break;
+		case unrolledLinkedList:
+			listToUse = new IUUnrolledLinkedList<Integer>(2); // tiny chunks so test lists span several
+			break;
+		case arrayLinkedList:
+			listToUse = new IUArrayLinkedList<Integer>();
+			break;
+		case offHeapLinkedList:
+			listToUse = new IUOffHeapLinkedList<Integer>(RecordCodec.integers());
+			break;
+		case persistentList:
+			listToUse = new IUPersistentList<Integer>();
+			break;
+		case intDoubleLinkedList:
+			listToUse = new IntListAdapter(); // the primitive lists run through boxing adapters
+			break;
+		case longDoubleLinkedList:
+			listToUse = new LongListAdapter();
+			break;
 		default:
 			listToUse = null;
 		}
@@ -539,6 +753,19 @@ public class ListTester {
 	}
 	private Scenario<Integer> AB_addTo2C_ABC = () -> AB_addTo2C_ABC();
 	
+	/** Scenario: [B,C] -> add(0, A) -> [A,B,C] 
+	 * @return [A,B,C] after add(0, A)
+	 */
+	private IndexedUnsortedList<Integer> BC_addTo0A_ABC() {
+		IndexedUnsortedList<Integer> list = newList();
+		list.addToRear(ELEMENT_B);
+		list.addToRear(ELEMENT_C);
+		
+		list.add(0, ELEMENT_A);
+		return list;
+	}
+	private Scenario<Integer> BC_addTo0A_ABC = () -> BC_addTo0A_ABC();
+	
 	/** Scenario: [A] -> set(0,B) -> [B]
 	 *  @return [B] after set(0,B)
 	 */
@@ -1061,6 +1288,41 @@ public class ListTester {
 	
 	private Scenario<Integer> ABCD_IterRemoveC_ABD = () -> ABCD_IterRemoveC_ABD();
 	
+	/**
+	 * Scenario: [AB] -> iterator next(), remove(), then addToRear(C) -> [BC]
+	 * @return [BC] after iterator remove() element A and addToRear(C)
+	 */
+	private IndexedUnsortedList<Integer> AB_IterRemoveA_addToRearC_BC() {
+		IndexedUnsortedList<Integer> list = newList();
+		list.addToRear(ELEMENT_A);
+		list.addToRear(ELEMENT_B);
+		Iterator<Integer> it1 = list.iterator();
+		it1.next();
+		it1.remove();
+		list.addToRear(ELEMENT_C);
+		return list;
+	}
+	
+	private Scenario<Integer> AB_IterRemoveA_addToRearC_BC = () -> AB_IterRemoveA_addToRearC_BC();
+	
+	/**
+	 * Scenario: [AB] -> iterator next(), next(), remove(), then addToRear(C) -> [AC]
+	 * @return [AC] after iterator remove() element B and addToRear(C)
+	 */
+	private IndexedUnsortedList<Integer> AB_IterRemoveB_addToRearC_AC() {
+		IndexedUnsortedList<Integer> list = newList();
+		list.addToRear(ELEMENT_A);
+		list.addToRear(ELEMENT_B);
+		Iterator<Integer> it1 = list.iterator();
+		it1.next();
+		it1.next();
+		it1.remove();
+		list.addToRear(ELEMENT_C);
+		return list;
+	}
+	
+	private Scenario<Integer> AB_IterRemoveB_addToRearC_AC = () -> AB_IterRemoveB_addToRearC_AC();
+	
 	
 	/////////////////////////////////
 	//XXX ListIterator Scenarios
@@ -1627,162 +1889,782 @@ public class ListTester {
 	
 	private Scenario<Integer> ABC_ListIterPreviousSetToD_ABD  = () -> ABC_ListIterPreviousSetToD_ABD();
 
-	/////////////////////////////////
-	//XXX Tests for 0-element list
-	/////////////////////////////////
-	
-	/** Run all tests on scenarios resulting in an empty list
-	 * @param scenario lambda reference to scenario builder method
-	 * @param scenarioName name of the scenario being tested
+	/////////////////////////////////////////////////////
+	//XXX IUDoubleLinkedList Scenarios
+	// Only built when DOUBLE_LINKED is true
+	/////////////////////////////////////////////////////
+
+	/**
+	 * Returns a new, empty IUDoubleLinkedList of the kind being tested.
+	 * @return newList() as an IUDoubleLinkedList
 	 */
-	private void testEmptyList(Scenario<Integer> scenario, String scenarioName) {
-		System.out.printf("\nSCENARIO: %s\n\n", scenarioName);
-		try {
-			// IndexedUnsortedList
-			printTest(scenarioName + "_testRemoveFirst", testRemoveFirst(scenario.build(), null, Result.NoSuchElement));
-			printTest(scenarioName + "_testRemoveLast", testRemoveLast(scenario.build(), null, Result.NoSuchElement));
-			printTest(scenarioName + "_testRemoveX", testRemoveElement(scenario.build(), null, Result.NoSuchElement));
-			printTest(scenarioName + "_testFirst", testFirst(scenario.build(), null, Result.NoSuchElement));
-			printTest(scenarioName + "_testLast", testLast(scenario.build(), null, Result.NoSuchElement));
-			printTest(scenarioName + "_testContainsX", testContains(scenario.build(), ELEMENT_X, Result.False));
-			printTest(scenarioName + "_testIsEmpty", testIsEmpty(scenario.build(), Result.True));
-			printTest(scenarioName + "_testSize", testSize(scenario.build(), 0));
-			printTest(scenarioName + "_testToString", testToString(scenario.build(), Result.ValidString));
-			printTest(scenarioName + "_testAddToFront", testAddToFront(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddToRear", testAddToRear(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAfterX", testAddAfter(scenario.build(), ELEMENT_X, ELEMENT_Z, Result.NoSuchElement));
-			printTest(scenarioName + "_testAddAtIndexNeg1", testAddAtIndex(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testAddAtIndex0", testAddAtIndex(scenario.build(), 0, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAtIndex1", testAddAtIndex(scenario.build(), 1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testSetNeg1", testSet(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testSet0", testSet(scenario.build(), 0, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testAddX", testAdd(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testGetNeg1", testGet(scenario.build(), -1, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testGet0", testGet(scenario.build(), 0, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testIndexOfX", testIndexOf(scenario.build(), ELEMENT_X, -1));
-			printTest(scenarioName + "_testRemoveNeg1", testRemoveIndex(scenario.build(), -1, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testRemove0", testRemoveIndex(scenario.build(), 0, null, Result.IndexOutOfBounds));
-			// Iterator
-			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
-			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.False));
-			printTest(scenarioName + "_testIterNext", testIterNext(scenario.build().iterator(), null, Result.NoSuchElement));
-			printTest(scenarioName + "_testIterRemove", testIterRemove(scenario.build().iterator(), Result.IllegalState));
-			
-			// ListIterator
-			if (SUPPORTS_LIST_ITERATOR) {
-			      printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
-			      printTest(scenarioName + "_testListIterNeg1", testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
-			      printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
-			      printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.IndexOutOfBounds));
-			      printTest(scenarioName + "_testListIterHasNext", testIterHasNext(scenario.build().listIterator(), Result.False));
-			      printTest(scenarioName + "_testListIterNext", testIterNext(scenario.build().listIterator(), null, Result.NoSuchElement));
-			      printTest(scenarioName + "_testListIterRemove", testIterRemove(scenario.build().listIterator(), Result.IllegalState));
-			      printTest(scenarioName + "_testListIterHasPrevious", testListIterHasPrevious(scenario.build().listIterator(), Result.False));
-			      printTest(scenarioName + "_testListIterPrevious", testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
-			      printTest(scenarioName + "_testListIterAdd", testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));			
-			      printTest(scenarioName + "_testListIterSet", testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
-			      printTest(scenarioName + "_testListIterNextIndex", testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
-			      printTest(scenarioName + "_testListIter0NextIndex", testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
-			      printTest(scenarioName + "_testListIterPreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
-			      printTest(scenarioName + "_testListIter0PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
-			} else {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
-				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.UnsupportedOperation));
-			}
-		} catch (Exception e) {
-			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", scenarioName + " TESTS");
-			e.printStackTrace();
-		} finally {
-			if (printSectionSummaries) {
-				printSectionSummary();
-			}
+	private IUDoubleLinkedList<Integer> newDoubleLinkedList() {
+		return (IUDoubleLinkedList<Integer>) newList();
+	}
+
+	/**
+	 * Returns a new IUDoubleLinkedList of the kind being tested holding the elements.
+	 * @param elements the elements to add, in order
+	 * @return a new IUDoubleLinkedList holding the elements
+	 */
+	private IUDoubleLinkedList<Integer> doubleLinkedListOf(Integer... elements) {
+		IUDoubleLinkedList<Integer> list = newDoubleLinkedList();
+		for (Integer element : elements) {
+			list.addToRear(element);
 		}
+		return list;
 	}
-	
-	//////////////////////////////////
-	//XXX Tests for 1-element list
-	//////////////////////////////////
-	
-	/** Run all tests on scenarios resulting in a single element list
-	 * @param scenario lambda reference to scenario builder method
-	 * @param scenarioName name of the scenario being tested
-	 * @param contents elements expected in the list after scenario has been set up
-	 * @param contentsString contains character labels corresponding to values in contents
+
+	/**
+	 * Scenario: [ ] -> appendAll([A,B]) -> [A,B]
+	 * @return [A,B] after appendAll([A,B])
 	 */
-	private void testSingleElementList(Scenario<Integer> scenario, String scenarioName, Integer[] contents, String contentsString) {
-		System.out.printf("\nSCENARIO: %s\n\n", scenarioName);
-		try {
-			// IndexedUnsortedList
-			printTest(scenarioName + "_testRemoveFirst", testRemoveFirst(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testRemoveLast", testRemoveLast(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testRemove" + contentsString.charAt(0), testRemoveElement(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testRemoveX", testRemoveElement(scenario.build(), ELEMENT_X, Result.NoSuchElement));
-			printTest(scenarioName + "_testFirst", testFirst(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testLast", testLast(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testContains" + contentsString.charAt(0), testContains(scenario.build(), contents[0], Result.True));
-			printTest(scenarioName + "_testContainsX", testContains(scenario.build(), ELEMENT_X, Result.False));
-			printTest(scenarioName + "_testIsEmpty", testIsEmpty(scenario.build(), Result.False));
-			printTest(scenarioName + "_testSize", testSize(scenario.build(), 1));
-			printTest(scenarioName + "_testToString", testToString(scenario.build(), Result.ValidString));
-			printTest(scenarioName + "_testAddToFront", testAddToFront(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddToRear", testAddToRear(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAfter" + contentsString.charAt(0), testAddAfter(scenario.build(), contents[0], ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAfterX", testAddAfter(scenario.build(), ELEMENT_X, ELEMENT_Z, Result.NoSuchElement));
-			printTest(scenarioName + "_testAddAtIndexNeg1", testAddAtIndex(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testAddAtIndex0", testAddAtIndex(scenario.build(), 0, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAtIndex1", testAddAtIndex(scenario.build(), 1, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAtIndex2", testAddAtIndex(scenario.build(), 2, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testSetNeg1", testSet(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testSet0", testSet(scenario.build(), 0, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testSet1", testSet(scenario.build(), 1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testAdd", testAdd(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testGetNeg1", testGet(scenario.build(), -1, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testGet0", testGet(scenario.build(), 0, contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testGet1", testGet(scenario.build(), 1, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testIndexOf" + contentsString.charAt(0), testIndexOf(scenario.build(), contents[0], 0));
-			printTest(scenarioName + "_testIndexOfX", testIndexOf(scenario.build(), ELEMENT_X, -1));
-			printTest(scenarioName + "_testRemoveNeg1", testRemoveIndex(scenario.build(), -1, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testRemove0", testRemoveIndex(scenario.build(), 0, contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testRemove1", testRemoveIndex(scenario.build(), 1, null, Result.IndexOutOfBounds));
-			// Iterator
-			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
-			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.True));
-			printTest(scenarioName + "_testIterNext", testIterNext(scenario.build().iterator(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testIterRemove", testIterRemove(scenario.build().iterator(), Result.IllegalState));
-			printTest(scenarioName + "_iterNext_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), 1), Result.False));
-			printTest(scenarioName + "_iterNext_testIterNext", testIterNext(iterAfterNext(scenario.build(), 1), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNext_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), 1), Result.NoException));
-			printTest(scenarioName + "_iterNextRemove_testIterHasNext", testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.False));
-			printTest(scenarioName + "_iterNextRemove_testIterNext", testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNextRemove_testIterRemove", testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.IllegalState));
-			// ListIterator
-			if (SUPPORTS_LIST_ITERATOR) {
-			      printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
-			      printTest(scenarioName + "_testListIterNeg1", testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
-			      printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
-			      printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.NoException));
-			      printTest(scenarioName + "_testListIter2", testListIter(scenario.build(), 2, Result.IndexOutOfBounds));
-			      printTest(scenarioName + "_testListIterHasNext", testIterHasNext(scenario.build().listIterator(), Result.True));
-			      printTest(scenarioName + "_testListIterNext", testIterNext(scenario.build().listIterator(), contents[0], Result.MatchingValue));
-			      printTest(scenarioName + "_testListIterNextIndex", testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
-			      printTest(scenarioName + "_testListIterHasPrevious", testListIterHasPrevious(scenario.build().listIterator(), Result.False));
-			      printTest(scenarioName + "_testListIterPrevious", testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
-			      printTest(scenarioName + "_testListIterPreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
-			      printTest(scenarioName + "_testListIterRemove", testIterRemove(scenario.build().listIterator(), Result.IllegalState));
-			      printTest(scenarioName + "_testListIterAdd", testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));			
-			      printTest(scenarioName + "_testListIterSet", testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
-			      printTest(scenarioName + "_testListIterNextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(), 1), Result.NoException));
-			      printTest(scenarioName + "_testListIterNextAdd", testListIterAdd(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));			
-			      printTest(scenarioName + "_testListIterNextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
-			      printTest(scenarioName + "_testListIterNextRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterNext(scenario.build().listIterator(), 1)), Result.IllegalState));
-			      printTest(scenarioName + "_testListIterNextPreviousRemove", testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), Result.NoException));
-			      printTest(scenarioName + "_testListIterNextPreviousRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1)), Result.IllegalState));
-			      printTest(scenarioName + "_testListIterNextPreviousAdd", testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));			
-			      printTest(scenarioName + "_testListIterNextPreviousSet", testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));
-			      printTest(scenarioName + "_testListIter0HasNext", testIterHasNext(scenario.build().listIterator(0), Result.True));
-			      printTest(scenarioName + "_testListIter0Next", testIterNext(scenario.build().listIterator(0), contents[0], Result.MatchingValue));
-			      printTest(scenarioName + "_testListIter0NextIndex", testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
-			      printTest(scenarioName + "_testListIter0HasPrevious", testListIterHasPrevious(scenario.build().listIterator(0), Result.False));
+	private IndexedUnsortedList<Integer> emptyList_appendAllAB_AB() {
+		IUDoubleLinkedList<Integer> list = newDoubleLinkedList();
+		list.appendAll(doubleLinkedListOf(ELEMENT_A, ELEMENT_B));
+		return list;
+	}
+	private Scenario<Integer> emptyList_appendAllAB_AB = () -> emptyList_appendAllAB_AB();
+
+	/**
+	 * Scenario: [A,B] -> appendAll([ ]) -> [A,B]
+	 * @return [A,B] after appendAll([ ])
+	 */
+	private IndexedUnsortedList<Integer> AB_appendAllEmpty_AB() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B);
+		list.appendAll(newDoubleLinkedList());
+		return list;
+	}
+	private Scenario<Integer> AB_appendAllEmpty_AB = () -> AB_appendAllEmpty_AB();
+
+	/**
+	 * Scenario: [A] -> appendAll([B,C]) -> [A,B,C]
+	 * @return [A,B,C] after appendAll([B,C])
+	 */
+	private IndexedUnsortedList<Integer> A_appendAllBC_ABC() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A);
+		list.appendAll(doubleLinkedListOf(ELEMENT_B, ELEMENT_C));
+		return list;
+	}
+	private Scenario<Integer> A_appendAllBC_ABC = () -> A_appendAllBC_ABC();
+
+	/**
+	 * Scenario: [A,B,C] -> splitAt(0) -> [ ]
+	 * @return the list that was [A,B,C], after splitAt(0)
+	 */
+	private IndexedUnsortedList<Integer> ABC_splitAt0_empty() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+		list.splitAt(0);
+		return list;
+	}
+	private Scenario<Integer> ABC_splitAt0_empty = () -> ABC_splitAt0_empty();
+
+	/**
+	 * Scenario: [A,B,C] -> splitAt(1) -> [A]
+	 * @return the list that was [A,B,C], after splitAt(1)
+	 */
+	private IndexedUnsortedList<Integer> ABC_splitAt1_A() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+		list.splitAt(1);
+		return list;
+	}
+	private Scenario<Integer> ABC_splitAt1_A = () -> ABC_splitAt1_A();
+
+	/**
+	 * Scenario: [A,B,C] -> splitAt(1) returns [B,C]
+	 * @return the list returned by splitAt(1)
+	 */
+	private IndexedUnsortedList<Integer> ABC_splitAt1Rest_BC() {
+		return doubleLinkedListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C).splitAt(1);
+	}
+	private Scenario<Integer> ABC_splitAt1Rest_BC = () -> ABC_splitAt1Rest_BC();
+
+	/**
+	 * Scenario: [A,B,C] -> splitAt(3) returns [ ]
+	 * @return the list returned by splitAt(3)
+	 */
+	private IndexedUnsortedList<Integer> ABC_splitAt3Rest_empty() {
+		return doubleLinkedListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C).splitAt(3);
+	}
+	private Scenario<Integer> ABC_splitAt3Rest_empty = () -> ABC_splitAt3Rest_empty();
+
+	/**
+	 * Scenario: [B,C] -> spliceAt(listIterator(), [A]) -> [A,B,C]
+	 * @return [A,B,C] after splicing [A] in at index 0
+	 */
+	private IndexedUnsortedList<Integer> BC_spliceAt0A_ABC() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_B, ELEMENT_C);
+		list.spliceAt(list.listIterator(), doubleLinkedListOf(ELEMENT_A));
+		return list;
+	}
+	private Scenario<Integer> BC_spliceAt0A_ABC = () -> BC_spliceAt0A_ABC();
+
+	/**
+	 * Scenario: [A,C] -> spliceAt(iterator after next(), [B]) -> [A,B,C]
+	 * @return [A,B,C] after splicing [B] in at index 1
+	 */
+	private IndexedUnsortedList<Integer> AC_spliceAt1B_ABC() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A, ELEMENT_C);
+		ListIterator<Integer> it = list.listIterator();
+		it.next();
+		list.spliceAt(it, doubleLinkedListOf(ELEMENT_B));
+		return list;
+	}
+	private Scenario<Integer> AC_spliceAt1B_ABC = () -> AC_spliceAt1B_ABC();
+
+	/**
+	 * Scenario: [A] -> spliceAt(listIterator(1), [B,C]) -> [A,B,C]
+	 * @return [A,B,C] after splicing [B,C] in at the end
+	 */
+	private IndexedUnsortedList<Integer> A_spliceAt1BC_ABC() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A);
+		list.spliceAt(list.listIterator(1), doubleLinkedListOf(ELEMENT_B, ELEMENT_C));
+		return list;
+	}
+	private Scenario<Integer> A_spliceAt1BC_ABC = () -> A_spliceAt1BC_ABC();
+
+	// orders odd elements after even ones, so A and C compare equal
+	private static final Comparator<Integer> BY_PARITY = Comparator.comparingInt(e -> Math.abs(e % 2));
+
+	/**
+	 * Scenario: [A] -> sort(null) -> [A]
+	 * @return [A] after sort(null)
+	 */
+	private IndexedUnsortedList<Integer> A_sort_A() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A);
+		list.sort(null);
+		return list;
+	}
+	private Scenario<Integer> A_sort_A = () -> A_sort_A();
+
+	/**
+	 * Scenario: [C,B,A] -> sort(null) -> [A,B,C]
+	 * @return [A,B,C] after sort(null)
+	 */
+	private IndexedUnsortedList<Integer> CBA_sort_ABC() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_C, ELEMENT_B, ELEMENT_A);
+		list.sort(null);
+		return list;
+	}
+	private Scenario<Integer> CBA_sort_ABC = () -> CBA_sort_ABC();
+
+	/**
+	 * Scenario: [A,B,C] -> sort(reverseOrder) -> [C,B,A]
+	 * @return [C,B,A] after sort(Comparator.reverseOrder())
+	 */
+	private IndexedUnsortedList<Integer> ABC_sortReversed_CBA() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+		list.sort(Comparator.reverseOrder());
+		return list;
+	}
+	private Scenario<Integer> ABC_sortReversed_CBA = () -> ABC_sortReversed_CBA();
+
+	/**
+	 * Scenario: [A,B,C] -> sort(BY_PARITY) -> [B,A,C], A still before C
+	 * @return [B,A,C] after sort(BY_PARITY)
+	 */
+	private IndexedUnsortedList<Integer> ABC_sortByParity_BAC() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+		list.sort(BY_PARITY);
+		return list;
+	}
+	private Scenario<Integer> ABC_sortByParity_BAC = () -> ABC_sortByParity_BAC();
+
+	/**
+	 * Scenario: [C,B,A] -> sort(BY_PARITY) -> [B,C,A], C still before A
+	 * @return [B,C,A] after sort(BY_PARITY)
+	 */
+	private IndexedUnsortedList<Integer> CBA_sortByParity_BCA() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_C, ELEMENT_B, ELEMENT_A);
+		list.sort(BY_PARITY);
+		return list;
+	}
+	private Scenario<Integer> CBA_sortByParity_BCA = () -> CBA_sortByParity_BCA();
+
+	/**
+	 * Scenario: [C,B,A] -> parallelSort(null) -> [A,B,C]
+	 * @return [A,B,C] after parallelSort(null)
+	 */
+	private IndexedUnsortedList<Integer> CBA_parallelSort_ABC() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_C, ELEMENT_B, ELEMENT_A);
+		list.parallelSort(null);
+		return list;
+	}
+	private Scenario<Integer> CBA_parallelSort_ABC = () -> CBA_parallelSort_ABC();
+
+	/**
+	 * Scenario: [C,B,A] -> parallelSort(BY_PARITY) -> [B,C,A], C still before A
+	 * @return [B,C,A] after parallelSort(BY_PARITY)
+	 */
+	private IndexedUnsortedList<Integer> CBA_parallelSortByParity_BCA() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_C, ELEMENT_B, ELEMENT_A);
+		list.parallelSort(BY_PARITY);
+		return list;
+	}
+	private Scenario<Integer> CBA_parallelSortByParity_BCA = () -> CBA_parallelSortByParity_BCA();
+
+	/////////////////////////////////////////////////////
+	//XXX sortInts Scenarios
+	// Only built when SORTS_INTS is true
+	/////////////////////////////////////////////////////
+
+	/**
+	 * Calls sortInts on any list that has it.
+	 * @param list an IUArrayList, IUSingleLinkedList or IUDoubleLinkedList
+	 */
+	private void sortInts(IndexedUnsortedList<?> list) {
+		if (list instanceof IUArrayList) {
+			((IUArrayList<?>) list).sortInts();
+		} else if (list instanceof IUSingleLinkedList) {
+			((IUSingleLinkedList<?>) list).sortInts();
+		} else {
+			((IUDoubleLinkedList<?>) list).sortInts();
+		}
+	}
+
+	/**
+	 * Scenario: [ ] -> sortInts() -> [ ]
+	 * @return [ ] after sortInts()
+	 */
+	private IndexedUnsortedList<Integer> emptyList_sortInts_empty() {
+		IndexedUnsortedList<Integer> list = newList();
+		sortInts(list);
+		return list;
+	}
+	private Scenario<Integer> emptyList_sortInts_empty = () -> emptyList_sortInts_empty();
+
+	/**
+	 * Scenario: [A] -> sortInts() -> [A]
+	 * @return [A] after sortInts()
+	 */
+	private IndexedUnsortedList<Integer> A_sortInts_A() {
+		IndexedUnsortedList<Integer> list = newList();
+		list.addToRear(ELEMENT_A);
+		sortInts(list);
+		return list;
+	}
+	private Scenario<Integer> A_sortInts_A = () -> A_sortInts_A();
+
+	/**
+	 * Scenario: [B,A] -> sortInts() -> [A,B]
+	 * @return [A,B] after sortInts()
+	 */
+	private IndexedUnsortedList<Integer> BA_sortInts_AB() {
+		IndexedUnsortedList<Integer> list = newList();
+		list.addToRear(ELEMENT_B);
+		list.addToRear(ELEMENT_A);
+		sortInts(list);
+		return list;
+	}
+	private Scenario<Integer> BA_sortInts_AB = () -> BA_sortInts_AB();
+
+	/**
+	 * Scenario: [C,B,A] -> sortInts() -> [A,B,C]
+	 * @return [A,B,C] after sortInts()
+	 */
+	private IndexedUnsortedList<Integer> CBA_sortInts_ABC() {
+		IndexedUnsortedList<Integer> list = newList();
+		list.addToRear(ELEMENT_C);
+		list.addToRear(ELEMENT_B);
+		list.addToRear(ELEMENT_A);
+		sortInts(list);
+		return list;
+	}
+	private Scenario<Integer> CBA_sortInts_ABC = () -> CBA_sortInts_ABC();
+
+	/**
+	 * Scenario: [C,A,B] built with addToFront -> sortInts() -> [A,B,C]
+	 * @return [A,B,C] after sortInts()
+	 */
+	private IndexedUnsortedList<Integer> CAB_sortInts_ABC() {
+		IndexedUnsortedList<Integer> list = newList();
+		list.addToFront(ELEMENT_B);
+		list.addToFront(ELEMENT_A);
+		list.addToFront(ELEMENT_C);
+		sortInts(list);
+		return list;
+	}
+	private Scenario<Integer> CAB_sortInts_ABC = () -> CAB_sortInts_ABC();
+
+	/**
+	 * Scenario: [A,B,C] -> sortInts() -> [A,B,C]
+	 * @return [A,B,C] after sortInts()
+	 */
+	private IndexedUnsortedList<Integer> ABC_sortInts_ABC() {
+		IndexedUnsortedList<Integer> list = newList();
+		list.addToRear(ELEMENT_A);
+		list.addToRear(ELEMENT_B);
+		list.addToRear(ELEMENT_C);
+		sortInts(list);
+		return list;
+	}
+	private Scenario<Integer> ABC_sortInts_ABC = () -> ABC_sortInts_ABC();
+
+	/////////////////////////////////////////////////////
+	//XXX Batched Index Scenarios
+	/////////////////////////////////////////////////////
+
+	/**
+	 * Scenario: [A,B,C] -> remove({0,1,2}) -> [ ]
+	 * @return [ ] after remove(new int[] {0, 1, 2})
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeIndexes012_empty() {
+		IndexedUnsortedList<Integer> list = A_addToRearB_AB();
+		list.addToRear(ELEMENT_C);
+		list.remove(new int[] {0, 1, 2});
+		return list;
+	}
+	private Scenario<Integer> ABC_removeIndexes012_empty = () -> ABC_removeIndexes012_empty();
+
+	/**
+	 * Scenario: [A,B,C] -> remove({2,0}) -> [B]
+	 * @return [B] after remove(new int[] {2, 0})
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeIndexes20_B() {
+		IndexedUnsortedList<Integer> list = A_addToRearB_AB();
+		list.addToRear(ELEMENT_C);
+		list.remove(new int[] {2, 0});
+		return list;
+	}
+	private Scenario<Integer> ABC_removeIndexes20_B = () -> ABC_removeIndexes20_B();
+
+	/**
+	 * Scenario: [A,B,C] -> remove({1}) -> [A,C]
+	 * @return [A,C] after remove(new int[] {1})
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeIndexes1_AC() {
+		IndexedUnsortedList<Integer> list = A_addToRearB_AB();
+		list.addToRear(ELEMENT_C);
+		list.remove(new int[] {1});
+		return list;
+	}
+	private Scenario<Integer> ABC_removeIndexes1_AC = () -> ABC_removeIndexes1_AC();
+
+	/**
+	 * Scenario: [A,B] -> set({}, {}) -> [A,B]
+	 * @return [A,B] after set with no indexes
+	 */
+	private IndexedUnsortedList<Integer> AB_setNoIndexes_AB() {
+		IndexedUnsortedList<Integer> list = A_addToRearB_AB();
+		list.set(new int[0], new Integer[0]);
+		return list;
+	}
+	private Scenario<Integer> AB_setNoIndexes_AB = () -> AB_setNoIndexes_AB();
+
+	/**
+	 * Scenario: [A,B,C] -> set({2,0}, {A,D}) -> [D,B,A]
+	 * @return [D,B,A] after set(new int[] {2, 0}, {A, D})
+	 */
+	private IndexedUnsortedList<Integer> ABC_setIndexes20ToAD_DBA() {
+		IndexedUnsortedList<Integer> list = A_addToRearB_AB();
+		list.addToRear(ELEMENT_C);
+		list.set(new int[] {2, 0}, new Integer[] {ELEMENT_A, ELEMENT_D});
+		return list;
+	}
+	private Scenario<Integer> ABC_setIndexes20ToAD_DBA = () -> ABC_setIndexes20ToAD_DBA();
+
+	/**
+	 * Scenario: [A,B,C] -> set({1,1}, {C,D}) -> [A,D,C], the last element for an index wins
+	 * @return [A,D,C] after set(new int[] {1, 1}, {C, D})
+	 */
+	private IndexedUnsortedList<Integer> ABC_setIndexes11ToCD_ADC() {
+		IndexedUnsortedList<Integer> list = A_addToRearB_AB();
+		list.addToRear(ELEMENT_C);
+		list.set(new int[] {1, 1}, new Integer[] {ELEMENT_C, ELEMENT_D});
+		return list;
+	}
+	private Scenario<Integer> ABC_setIndexes11ToCD_ADC = () -> ABC_setIndexes11ToCD_ADC();
+
+	/////////////////////////////////////////////////////
+	//XXX Multi-Target Scenarios
+	/////////////////////////////////////////////////////
+
+	/**
+	 * Scenario: [A,B,C] -> removeAll({A,B,C}) -> [ ]
+	 * @return [ ] after removeAll([A,B,C])
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeAllABC_empty() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeAll(Arrays.asList(ELEMENT_A, ELEMENT_B, ELEMENT_C));
+		return list;
+	}
+	private Scenario<Integer> ABC_removeAllABC_empty = () -> ABC_removeAllABC_empty();
+
+	/**
+	 * Scenario: [A,B,C] -> removeAll({C,A}) -> [B]
+	 * @return [B] after removeAll([C,A])
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeAllCA_B() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeAll(Arrays.asList(ELEMENT_C, ELEMENT_A));
+		return list;
+	}
+	private Scenario<Integer> ABC_removeAllCA_B = () -> ABC_removeAllCA_B();
+
+	/**
+	 * Scenario: [A,B,C] -> removeAll({X,Z}) -> [A,B,C]
+	 * @return [A,B,C] after removeAll([X,Z])
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeAllXZ_ABC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeAll(Arrays.asList(ELEMENT_X, ELEMENT_Z));
+		return list;
+	}
+	private Scenario<Integer> ABC_removeAllXZ_ABC = () -> ABC_removeAllXZ_ABC();
+
+	/**
+	 * Scenario: [A,B,C] -> retainAll({ }) -> [ ]
+	 * @return [ ] after retainAll([ ])
+	 */
+	private IndexedUnsortedList<Integer> ABC_retainAllNone_empty() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.retainAll(new ArrayList<Integer>());
+		return list;
+	}
+	private Scenario<Integer> ABC_retainAllNone_empty = () -> ABC_retainAllNone_empty();
+
+	/**
+	 * Scenario: [A,B,C] -> retainAll({B,D}) -> [B]
+	 * @return [B] after retainAll([B,D])
+	 */
+	private IndexedUnsortedList<Integer> ABC_retainAllBD_B() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.retainAll(Arrays.asList(ELEMENT_B, ELEMENT_D));
+		return list;
+	}
+	private Scenario<Integer> ABC_retainAllBD_B = () -> ABC_retainAllBD_B();
+
+	/**
+	 * Scenario: [A,B,C] -> retainAll({C,A,X}) -> [A,C]
+	 * @return [A,C] after retainAll([C,A,X])
+	 */
+	private IndexedUnsortedList<Integer> ABC_retainAllCAX_AC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.retainAll(Arrays.asList(ELEMENT_C, ELEMENT_A, ELEMENT_X));
+		return list;
+	}
+	private Scenario<Integer> ABC_retainAllCAX_AC = () -> ABC_retainAllCAX_AC();
+
+	/**
+	 * Scenario: [A,B,C] -> retainAll({A,B,C}) -> [A,B,C]
+	 * @return [A,B,C] after retainAll([A,B,C])
+	 */
+	private IndexedUnsortedList<Integer> ABC_retainAllABC_ABC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.retainAll(Arrays.asList(ELEMENT_A, ELEMENT_B, ELEMENT_C));
+		return list;
+	}
+	private Scenario<Integer> ABC_retainAllABC_ABC = () -> ABC_retainAllABC_ABC();
+
+	/////////////////////////////////////////////////////
+	//XXX IUDoubleLinkedList Node Handle Scenarios
+	// Only built when DOUBLE_LINKED is true
+	/////////////////////////////////////////////////////
+
+	/**
+	 * Scenario: [ ] -> addToFrontNode(A) -> [A]
+	 * @return [A] after addToFrontNode(A)
+	 */
+	private IndexedUnsortedList<Integer> emptyList_addToFrontNodeA_A() {
+		IUDoubleLinkedList<Integer> list = newDoubleLinkedList();
+		list.addToFrontNode(ELEMENT_A);
+		return list;
+	}
+	private Scenario<Integer> emptyList_addToFrontNodeA_A = () -> emptyList_addToFrontNodeA_A();
+
+	/**
+	 * Scenario: [A] -> addToRearNode(B) -> [A,B]
+	 * @return [A,B] after addToRearNode(B)
+	 */
+	private IndexedUnsortedList<Integer> A_addToRearNodeB_AB() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A);
+		list.addToRearNode(ELEMENT_B);
+		return list;
+	}
+	private Scenario<Integer> A_addToRearNodeB_AB = () -> A_addToRearNodeB_AB();
+
+	/**
+	 * Scenario: [A,C] -> addNode(1, B) -> [A,B,C]
+	 * @return [A,B,C] after addNode(1, B)
+	 */
+	private IndexedUnsortedList<Integer> AC_addNode1B_ABC() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A, ELEMENT_C);
+		list.addNode(1, ELEMENT_B);
+		return list;
+	}
+	private Scenario<Integer> AC_addNode1B_ABC = () -> AC_addNode1B_ABC();
+
+	/**
+	 * Scenario: [A,C] -> insertAfter(node A, B) -> [A,B,C]
+	 * @return [A,B,C] after insertAfter(node A, B)
+	 */
+	private IndexedUnsortedList<Integer> AC_insertAfterNodeAB_ABC() {
+		IUDoubleLinkedList<Integer> list = newDoubleLinkedList();
+		Node<Integer> nodeA = list.addToRearNode(ELEMENT_A);
+		list.addToRear(ELEMENT_C);
+		list.insertAfter(nodeA, ELEMENT_B);
+		return list;
+	}
+	private Scenario<Integer> AC_insertAfterNodeAB_ABC = () -> AC_insertAfterNodeAB_ABC();
+
+	/**
+	 * Scenario: [A,B] -> insertAfter(node B, C) -> [A,B,C]
+	 * @return [A,B,C] after insertAfter(node B, C)
+	 */
+	private IndexedUnsortedList<Integer> AB_insertAfterNodeBC_ABC() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A);
+		Node<Integer> nodeB = list.addToRearNode(ELEMENT_B);
+		list.insertAfter(nodeB, ELEMENT_C);
+		return list;
+	}
+	private Scenario<Integer> AB_insertAfterNodeBC_ABC = () -> AB_insertAfterNodeBC_ABC();
+
+	/**
+	 * Scenario: [A,C] -> insertBefore(node C, B) -> [A,B,C]
+	 * @return [A,B,C] after insertBefore(node C, B)
+	 */
+	private IndexedUnsortedList<Integer> AC_insertBeforeNodeCB_ABC() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A);
+		Node<Integer> nodeC = list.addToRearNode(ELEMENT_C);
+		list.insertBefore(nodeC, ELEMENT_B);
+		return list;
+	}
+	private Scenario<Integer> AC_insertBeforeNodeCB_ABC = () -> AC_insertBeforeNodeCB_ABC();
+
+	/**
+	 * Scenario: [A] -> insertBefore(node A, B) -> [B,A]
+	 * @return [B,A] after insertBefore(node A, B)
+	 */
+	private IndexedUnsortedList<Integer> A_insertBeforeNodeAB_BA() {
+		IUDoubleLinkedList<Integer> list = newDoubleLinkedList();
+		Node<Integer> nodeA = list.addToFrontNode(ELEMENT_A);
+		list.insertBefore(nodeA, ELEMENT_B);
+		return list;
+	}
+	private Scenario<Integer> A_insertBeforeNodeAB_BA = () -> A_insertBeforeNodeAB_BA();
+
+	/**
+	 * Scenario: [A] -> removeNode(node A) -> [ ]
+	 * @return [ ] after removeNode(node A)
+	 */
+	private IndexedUnsortedList<Integer> A_removeNodeA_empty() {
+		IUDoubleLinkedList<Integer> list = newDoubleLinkedList();
+		list.removeNode(list.addToRearNode(ELEMENT_A));
+		return list;
+	}
+	private Scenario<Integer> A_removeNodeA_empty = () -> A_removeNodeA_empty();
+
+	/**
+	 * Scenario: [A,B,C] -> removeNode(node B) -> [A,C]
+	 * @return [A,C] after removeNode(node B)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeNodeB_AC() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A, ELEMENT_C);
+		list.removeNode(list.addNode(1, ELEMENT_B));
+		return list;
+	}
+	private Scenario<Integer> ABC_removeNodeB_AC = () -> ABC_removeNodeB_AC();
+
+	/**
+	 * Scenario: [A,B,C] -> set(node B, D) -> [A,D,C]
+	 * @return [A,D,C] after set(node B, D)
+	 */
+	private IndexedUnsortedList<Integer> ABC_setNodeBToD_ADC() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A, ELEMENT_C);
+		list.set(list.addNode(1, ELEMENT_B), ELEMENT_D);
+		return list;
+	}
+	private Scenario<Integer> ABC_setNodeBToD_ADC = () -> ABC_setNodeBToD_ADC();
+
+	/**
+	 * Scenario: [A,B,C] -> moveToFront(node C) -> [C,A,B]
+	 * @return [C,A,B] after moveToFront(node C)
+	 */
+	private IndexedUnsortedList<Integer> ABC_moveToFrontNodeC_CAB() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B);
+		list.moveToFront(list.addToRearNode(ELEMENT_C));
+		return list;
+	}
+	private Scenario<Integer> ABC_moveToFrontNodeC_CAB = () -> ABC_moveToFrontNodeC_CAB();
+
+	/**
+	 * Scenario: [A,B,C] -> moveToBack(node A) -> [B,C,A]
+	 * @return [B,C,A] after moveToBack(node A)
+	 */
+	private IndexedUnsortedList<Integer> ABC_moveToBackNodeA_BCA() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_B, ELEMENT_C);
+		list.moveToBack(list.addToFrontNode(ELEMENT_A));
+		return list;
+	}
+	private Scenario<Integer> ABC_moveToBackNodeA_BCA = () -> ABC_moveToBackNodeA_BCA();
+
+	/**
+	 * Scenario: [A,B,C] -> moveToFront(node A) -> [A,B,C]
+	 * @return [A,B,C] after moveToFront(node A)
+	 */
+	private IndexedUnsortedList<Integer> ABC_moveToFrontNodeA_ABC() {
+		IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_B, ELEMENT_C);
+		list.moveToFront(list.addToFrontNode(ELEMENT_A));
+		return list;
+	}
+	private Scenario<Integer> ABC_moveToFrontNodeA_ABC = () -> ABC_moveToFrontNodeA_ABC();
+
+	/////////////////////////////////
+	//XXX Tests for 0-element list
+	/////////////////////////////////
+	
+	/** Run all tests on scenarios resulting in an empty list
+	 * @param scenario lambda reference to scenario builder method
+	 * @param scenarioName name of the scenario being tested
+	 */
+	private void testEmptyList(Scenario<Integer> scenario, String scenarioName) {
+		System.out.printf("\nSCENARIO: %s\n\n", scenarioName);
+		try {
+			// IndexedUnsortedList
+			printTest(scenarioName + "_testRemoveFirst", testRemoveFirst(scenario.build(), null, Result.NoSuchElement));
+			printTest(scenarioName + "_testRemoveLast", testRemoveLast(scenario.build(), null, Result.NoSuchElement));
+			printTest(scenarioName + "_testRemoveX", testRemoveElement(scenario.build(), null, Result.NoSuchElement));
+			printTest(scenarioName + "_testFirst", testFirst(scenario.build(), null, Result.NoSuchElement));
+			printTest(scenarioName + "_testLast", testLast(scenario.build(), null, Result.NoSuchElement));
+			printTest(scenarioName + "_testContainsX", testContains(scenario.build(), ELEMENT_X, Result.False));
+			printTest(scenarioName + "_testIsEmpty", testIsEmpty(scenario.build(), Result.True));
+			printTest(scenarioName + "_testSize", testSize(scenario.build(), 0));
+			printTest(scenarioName + "_testToString", testToString(scenario.build(), Result.ValidString));
+			printTest(scenarioName + "_testAddToFront", testAddToFront(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddToRear", testAddToRear(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAfterX", testAddAfter(scenario.build(), ELEMENT_X, ELEMENT_Z, Result.NoSuchElement));
+			printTest(scenarioName + "_testAddAtIndexNeg1", testAddAtIndex(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testAddAtIndex0", testAddAtIndex(scenario.build(), 0, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAtIndex1", testAddAtIndex(scenario.build(), 1, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testSetNeg1", testSet(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testSet0", testSet(scenario.build(), 0, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testAddX", testAdd(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testGetNeg1", testGet(scenario.build(), -1, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testGet0", testGet(scenario.build(), 0, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testIndexOfX", testIndexOf(scenario.build(), ELEMENT_X, -1));
+			printTest(scenarioName + "_testRemoveNeg1", testRemoveIndex(scenario.build(), -1, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testRemove0", testRemoveIndex(scenario.build(), 0, null, Result.IndexOutOfBounds));
+			// Iterator
+			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
+			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.False));
+			printTest(scenarioName + "_testIterNext", testIterNext(scenario.build().iterator(), null, Result.NoSuchElement));
+			printTest(scenarioName + "_testIterRemove", testIterRemove(scenario.build().iterator(), Result.IllegalState));
+			
+			// ListIterator
+			if (SUPPORTS_LIST_ITERATOR) {
+			      printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
+			      printTest(scenarioName + "_testListIterNeg1", testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
+			      printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
+			      printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.IndexOutOfBounds));
+			      printTest(scenarioName + "_testListIterHasNext", testIterHasNext(scenario.build().listIterator(), Result.False));
+			      printTest(scenarioName + "_testListIterNext", testIterNext(scenario.build().listIterator(), null, Result.NoSuchElement));
+			      printTest(scenarioName + "_testListIterRemove", testIterRemove(scenario.build().listIterator(), Result.IllegalState));
+			      printTest(scenarioName + "_testListIterHasPrevious", testListIterHasPrevious(scenario.build().listIterator(), Result.False));
+			      printTest(scenarioName + "_testListIterPrevious", testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
+			      printTest(scenarioName + "_testListIterAdd", testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));			
+			      printTest(scenarioName + "_testListIterSet", testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
+			      printTest(scenarioName + "_testListIterNextIndex", testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
+			      printTest(scenarioName + "_testListIter0NextIndex", testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
+			      printTest(scenarioName + "_testListIterPreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
+			      printTest(scenarioName + "_testListIter0PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
+			} else {
+				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
+				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.UnsupportedOperation));
+			}
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", scenarioName + " TESTS");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+	
+	//////////////////////////////////
+	//XXX Tests for 1-element list
+	//////////////////////////////////
+	
+	/** Run all tests on scenarios resulting in a single element list
+	 * @param scenario lambda reference to scenario builder method
+	 * @param scenarioName name of the scenario being tested
+	 * @param contents elements expected in the list after scenario has been set up
+	 * @param contentsString contains character labels corresponding to values in contents
+	 */
+	private void testSingleElementList(Scenario<Integer> scenario, String scenarioName, Integer[] contents, String contentsString) {
+		System.out.printf("\nSCENARIO: %s\n\n", scenarioName);
+		try {
+			// IndexedUnsortedList
+			printTest(scenarioName + "_testRemoveFirst", testRemoveFirst(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testRemoveLast", testRemoveLast(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testRemove" + contentsString.charAt(0), testRemoveElement(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testRemoveX", testRemoveElement(scenario.build(), ELEMENT_X, Result.NoSuchElement));
+			printTest(scenarioName + "_testFirst", testFirst(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testLast", testLast(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testContains" + contentsString.charAt(0), testContains(scenario.build(), contents[0], Result.True));
+			printTest(scenarioName + "_testContainsX", testContains(scenario.build(), ELEMENT_X, Result.False));
+			printTest(scenarioName + "_testIsEmpty", testIsEmpty(scenario.build(), Result.False));
+			printTest(scenarioName + "_testSize", testSize(scenario.build(), 1));
+			printTest(scenarioName + "_testToString", testToString(scenario.build(), Result.ValidString));
+			printTest(scenarioName + "_testAddToFront", testAddToFront(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddToRear", testAddToRear(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAfter" + contentsString.charAt(0), testAddAfter(scenario.build(), contents[0], ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAfterX", testAddAfter(scenario.build(), ELEMENT_X, ELEMENT_Z, Result.NoSuchElement));
+			printTest(scenarioName + "_testAddAtIndexNeg1", testAddAtIndex(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testAddAtIndex0", testAddAtIndex(scenario.build(), 0, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAtIndex1", testAddAtIndex(scenario.build(), 1, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAtIndex2", testAddAtIndex(scenario.build(), 2, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testSetNeg1", testSet(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testSet0", testSet(scenario.build(), 0, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testSet1", testSet(scenario.build(), 1, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testAdd", testAdd(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testGetNeg1", testGet(scenario.build(), -1, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testGet0", testGet(scenario.build(), 0, contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testGet1", testGet(scenario.build(), 1, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testIndexOf" + contentsString.charAt(0), testIndexOf(scenario.build(), contents[0], 0));
+			printTest(scenarioName + "_testIndexOfX", testIndexOf(scenario.build(), ELEMENT_X, -1));
+			printTest(scenarioName + "_testRemoveNeg1", testRemoveIndex(scenario.build(), -1, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testRemove0", testRemoveIndex(scenario.build(), 0, contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testRemove1", testRemoveIndex(scenario.build(), 1, null, Result.IndexOutOfBounds));
+			// Iterator
+			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
+			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.True));
+			printTest(scenarioName + "_testIterNext", testIterNext(scenario.build().iterator(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testIterRemove", testIterRemove(scenario.build().iterator(), Result.IllegalState));
+			printTest(scenarioName + "_iterNext_testIterHasNext", testIterHasNext(iterAfterNext(scenario.build(), 1), Result.False));
+			printTest(scenarioName + "_iterNext_testIterNext", testIterNext(iterAfterNext(scenario.build(), 1), null, Result.NoSuchElement));
+			printTest(scenarioName + "_iterNext_testIterRemove", testIterRemove(iterAfterNext(scenario.build(), 1), Result.NoException));
+			printTest(scenarioName + "_iterNextRemove_testIterHasNext", testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.False));
+			printTest(scenarioName + "_iterNextRemove_testIterNext", testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), null, Result.NoSuchElement));
+			printTest(scenarioName + "_iterNextRemove_testIterRemove", testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.IllegalState));
+			// ListIterator
+			if (SUPPORTS_LIST_ITERATOR) {
+			      printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
+			      printTest(scenarioName + "_testListIterNeg1", testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
+			      printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
+			      printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.NoException));
+			      printTest(scenarioName + "_testListIter2", testListIter(scenario.build(), 2, Result.IndexOutOfBounds));
+			      printTest(scenarioName + "_testListIterHasNext", testIterHasNext(scenario.build().listIterator(), Result.True));
+			      printTest(scenarioName + "_testListIterNext", testIterNext(scenario.build().listIterator(), contents[0], Result.MatchingValue));
+			      printTest(scenarioName + "_testListIterNextIndex", testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
+			      printTest(scenarioName + "_testListIterHasPrevious", testListIterHasPrevious(scenario.build().listIterator(), Result.False));
+			      printTest(scenarioName + "_testListIterPrevious", testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
+			      printTest(scenarioName + "_testListIterPreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
+			      printTest(scenarioName + "_testListIterRemove", testIterRemove(scenario.build().listIterator(), Result.IllegalState));
+			      printTest(scenarioName + "_testListIterAdd", testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));			
+			      printTest(scenarioName + "_testListIterSet", testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
+			      printTest(scenarioName + "_testListIterNextRemove", testIterRemove(listIterAfterNext(scenario.build().listIterator(), 1), Result.NoException));
+			      printTest(scenarioName + "_testListIterNextAdd", testListIterAdd(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));			
+			      printTest(scenarioName + "_testListIterNextSet", testListIterSet(listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
+			      printTest(scenarioName + "_testListIterNextRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterNext(scenario.build().listIterator(), 1)), Result.IllegalState));
+			      printTest(scenarioName + "_testListIterNextPreviousRemove", testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), Result.NoException));
+			      printTest(scenarioName + "_testListIterNextPreviousRemoveRemove", testIterRemove(listIterAfterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1)), Result.IllegalState));
+			      printTest(scenarioName + "_testListIterNextPreviousAdd", testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));			
+			      printTest(scenarioName + "_testListIterNextPreviousSet", testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1), ELEMENT_X, Result.NoException));
+			      printTest(scenarioName + "_testListIter0HasNext", testIterHasNext(scenario.build().listIterator(0), Result.True));
+			      printTest(scenarioName + "_testListIter0Next", testIterNext(scenario.build().listIterator(0), contents[0], Result.MatchingValue));
+			      printTest(scenarioName + "_testListIter0NextIndex", testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
+			      printTest(scenarioName + "_testListIter0HasPrevious", testListIterHasPrevious(scenario.build().listIterator(0), Result.False));
 			      printTest(scenarioName + "_testListIter0Previous", testListIterPrevious(scenario.build().listIterator(0), null, Result.NoSuchElement));
 			      printTest(scenarioName + "_testListIter0PreviousIndex", testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
 			      printTest(scenarioName + "_testListIter0Remove", testIterRemove(scenario.build().listIterator(0), Result.IllegalState));
@@ -2278,302 +3160,568 @@ public class ListTester {
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testAddToFront(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
+	private boolean testAddToFront(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
+		Result result;
+		try {
+			list.addToFront(element);
+			result = Result.NoException;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testAddToFront",  e.toString());
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs addToRear() method on a given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param element
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testAddToRear(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
+		Result result;
+		try {
+			list.addToRear(element);
+			result = Result.NoException;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testAddToRear", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs addAfter() method on a given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param target
+	 * @param element
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testAddAfter(IndexedUnsortedList<Integer> list, Integer target, Integer element, Result expectedResult) {
+		Result result;
+		try {
+			list.addAfter(element, target);
+			result = Result.NoException;
+		} catch (NoSuchElementException e) {
+			result = Result.NoSuchElement;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testAddAfter", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs add(int, T) method on a given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param index
+	 * @param element
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testAddAtIndex(IndexedUnsortedList<Integer> list, int index, Integer element, Result expectedResult) {
+		Result result;
+		try {
+			list.add(index, element);
+			result = Result.NoException;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testAddAtIndex", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs add(T) method on a given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param element
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testAdd(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
+		Result result;
+		try {
+			list.add(element);
+			result = Result.NoException;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testAddAtIndex", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs set(int, T) method on a given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param index
+	 * @param element
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testSet(IndexedUnsortedList<Integer> list, int index, Integer element, Result expectedResult) {
+		Result result;
+		try {
+			list.set(index, element);
+			result = Result.NoException;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testSet", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs get() method on a given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param index
+	 * @param expectedElement
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testGet(IndexedUnsortedList<Integer> list, int index, Integer expectedElement, Result expectedResult) {
+		Result result;
+		try {
+			Integer retVal = list.get(index);
+			if (retVal.equals(expectedElement)) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testGet", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs remove(index) method on a given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param index
+	 * @param expectedElement
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testRemoveIndex(IndexedUnsortedList<Integer> list, int index, Integer expectedElement, Result expectedResult) {
+		Result result;
+		try {
+			Integer retVal = list.remove(index);
+			if (retVal.equals(expectedElement)) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testRemoveIndex", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs indexOf() method on a given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param element
+	 * @param expectedIndex
+	 * @return test success
+	 */
+	private boolean testIndexOf(IndexedUnsortedList<Integer> list, Integer element, int expectedIndex) {
+		try {
+			return list.indexOf(element) == expectedIndex;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testIndexOf", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	////////////////////////////
+	// XXX ITERATOR TESTS
+	////////////////////////////
+
+	/** Runs iterator() method on a given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testIter(IndexedUnsortedList<Integer> list, Result expectedResult) {
+		Result result;
+		try {
+			@SuppressWarnings("unused")
+			Iterator<Integer> it = list.iterator();
+			result = Result.NoException;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testIter", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs list's iterator hasNext() method and checks result against expectedResult
+	 * @param iterator an iterator already positioned for the call to hasNext()
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testIterHasNext(Iterator<Integer> iterator, Result expectedResult) {
 		Result result;
 		try {
-			list.addToFront(element);
-			result = Result.NoException;
+			if (iterator.hasNext()) {
+				result = Result.True;
+			} else {
+				result = Result.False;
+			}
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testAddToFront",  e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testIterHasNext", e.toString());
+			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
 		return result == expectedResult;
 	}
 
-	/** Runs addToRear() method on a given list and checks result against expectedResult
-	 * @param list a list already prepared for a given change scenario
-	 * @param element
-	 * @param expectedResult
+	/** Runs list's iterator next() method and checks result against expectedResult
+	 * @param iterator an iterator already positioned for the call to hasNext()
+	 * @param expectedValue the Integer expected from next() or null if an exception is expected
+	 * @param expectedResult MatchingValue or expected exception
 	 * @return test success
 	 */
-	private boolean testAddToRear(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
+	private boolean testIterNext(Iterator<Integer> iterator, Integer expectedValue, Result expectedResult) {
 		Result result;
 		try {
-			list.addToRear(element);
-			result = Result.NoException;
+			Integer retVal = iterator.next();
+			if (retVal.equals(expectedValue)) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (NoSuchElementException e) {
+			result = Result.NoSuchElement;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testAddToRear", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testIterNext", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
 		return result == expectedResult;
 	}
 
-	/** Runs addAfter() method on a given list and checks result against expectedResult
-	 * @param list a list already prepared for a given change scenario
-	 * @param target
-	 * @param element
+	/** Runs list's iterator remove() method and checks result against expectedResult
+	 * @param iterator an iterator already positioned for the call to remove()
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testAddAfter(IndexedUnsortedList<Integer> list, Integer target, Integer element, Result expectedResult) {
+	private boolean testIterRemove(Iterator<Integer> iterator, Result expectedResult) {
 		Result result;
 		try {
-			list.addAfter(element, target);
+			iterator.remove();
 			result = Result.NoException;
-		} catch (NoSuchElementException e) {
-			result = Result.NoSuchElement;
+		} catch (IllegalStateException e) {
+			result = Result.IllegalState;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testAddAfter", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testIterRemove", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
 		return result == expectedResult;
 	}
 
-	/** Runs add(int, T) method on a given list and checks result against expectedResult
+	/** Runs iterator() method twice on a given list and checks result against expectedResult
 	 * @param list a list already prepared for a given change scenario
-	 * @param index
-	 * @param element
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testAddAtIndex(IndexedUnsortedList<Integer> list, int index, Integer element, Result expectedResult) {
+	private boolean testIterConcurrent(IndexedUnsortedList<Integer> list, Result expectedResult) {
 		Result result;
 		try {
-			list.add(index, element);
+			@SuppressWarnings("unused")
+			Iterator<Integer> it1 = list.iterator();
+			@SuppressWarnings("unused")
+			Iterator<Integer> it2 = list.iterator();
 			result = Result.NoException;
-		} catch (IndexOutOfBoundsException e) {
-			result = Result.IndexOutOfBounds;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testAddAtIndex", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testIterConcurrent", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
 		return result == expectedResult;
 	}
 
-	/** Runs add(T) method on a given list and checks result against expectedResult
+	//////////////////////////////////////////////////////////
+	//XXX HELPER METHODS FOR TESTING ITERATORS
+	//Note: You can create other similar helpers if you want
+	//something slightly different.
+	//////////////////////////////////////////////////////////
+	
+	/** Helper for testing iterators. Return an Iterator that has been advanced numCallsToNext times.
+	 * @param list
+	 * @param numCallsToNext
+	 * @return Iterator for given list, after numCallsToNext
+	 */
+	private Iterator<Integer> iterAfterNext(IndexedUnsortedList<Integer> list, int numCallsToNext) {
+		Iterator<Integer> it = list.iterator();
+		for (int i = 0; i < numCallsToNext; i++) {
+			it.next();
+		}
+		return it;
+	}
+
+	/** Helper for testing iterators. Return an Iterator that has had remove() called once.
+	 * @param iterator
+	 * @return same Iterator following a call to remove()
+	 */
+	private Iterator<Integer> iterAfterRemove(Iterator<Integer> iterator) {
+		iterator.remove();
+		return iterator;
+	}
+
+	////////////////////////////////////////////////////////////////////////
+	// XXX LISTITERATOR TESTS
+	// Note: can use Iterator tests for hasNext(), next(), and remove()
+	////////////////////////////////////////////////////////////////////////
+
+	/** Runs listIterator() method on a given list and checks result against expectedResult
 	 * @param list a list already prepared for a given change scenario
-	 * @param element
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testAdd(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
+	private boolean testListIter(IndexedUnsortedList<Integer> list, Result expectedResult) {
 		Result result;
 		try {
-			list.add(element);
+			@SuppressWarnings("unused")
+			Iterator<Integer> it = list.listIterator();
 			result = Result.NoException;
-		} catch (IndexOutOfBoundsException e) {
-			result = Result.IndexOutOfBounds;
+		} catch (UnsupportedOperationException e) {
+			result = Result.UnsupportedOperation;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testAddAtIndex", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testListIter", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
 		return result == expectedResult;
 	}
 
-	/** Runs set(int, T) method on a given list and checks result against expectedResult
+	/** Runs listIterator(index) method on a given list and checks result against expectedResult
 	 * @param list a list already prepared for a given change scenario
-	 * @param index
-	 * @param element
 	 * @param expectedResult
+	 * @param startingIndex
 	 * @return test success
 	 */
-	private boolean testSet(IndexedUnsortedList<Integer> list, int index, Integer element, Result expectedResult) {
+	private boolean testListIter(IndexedUnsortedList<Integer> list, int startingIndex, Result expectedResult) {
 		Result result;
 		try {
-			list.set(index, element);
+			@SuppressWarnings("unused")
+			Iterator<Integer> it = list.listIterator(startingIndex);
 			result = Result.NoException;
+		} catch (UnsupportedOperationException e) {
+			result = Result.UnsupportedOperation;
 		} catch (IndexOutOfBoundsException e) {
 			result = Result.IndexOutOfBounds;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testSet", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testListIter", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
 		return result == expectedResult;
 	}
 
-	/** Runs get() method on a given list and checks result against expectedResult
-	 * @param list a list already prepared for a given change scenario
-	 * @param index
-	 * @param expectedElement
+	/** Runs ListIterator's hasPrevious() method and checks result against expectedResult
+	 * @param iterator an iterator already positioned for the call to hasPrevious()
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testGet(IndexedUnsortedList<Integer> list, int index, Integer expectedElement, Result expectedResult) {
+	private boolean testListIterHasPrevious(ListIterator<Integer> iterator, Result expectedResult) {
 		Result result;
 		try {
-			Integer retVal = list.get(index);
-			if (retVal.equals(expectedElement)) {
-				result = Result.MatchingValue;
+			if (iterator.hasPrevious()) {
+				result = Result.True;
 			} else {
-				result = Result.Fail;
+				result = Result.False;
 			}
-		} catch (IndexOutOfBoundsException e) {
-			result = Result.IndexOutOfBounds;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testGet", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testListIterHasPrevious", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
 		return result == expectedResult;
 	}
 
-	/** Runs remove(index) method on a given list and checks result against expectedResult
-	 * @param list a list already prepared for a given change scenario
-	 * @param index
-	 * @param expectedElement
-	 * @param expectedResult
+	/** Runs ListIterator previous() method and checks result against expectedResult
+	 * @param iterator an iterator already positioned for the call to hasPrevious()
+	 * @param expectedValue the Integer expected from next() or null if an exception is expected
+	 * @param expectedResult MatchingValue or expected exception
 	 * @return test success
 	 */
-	private boolean testRemoveIndex(IndexedUnsortedList<Integer> list, int index, Integer expectedElement, Result expectedResult) {
+	private boolean testListIterPrevious(ListIterator<Integer> iterator, Integer expectedValue, Result expectedResult) {
 		Result result;
 		try {
-			Integer retVal = list.remove(index);
-			if (retVal.equals(expectedElement)) {
+			Integer retVal = iterator.previous();
+			if (retVal.equals(expectedValue)) {
 				result = Result.MatchingValue;
 			} else {
 				result = Result.Fail;
 			}
-		} catch (IndexOutOfBoundsException e) {
-			result = Result.IndexOutOfBounds;
+		} catch (NoSuchElementException e) {
+			result = Result.NoSuchElement;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testRemoveIndex", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testListIterPrevious", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
 		return result == expectedResult;
 	}
 
-	/** Runs indexOf() method on a given list and checks result against expectedResult
-	 * @param list a list already prepared for a given change scenario
-	 * @param element
-	 * @param expectedIndex
+	/** Runs ListIterator add() method and checks result against expectedResult
+	 * @param iterator an iterator already positioned for the call to add()
+	 * @param element new Integer for insertion
+	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testIndexOf(IndexedUnsortedList<Integer> list, Integer element, int expectedIndex) {
+	private boolean testListIterAdd(ListIterator<Integer> iterator, Integer element, Result expectedResult) {
+		Result result;
 		try {
-			return list.indexOf(element) == expectedIndex;
+			iterator.add(element);
+			result = Result.NoException;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testIndexOf", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testListIterAdd", e.toString());
 			e.printStackTrace();
-			return false;
+			result = Result.UnexpectedException;
 		}
+		return result == expectedResult;
 	}
 
-	////////////////////////////
-	// XXX ITERATOR TESTS
-	////////////////////////////
-
-	/** Runs iterator() method on a given list and checks result against expectedResult
-	 * @param list a list already prepared for a given change scenario
+	/** Runs ListIterator set() method and checks result against expectedResult
+	 * @param iterator an iterator already positioned for the call to set()
+	 * @param element replacement Integer for last returned element
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testIter(IndexedUnsortedList<Integer> list, Result expectedResult) {
+	private boolean testListIterSet(ListIterator<Integer> iterator, Integer element, Result expectedResult) {
 		Result result;
 		try {
-			@SuppressWarnings("unused")
-			Iterator<Integer> it = list.iterator();
+			iterator.set(element);
 			result = Result.NoException;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (IllegalStateException e) {
+			result = Result.IllegalState;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testIter", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testListIterSet", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
 		return result == expectedResult;
 	}
 
-	/** Runs list's iterator hasNext() method and checks result against expectedResult
-	 * @param iterator an iterator already positioned for the call to hasNext()
+	/** Runs ListIterator nextIndex() and checks result against expected Result
+	 * @param iterator already positioned for the call to nextIndex()
+	 * @param expectedIndex
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testIterHasNext(Iterator<Integer> iterator, Result expectedResult) {
+	private boolean testListIterNextIndex(ListIterator<Integer> iterator, int expectedIndex, Result expectedResult) {
 		Result result;
 		try {
-			if (iterator.hasNext()) {
-				result = Result.True;
+			int idx = iterator.nextIndex();
+			if (idx == expectedIndex) {
+				result = Result.MatchingValue;
 			} else {
-				result = Result.False;
+				result = Result.Fail;
 			}
 		} catch (ConcurrentModificationException e) {
 			result = Result.ConcurrentModification;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testIterHasNext", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testListIterNextIndex", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
 		return result == expectedResult;
 	}
 
-	/** Runs list's iterator next() method and checks result against expectedResult
-	 * @param iterator an iterator already positioned for the call to hasNext()
-	 * @param expectedValue the Integer expected from next() or null if an exception is expected
-	 * @param expectedResult MatchingValue or expected exception
+	/** Runs ListIterator previousIndex() and checks result against expected Result
+	 * @param iterator already positioned for the call to previousIndex()
+	 * @param expectedIndex
+	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testIterNext(Iterator<Integer> iterator, Integer expectedValue, Result expectedResult) {
+	private boolean testListIterPreviousIndex(ListIterator<Integer> iterator, int expectedIndex, Result expectedResult) {
 		Result result;
 		try {
-			Integer retVal = iterator.next();
-			if (retVal.equals(expectedValue)) {
+			int idx = iterator.previousIndex();
+			if (idx == expectedIndex) {
 				result = Result.MatchingValue;
 			} else {
 				result = Result.Fail;
 			}
-		} catch (NoSuchElementException e) {
-			result = Result.NoSuchElement;
 		} catch (ConcurrentModificationException e) {
 			result = Result.ConcurrentModification;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testIterNext", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testListIterPreviousIndex", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
 		return result == expectedResult;
 	}
-
-	/** Runs list's iterator remove() method and checks result against expectedResult
-	 * @param iterator an iterator already positioned for the call to remove()
+
+	/** Runs listIterator() method twice on a given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testIterRemove(Iterator<Integer> iterator, Result expectedResult) {
+	private boolean testListIterConcurrent(IndexedUnsortedList<Integer> list, Result expectedResult) {
 		Result result;
 		try {
-			iterator.remove();
+			@SuppressWarnings("unused")
+			ListIterator<Integer> it1 = list.listIterator();
+			@SuppressWarnings("unused")
+			ListIterator<Integer> it2 = list.listIterator();
 			result = Result.NoException;
-		} catch (IllegalStateException e) {
-			result = Result.IllegalState;
-		} catch (ConcurrentModificationException e) {
-			result = Result.ConcurrentModification;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testIterRemove", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testListIterConcurrent", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
 		return result == expectedResult;
 	}
 
-	/** Runs iterator() method twice on a given list and checks result against expectedResult
+	/** Runs listIterator(index) method twice on a given list and checks result against expectedResult
 	 * @param list a list already prepared for a given change scenario
+	 * @param index1
+	 * @param index2
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testIterConcurrent(IndexedUnsortedList<Integer> list, Result expectedResult) {
+	private boolean testListIterConcurrent(IndexedUnsortedList<Integer> list, int index1, int index2, Result expectedResult) {
 		Result result;
 		try {
 			@SuppressWarnings("unused")
-			Iterator<Integer> it1 = list.iterator();
+			ListIterator<Integer> it1 = list.listIterator(index1);
 			@SuppressWarnings("unused")
-			Iterator<Integer> it2 = list.iterator();
+			ListIterator<Integer> it2 = list.listIterator(index2);
 			result = Result.NoException;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testIterConcurrent", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testListIterConcurrent", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
@@ -2581,1895 +3729,2696 @@ public class ListTester {
 	}
 
 	//////////////////////////////////////////////////////////
-	//XXX HELPER METHODS FOR TESTING ITERATORS
+	//XXX HELPER METHODS FOR TESTING LISTITERATORS
 	//Note: You can create other similar helpers if you want
-	//something slightly different.
+	//  something slightly different.
 	//////////////////////////////////////////////////////////
 	
-	/** Helper for testing iterators. Return an Iterator that has been advanced numCallsToNext times.
-	 * @param list
+	/** Helper for testing ListIterators. Return a ListIterator that has been advanced numCallsToNext times.
+	 * @param iterator
 	 * @param numCallsToNext
-	 * @return Iterator for given list, after numCallsToNext
+	 * @return same iterator after numCallsToNext
 	 */
-	private Iterator<Integer> iterAfterNext(IndexedUnsortedList<Integer> list, int numCallsToNext) {
-		Iterator<Integer> it = list.iterator();
+	private ListIterator<Integer> listIterAfterNext(ListIterator<Integer> iterator, int numCallsToNext) {
 		for (int i = 0; i < numCallsToNext; i++) {
-			it.next();
+			iterator.next();
 		}
-		return it;
+		return iterator;
 	}
 
-	/** Helper for testing iterators. Return an Iterator that has had remove() called once.
+	/** Helper for testing ListIterators. Return a ListIterator that has been backed up numCallsToPrevious times.
+	 * @param iterator
+	 * @param numCallsToPrevious
+	 * @return same iterator after numCallsToPrevious
+	 */
+	private ListIterator<Integer> listIterAfterPrevious(ListIterator<Integer> iterator, int numCallsToPrevious) {
+		for (int i = 0; i < numCallsToPrevious; i++) {
+			iterator.previous();
+		}
+		return iterator;
+	}
+
+	/** Helper for testing ListIterators. Return a ListIterator that has had remove() called once.
 	 * @param iterator
 	 * @return same Iterator following a call to remove()
 	 */
-	private Iterator<Integer> iterAfterRemove(Iterator<Integer> iterator) {
+	private ListIterator<Integer> listIterAfterRemove(ListIterator<Integer> iterator) {
 		iterator.remove();
 		return iterator;
 	}
 
-	////////////////////////////////////////////////////////////////////////
-	// XXX LISTITERATOR TESTS
-	// Note: can use Iterator tests for hasNext(), next(), and remove()
-	////////////////////////////////////////////////////////////////////////
+	////////////////////////////////////////////////////////
+	// XXX Iterator Concurrency Tests
+	// Can simply use as given. Don't need to add more.
+	////////////////////////////////////////////////////////
+
+	/** run Iterator concurrency tests */
+	private void test_IterConcurrency() {
+		System.out.println("\nIterator Concurrency Tests\n");		
+		try {
+			printTest("emptyList_testConcurrentIter", testIterConcurrent(newList(), Result.NoException));
+			IndexedUnsortedList<Integer> list = newList();
+			Iterator<Integer> it1 = list.iterator();
+			Iterator<Integer> it2 = list.iterator();
+			it1.hasNext();
+			printTest("emptyList_iter1HasNext_testIter2HasNext", testIterHasNext(it2, Result.False));
+			list = newList();
+			it1 = list.iterator();
+			it2 = list.iterator();
+			it1.hasNext();
+			printTest("emptyList_iter1HasNext_testIter2Next", testIterNext(it2, null, Result.NoSuchElement));
+			list = newList();
+			it1 = list.iterator();
+			it2 = list.iterator();
+			it1.hasNext();
+			printTest("emptyList_iter1HasNext_testIter2Remove", testIterRemove(it2, Result.IllegalState));
+
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			it2 = list.iterator();
+			it1.hasNext();
+			printTest("A_iter1HasNext_testIter2HasNext", testIterHasNext(it2, Result.True));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			it2 = list.iterator();
+			it1.hasNext();
+			printTest("A_iter1HasNext_testIter2Next", testIterNext(it2, ELEMENT_A, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			it2 = list.iterator();
+			it1.hasNext();
+			printTest("A_iter1HasNext_testIter2Remove", testIterRemove(it2, Result.IllegalState));
+
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			it2 = list.iterator();
+			it1.next();
+			printTest("A_iter1Next_testIter2HasNext", testIterHasNext(it2, Result.True));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			it2 = list.iterator();
+			it1.next();
+			printTest("A_iter1Next_testIter2Next", testIterNext(it2, ELEMENT_A, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			it2 = list.iterator();
+			it1.next();
+			printTest("A_iter1Next_testIter2Remove", testIterRemove(it2, Result.IllegalState));
+
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			it2 = list.iterator();
+			it1.next();
+			it1.remove();
+			printTest("A_iter1NextRemove_testIter2HasNext", testIterHasNext(it2, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			it2 = list.iterator();
+			it1.next();
+			it1.remove();
+			printTest("A_iter1NextRemove_testIter2Next", testIterNext(it2, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			it2 = list.iterator();
+			it1.next();
+			it1.remove();
+			printTest("A_iter1NextRemove_testIter2Remove", testIterRemove(it2, Result.ConcurrentModification));
+
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.removeFirst();
+			printTest("A_removeFirst_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.removeFirst();
+			printTest("A_removeFirst_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.removeFirst();
+			printTest("A_removeLast_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
+
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.removeLast();
+			printTest("A_removeLast_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.removeLast();
+			printTest("A_removeLast_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.removeLast();
+			printTest("A_removeLast_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));			
+
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.remove(ELEMENT_A);
+			printTest("A_removeA_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.remove(ELEMENT_A);
+			printTest("A_remove_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.remove(ELEMENT_A);
+			printTest("A_remove_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
+
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.first();
+			printTest("A_first_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.first();
+			printTest("A_first_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.first();
+			printTest("A_first_testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
+
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.last();
+			printTest("A_last_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.last();
+			printTest("A_last_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.last();
+			printTest("A_last_testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
+
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.contains(ELEMENT_A);
+			printTest("A_containsA_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.contains(ELEMENT_A);
+			printTest("A_containsA_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.contains(ELEMENT_A);
+			printTest("A__testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
+
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.isEmpty();
+			printTest("A_isEmpty_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.isEmpty();
+			printTest("A_isEmpty_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.isEmpty();
+			printTest("A_isEmpty_testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
+
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.size();
+			printTest("A_size_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.size();
+			printTest("A_size_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.size();
+			printTest("A_size_testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
+
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.toString();
+			printTest("A_toString_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.toString();
+			printTest("A_toString_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.toString();
+			printTest("A_toString_testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
 
-	/** Runs listIterator() method on a given list and checks result against expectedResult
-	 * @param list a list already prepared for a given change scenario
-	 * @param expectedResult
-	 * @return test success
-	 */
-	private boolean testListIter(IndexedUnsortedList<Integer> list, Result expectedResult) {
-		Result result;
-		try {
-			@SuppressWarnings("unused")
-			Iterator<Integer> it = list.listIterator();
-			result = Result.NoException;
-		} catch (UnsupportedOperationException e) {
-			result = Result.UnsupportedOperation;
-		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testListIter", e.toString());
-			e.printStackTrace();
-			result = Result.UnexpectedException;
-		}
-		return result == expectedResult;
-	}
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.addToFront(ELEMENT_B);
+			printTest("A_addToFrontB_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.addToFront(ELEMENT_B);
+			printTest("A_addToFrontB_testIterNextConcurrent", testIterNext(it1, ELEMENT_B, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.addToFront(ELEMENT_B);
+			printTest("A_addToFrontB_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 
-	/** Runs listIterator(index) method on a given list and checks result against expectedResult
-	 * @param list a list already prepared for a given change scenario
-	 * @param expectedResult
-	 * @param startingIndex
-	 * @return test success
-	 */
-	private boolean testListIter(IndexedUnsortedList<Integer> list, int startingIndex, Result expectedResult) {
-		Result result;
-		try {
-			@SuppressWarnings("unused")
-			Iterator<Integer> it = list.listIterator(startingIndex);
-			result = Result.NoException;
-		} catch (UnsupportedOperationException e) {
-			result = Result.UnsupportedOperation;
-		} catch (IndexOutOfBoundsException e) {
-			result = Result.IndexOutOfBounds;
-		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testListIter", e.toString());
-			e.printStackTrace();
-			result = Result.UnexpectedException;
-		}
-		return result == expectedResult;
-	}
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.addToRear(ELEMENT_B);
+			printTest("A_addToRearB_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.addToRear(ELEMENT_B);
+			printTest("A_addToRearB_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.addToRear(ELEMENT_B);
+			printTest("A_addToRearB_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 
-	/** Runs ListIterator's hasPrevious() method and checks result against expectedResult
-	 * @param iterator an iterator already positioned for the call to hasPrevious()
-	 * @param expectedResult
-	 * @return test success
-	 */
-	private boolean testListIterHasPrevious(ListIterator<Integer> iterator, Result expectedResult) {
-		Result result;
-		try {
-			if (iterator.hasPrevious()) {
-				result = Result.True;
-			} else {
-				result = Result.False;
-			}
-		} catch (ConcurrentModificationException e) {
-			result = Result.ConcurrentModification;
-		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testListIterHasPrevious", e.toString());
-			e.printStackTrace();
-			result = Result.UnexpectedException;
-		}
-		return result == expectedResult;
-	}
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.addAfter(ELEMENT_B, ELEMENT_A);
+			printTest("A_addAfterAB_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.addAfter(ELEMENT_B, ELEMENT_A);
+			printTest("A_addAfterAB_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.addAfter(ELEMENT_B, ELEMENT_A);
+			printTest("A_addAfterAB_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 
-	/** Runs ListIterator previous() method and checks result against expectedResult
-	 * @param iterator an iterator already positioned for the call to hasPrevious()
-	 * @param expectedValue the Integer expected from next() or null if an exception is expected
-	 * @param expectedResult MatchingValue or expected exception
-	 * @return test success
-	 */
-	private boolean testListIterPrevious(ListIterator<Integer> iterator, Integer expectedValue, Result expectedResult) {
-		Result result;
-		try {
-			Integer retVal = iterator.previous();
-			if (retVal.equals(expectedValue)) {
-				result = Result.MatchingValue;
-			} else {
-				result = Result.Fail;
-			}
-		} catch (NoSuchElementException e) {
-			result = Result.NoSuchElement;
-		} catch (ConcurrentModificationException e) {
-			result = Result.ConcurrentModification;
-		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testListIterPrevious", e.toString());
-			e.printStackTrace();
-			result = Result.UnexpectedException;
-		}
-		return result == expectedResult;
-	}
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.add(0,ELEMENT_B);
+			printTest("A_add0B_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.add(0,ELEMENT_B);
+			printTest("A_add0B_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.add(0,ELEMENT_B);
+			printTest("A_add0B_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 
-	/** Runs ListIterator add() method and checks result against expectedResult
-	 * @param iterator an iterator already positioned for the call to add()
-	 * @param element new Integer for insertion
-	 * @param expectedResult
-	 * @return test success
-	 */
-	private boolean testListIterAdd(ListIterator<Integer> iterator, Integer element, Result expectedResult) {
-		Result result;
-		try {
-			iterator.add(element);
-			result = Result.NoException;
-		} catch (ConcurrentModificationException e) {
-			result = Result.ConcurrentModification;
-		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testListIterAdd", e.toString());
-			e.printStackTrace();
-			result = Result.UnexpectedException;
-		}
-		return result == expectedResult;
-	}
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.set(0,ELEMENT_B);
+			printTest("A_set0B_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.set(0,ELEMENT_B);
+			printTest("A_set0B_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.set(0,ELEMENT_B);
+			printTest("A_set0B_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 
-	/** Runs ListIterator set() method and checks result against expectedResult
-	 * @param iterator an iterator already positioned for the call to set()
-	 * @param element replacement Integer for last returned element
-	 * @param expectedResult
-	 * @return test success
-	 */
-	private boolean testListIterSet(ListIterator<Integer> iterator, Integer element, Result expectedResult) {
-		Result result;
-		try {
-			iterator.set(element);
-			result = Result.NoException;
-		} catch (ConcurrentModificationException e) {
-			result = Result.ConcurrentModification;
-		} catch (IllegalStateException e) {
-			result = Result.IllegalState;
-		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testListIterSet", e.toString());
-			e.printStackTrace();
-			result = Result.UnexpectedException;
-		}
-		return result == expectedResult;
-	}
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.add(ELEMENT_B);
+			printTest("A_addB_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.add(ELEMENT_B);
+			printTest("A_addB_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.add(ELEMENT_B);
+			printTest("A_addB_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 
-	/** Runs ListIterator nextIndex() and checks result against expected Result
-	 * @param iterator already positioned for the call to nextIndex()
-	 * @param expectedIndex
-	 * @param expectedResult
-	 * @return test success
-	 */
-	private boolean testListIterNextIndex(ListIterator<Integer> iterator, int expectedIndex, Result expectedResult) {
-		Result result;
-		try {
-			int idx = iterator.nextIndex();
-			if (idx == expectedIndex) {
-				result = Result.MatchingValue;
-			} else {
-				result = Result.Fail;
-			}
-		} catch (ConcurrentModificationException e) {
-			result = Result.ConcurrentModification;
-		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testListIterNextIndex", e.toString());
-			e.printStackTrace();
-			result = Result.UnexpectedException;
-		}
-		return result == expectedResult;
-	}
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.get(0);
+			printTest("A_get0_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.get(0);
+			printTest("A_get0_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.get(0);
+			printTest("A_get_testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
+
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.indexOf(ELEMENT_A);
+			printTest("A_indexOfA_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.indexOf(ELEMENT_A);
+			printTest("A_indexOfA_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.indexOf(ELEMENT_A);
+			printTest("A_indexOfA_testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
 
-	/** Runs ListIterator previousIndex() and checks result against expected Result
-	 * @param iterator already positioned for the call to previousIndex()
-	 * @param expectedIndex
-	 * @param expectedResult
-	 * @return test success
-	 */
-	private boolean testListIterPreviousIndex(ListIterator<Integer> iterator, int expectedIndex, Result expectedResult) {
-		Result result;
-		try {
-			int idx = iterator.previousIndex();
-			if (idx == expectedIndex) {
-				result = Result.MatchingValue;
-			} else {
-				result = Result.Fail;
-			}
-		} catch (ConcurrentModificationException e) {
-			result = Result.ConcurrentModification;
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.remove(0);
+			printTest("A_remove0_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.remove(0);
+			printTest("A_remove0_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.remove(0);
+			printTest("A_remove0_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testListIterPreviousIndex", e.toString());
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_IteratorConcurrency");
 			e.printStackTrace();
-			result = Result.UnexpectedException;
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
 		}
-		return result == expectedResult;
 	}
 
-	/** Runs listIterator() method twice on a given list and checks result against expectedResult
-	 * @param list a list already prepared for a given change scenario
-	 * @param expectedResult
-	 * @return test success
-	 */
-	private boolean testListIterConcurrent(IndexedUnsortedList<Integer> list, Result expectedResult) {
-		Result result;
-		try {
-			@SuppressWarnings("unused")
-			ListIterator<Integer> it1 = list.listIterator();
-			@SuppressWarnings("unused")
-			ListIterator<Integer> it2 = list.listIterator();
-			result = Result.NoException;
-		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testListIterConcurrent", e.toString());
-			e.printStackTrace();
-			result = Result.UnexpectedException;
-		}
-		return result == expectedResult;
-	}
+	////////////////////////////////////////////////////////
+	// XXX ListIterator Concurrency Tests
+	// Will add tests for double-linked list
+	////////////////////////////////////////////////////////
 
-	/** Runs listIterator(index) method twice on a given list and checks result against expectedResult
-	 * @param list a list already prepared for a given change scenario
-	 * @param index1
-	 * @param index2
-	 * @param expectedResult
-	 * @return test success
-	 */
-	private boolean testListIterConcurrent(IndexedUnsortedList<Integer> list, int index1, int index2, Result expectedResult) {
-		Result result;
+	/** run ListIterator concurrency tests */
+	private void test_ListIterConcurrency() {
+		System.out.println("\nListIterator Concurrency Tests\n");
 		try {
-			@SuppressWarnings("unused")
-			ListIterator<Integer> it1 = list.listIterator(index1);
-			@SuppressWarnings("unused")
-			ListIterator<Integer> it2 = list.listIterator(index2);
-			result = Result.NoException;
-		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testListIterConcurrent", e.toString());
-			e.printStackTrace();
-			result = Result.UnexpectedException;
-		}
-		return result == expectedResult;
-	}
+			printTest("emptyList_testConcurrentListIter", testListIterConcurrent(newList(), Result.NoException));
+			printTest("emptyList_testConcurrentListIter00", testListIterConcurrent(newList(), 0, 0, Result.NoException));
 
-	//////////////////////////////////////////////////////////
-	//XXX HELPER METHODS FOR TESTING LISTITERATORS
-	//Note: You can create other similar helpers if you want
-	//  something slightly different.
-	//////////////////////////////////////////////////////////
-	
-	/** Helper for testing ListIterators. Return a ListIterator that has been advanced numCallsToNext times.
-	 * @param iterator
-	 * @param numCallsToNext
-	 * @return same iterator after numCallsToNext
-	 */
-	private ListIterator<Integer> listIterAfterNext(ListIterator<Integer> iterator, int numCallsToNext) {
-		for (int i = 0; i < numCallsToNext; i++) {
-			iterator.next();
-		}
-		return iterator;
-	}
+			IndexedUnsortedList<Integer> list = newList();
+			ListIterator<Integer> it1 = list.listIterator();
+			ListIterator<Integer> it2 = list.listIterator();
+			it1.hasNext();
+			printTest("emptyList_ListIter1HasNext_testListIter2HasNext", testIterHasNext(it2, Result.False));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasNext();
+			printTest("emptyList_ListIter1HasNext_testListIter2Next", testIterNext(it2, null, Result.NoSuchElement));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasNext();
+			printTest("emptyList_ListIter1HasNext_testListIter2Remove", testIterRemove(it2, Result.IllegalState));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasNext();
+			printTest("emptyList_ListIter1HasNext_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.False));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasNext();
+			printTest("emptyList_ListIter1HasNext_testListIter2Previous", testListIterPrevious(it2, null, Result.NoSuchElement));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasNext();
+			printTest("emptyList_ListIter1HasNext_testListIter2AddA", testListIterAdd(it2, ELEMENT_A, Result.NoException));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasNext();
+			printTest("emptyList_ListIter1HasNext_testListIter2SetA", testListIterSet(it2, ELEMENT_A, Result.IllegalState));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasNext();
+			printTest("emptyList_ListIter1HasNext_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.MatchingValue));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasNext();
+			printTest("emptyList_ListIter1HasNext_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.MatchingValue));
 
-	/** Helper for testing ListIterators. Return a ListIterator that has been backed up numCallsToPrevious times.
-	 * @param iterator
-	 * @param numCallsToPrevious
-	 * @return same iterator after numCallsToPrevious
-	 */
-	private ListIterator<Integer> listIterAfterPrevious(ListIterator<Integer> iterator, int numCallsToPrevious) {
-		for (int i = 0; i < numCallsToPrevious; i++) {
-			iterator.previous();
-		}
-		return iterator;
-	}
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasPrevious();
+			printTest("emptyList_ListIter1HasPrevious_testListIter2HasNext", testIterHasNext(it2, Result.False));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasPrevious();
+			printTest("emptyList_ListIter1HasPrevious_testListIter2Next", testIterNext(it2, null, Result.NoSuchElement));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasPrevious();
+			printTest("emptyList_ListIter1HasPrevious_testListIter2Remove", testIterRemove(it2, Result.IllegalState));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasPrevious();
+			printTest("emptyList_ListIter1HasPrevious_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.False));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasPrevious();
+			printTest("emptyList_ListIter1HasPrevious_testListIter2Previous", testListIterPrevious(it2, null, Result.NoSuchElement));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasPrevious();
+			printTest("emptyList_ListIter1HasPrevious_testListIter2AddA", testListIterAdd(it2, ELEMENT_A, Result.NoException));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasPrevious();
+			printTest("emptyList_ListIter1HasPrevious_testListIter2SetA", testListIterSet(it2, ELEMENT_A, Result.IllegalState));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasPrevious();
+			printTest("emptyList_ListIter1HasPrevious_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.MatchingValue));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.hasPrevious();
+			printTest("emptyList_ListIter1HasPrevious_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.MatchingValue));
 
-	/** Helper for testing ListIterators. Return a ListIterator that has had remove() called once.
-	 * @param iterator
-	 * @return same Iterator following a call to remove()
-	 */
-	private ListIterator<Integer> listIterAfterRemove(ListIterator<Integer> iterator) {
-		iterator.remove();
-		return iterator;
-	}
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.nextIndex();
+			printTest("emptyList_ListIter1NextIndex_testListIter2HasNext", testIterHasNext(it2, Result.False));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.nextIndex();
+			printTest("emptyList_ListIter1NextIndex_testListIter2Next", testIterNext(it2, null, Result.NoSuchElement));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.nextIndex();
+			printTest("emptyList_ListIter1NextIndex_testListIter2Remove", testIterRemove(it2, Result.IllegalState));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.nextIndex();
+			printTest("emptyList_ListIter1NextIndex_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.False));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.nextIndex();
+			printTest("emptyList_ListIter1NextIndex_testListIter2Previous", testListIterPrevious(it2, null, Result.NoSuchElement));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.nextIndex();
+			printTest("emptyList_ListIter1NextIndex_testListIter2AddA", testListIterAdd(it2, ELEMENT_A, Result.NoException));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.nextIndex();
+			printTest("emptyList_ListIter1NextIndex_testListIter2SetA", testListIterSet(it2, ELEMENT_A, Result.IllegalState));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.nextIndex();
+			printTest("emptyList_ListIter1NextIndex_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.MatchingValue));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.nextIndex();
+			printTest("emptyList_ListIter1NextIndex_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.MatchingValue));
 
-	////////////////////////////////////////////////////////
-	// XXX Iterator Concurrency Tests
-	// Can simply use as given. Don't need to add more.
-	////////////////////////////////////////////////////////
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.previousIndex();
+			printTest("emptyList_ListIter1PreviousIndex_testListIter2HasNext", testIterHasNext(it2, Result.False));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.previousIndex();
+			printTest("emptyList_ListIter1PreviousIndex_testListIter2Next", testIterNext(it2, null, Result.NoSuchElement));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.previousIndex();
+			printTest("emptyList_ListIter1PreviousIndex_testListIter2Remove", testIterRemove(it2, Result.IllegalState));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.previousIndex();
+			printTest("emptyList_ListIter1PreviousIndex_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.False));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.previousIndex();
+			printTest("emptyList_ListIter1PreviousIndex_testListIter2Previous", testListIterPrevious(it2, null, Result.NoSuchElement));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.previousIndex();
+			printTest("emptyList_ListIter1PreviousIndex_testListIter2AddA", testListIterAdd(it2, ELEMENT_A, Result.NoException));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.previousIndex();
+			printTest("emptyList_ListIter1PreviousIndex_testListIter2SetA", testListIterSet(it2, ELEMENT_A, Result.IllegalState));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.previousIndex();
+			printTest("emptyList_ListIter1PreviousIndex_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.MatchingValue));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.previousIndex();
+			printTest("emptyList_ListIter1PreviousIndex_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.MatchingValue));
 
-	/** run Iterator concurrency tests */
-	private void test_IterConcurrency() {
-		System.out.println("\nIterator Concurrency Tests\n");		
-		try {
-			printTest("emptyList_testConcurrentIter", testIterConcurrent(newList(), Result.NoException));
-			IndexedUnsortedList<Integer> list = newList();
-			Iterator<Integer> it1 = list.iterator();
-			Iterator<Integer> it2 = list.iterator();
-			it1.hasNext();
-			printTest("emptyList_iter1HasNext_testIter2HasNext", testIterHasNext(it2, Result.False));
 			list = newList();
-			it1 = list.iterator();
-			it2 = list.iterator();
-			it1.hasNext();
-			printTest("emptyList_iter1HasNext_testIter2Next", testIterNext(it2, null, Result.NoSuchElement));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.add(ELEMENT_A);
+			printTest("emptyList_ListIter1AddA_testListIter2HasNext", testIterHasNext(it2, Result.ConcurrentModification));
 			list = newList();
-			it1 = list.iterator();
-			it2 = list.iterator();
-			it1.hasNext();
-			printTest("emptyList_iter1HasNext_testIter2Remove", testIterRemove(it2, Result.IllegalState));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.add(ELEMENT_A);
+			printTest("emptyList_ListIter1AddA_testListIter2Next", testIterNext(it2, null, Result.ConcurrentModification));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.add(ELEMENT_A);
+			printTest("emptyList_ListIter1AddA_testListIter2Remove", testIterRemove(it2, Result.ConcurrentModification));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.add(ELEMENT_A);
+			printTest("emptyList_ListIter1AddA_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.ConcurrentModification));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.add(ELEMENT_A);
+			printTest("emptyList_ListIter1AddA_testListIter2Previous", testListIterPrevious(it2, null, Result.ConcurrentModification));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.add(ELEMENT_A);
+			printTest("emptyList_ListIter1AddA_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.ConcurrentModification));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.add(ELEMENT_A);
+			printTest("emptyList_ListIter1AddA_testListIter2SetA", testListIterSet(it2, ELEMENT_A, Result.ConcurrentModification));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.add(ELEMENT_A);
+			printTest("emptyList_ListIter1AddA_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.ConcurrentModification));
+			list = newList();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.add(ELEMENT_A);
+			printTest("emptyList_ListIter1AddA_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.ConcurrentModification));
 
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			it2 = list.iterator();
-			it1.hasNext();
-			printTest("A_iter1HasNext_testIter2HasNext", testIterHasNext(it2, Result.True));
-			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			it2 = list.iterator();
-			it1.hasNext();
-			printTest("A_iter1HasNext_testIter2Next", testIterNext(it2, ELEMENT_A, Result.MatchingValue));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			printTest("A_ListIter1Next_testListIter2HasNext", testIterHasNext(it2, Result.True));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			it2 = list.iterator();
-			it1.hasNext();
-			printTest("A_iter1HasNext_testIter2Remove", testIterRemove(it2, Result.IllegalState));
-
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			printTest("A_ListIter1Next_testListIter2Next", testIterNext(it2, ELEMENT_A, Result.MatchingValue));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			it2 = list.iterator();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
 			it1.next();
-			printTest("A_iter1Next_testIter2HasNext", testIterHasNext(it2, Result.True));
+			printTest("A_ListIter1Next_testListIter2Remove", testIterRemove(it2, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			it2 = list.iterator();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
 			it1.next();
-			printTest("A_iter1Next_testIter2Next", testIterNext(it2, ELEMENT_A, Result.MatchingValue));
+			printTest("A_ListIter1Next_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.False));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			it2 = list.iterator();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
 			it1.next();
-			printTest("A_iter1Next_testIter2Remove", testIterRemove(it2, Result.IllegalState));
-
+			printTest("A_ListIter1Next_testListIter2Previous", testListIterPrevious(it2, null, Result.NoSuchElement));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			it2 = list.iterator();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
 			it1.next();
-			it1.remove();
-			printTest("A_iter1NextRemove_testIter2HasNext", testIterHasNext(it2, Result.ConcurrentModification));
+			printTest("A_ListIter1Next_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.NoException));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			it2 = list.iterator();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
 			it1.next();
-			it1.remove();
-			printTest("A_iter1NextRemove_testIter2Next", testIterNext(it2, ELEMENT_A, Result.ConcurrentModification));
+			printTest("A_ListIter1Next_testListIter2SetB", testListIterSet(it2, ELEMENT_B, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			it2 = list.iterator();
+			it1 = list.listIterator();
+			it2 = list.listIterator();
 			it1.next();
-			it1.remove();
-			printTest("A_iter1NextRemove_testIter2Remove", testIterRemove(it2, Result.ConcurrentModification));
+			printTest("A_ListIter1Next_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.MatchingValue));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			printTest("A_ListIter1Next_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.MatchingValue));
 
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.removeFirst();
-			printTest("A_removeFirst_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			printTest("A_ListIter1Previous_testListIter2HasNext", testIterHasNext(it2, Result.True));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.removeFirst();
-			printTest("A_removeFirst_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			printTest("A_ListIter1Previous_testListIter2Next", testIterNext(it2, ELEMENT_A, Result.MatchingValue));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.removeFirst();
-			printTest("A_removeLast_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
-
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			printTest("A_ListIter1Previous_testListIter2Remove", testIterRemove(it2, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.removeLast();
-			printTest("A_removeLast_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			printTest("A_ListIter1Previous_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.False));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.removeLast();
-			printTest("A_removeLast_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			printTest("A_ListIter1Previous_testListIter2Previous", testListIterPrevious(it2, null, Result.NoSuchElement));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.removeLast();
-			printTest("A_removeLast_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));			
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			printTest("A_ListIter1Previous_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.NoException));
+			list = emptyList_addToFrontA_A();
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			printTest("A_ListIter1Previous_testListIter2SetB", testListIterSet(it2, ELEMENT_B, Result.IllegalState));
+			list = emptyList_addToFrontA_A();
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			printTest("A_ListIter1Previous_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.MatchingValue));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			printTest("A_ListIter1Previous_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.MatchingValue));
 
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.remove(ELEMENT_A);
-			printTest("A_removeA_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.remove();
+			printTest("A_ListIter1NextRemove_testListIter2HasNext", testIterHasNext(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.remove(ELEMENT_A);
-			printTest("A_remove_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.remove();
+			printTest("A_ListIter1NextRemove_testListIter2Next", testIterNext(it2, ELEMENT_A, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.remove(ELEMENT_A);
-			printTest("A_remove_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
-
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.remove();
+			printTest("A_ListIter1NextRemove_testListIter2Remove", testIterRemove(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.first();
-			printTest("A_first_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.remove();
+			printTest("A_ListIter1NextRemove_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.first();
-			printTest("A_first_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.remove();
+			printTest("A_ListIter1NextRemove_testListIter2Previous", testListIterPrevious(it2, null, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.first();
-			printTest("A_first_testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
-
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.remove();
+			printTest("A_ListIter1NextRemove_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.last();
-			printTest("A_last_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.remove();
+			printTest("A_ListIter1NextRemove_testListIter2SetB", testListIterSet(it2, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.last();
-			printTest("A_last_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.remove();
+			printTest("A_ListIter1NextRemove_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.last();
-			printTest("A_last_testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.remove();
+			printTest("A_ListIter1NextRemove_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.ConcurrentModification));
 
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.contains(ELEMENT_A);
-			printTest("A_containsA_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.remove();
+			printTest("A_ListIter1PreviousRemove_testListIter2HasNext", testIterHasNext(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.contains(ELEMENT_A);
-			printTest("A_containsA_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.remove();
+			printTest("A_ListIter1PreviousRemove_testListIter2Next", testIterNext(it2, ELEMENT_A, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.contains(ELEMENT_A);
-			printTest("A__testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
-
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.remove();
+			printTest("A_ListIter1PreviousRemove_testListIter2Remove", testIterRemove(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.isEmpty();
-			printTest("A_isEmpty_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.remove();
+			printTest("A_ListIter1PreviousRemove_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.isEmpty();
-			printTest("A_isEmpty_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.remove();
+			printTest("A_ListIter1PreviousRemove_testListIter2Previous", testListIterPrevious(it2, null, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.isEmpty();
-			printTest("A_isEmpty_testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
-
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.remove();
+			printTest("A_ListIter1PreviousRemove_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.size();
-			printTest("A_size_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.remove();
+			printTest("A_ListIter1PreviousRemove_testListIter2SetB", testListIterSet(it2, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.size();
-			printTest("A_size_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.remove();
+			printTest("A_ListIter1PreviousRemove_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.size();
-			printTest("A_size_testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.remove();
+			printTest("A_ListIter1PreviousRemove_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.ConcurrentModification));
 
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.toString();
-			printTest("A_toString_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1NextSetB_testListIter2HasNext", testIterHasNext(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.toString();
-			printTest("A_toString_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1NextSetB_testListIter2Next", testIterNext(it2, ELEMENT_A, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.toString();
-			printTest("A_toString_testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
-
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1NextSetB_testListIter2Remove", testIterRemove(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.addToFront(ELEMENT_B);
-			printTest("A_addToFrontB_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1NextSetB_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.addToFront(ELEMENT_B);
-			printTest("A_addToFrontB_testIterNextConcurrent", testIterNext(it1, ELEMENT_B, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1NextSetB_testListIter2Previous", testListIterPrevious(it2, null, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.addToFront(ELEMENT_B);
-			printTest("A_addToFrontB_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
-
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1NextSetB_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.addToRear(ELEMENT_B);
-			printTest("A_addToRearB_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1NextSetB_testListIter2SetB", testListIterSet(it2, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.addToRear(ELEMENT_B);
-			printTest("A_addToRearB_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1NextSetB_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.addToRear(ELEMENT_B);
-			printTest("A_addToRearB_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			it2 = list.listIterator();
+			it1.next();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1NextSetB_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.ConcurrentModification));
 
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.addAfter(ELEMENT_B, ELEMENT_A);
-			printTest("A_addAfterAB_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1PreviousSetB_testListIter2HasNext", testIterHasNext(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.addAfter(ELEMENT_B, ELEMENT_A);
-			printTest("A_addAfterAB_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1PreviousSetB_testListIter2Next", testIterNext(it2, ELEMENT_A, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.addAfter(ELEMENT_B, ELEMENT_A);
-			printTest("A_addAfterAB_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
-
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1PreviousSetB_testListIter2Remove", testIterRemove(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.add(0,ELEMENT_B);
-			printTest("A_add0B_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1PreviousSetB_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.add(0,ELEMENT_B);
-			printTest("A_add0B_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1PreviousSetB_testListIter2Previous", testListIterPrevious(it2, null, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.add(0,ELEMENT_B);
-			printTest("A_add0B_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
-
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1PreviousSetB_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.set(0,ELEMENT_B);
-			printTest("A_set0B_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1PreviousSetB_testListIter2SetB", testListIterSet(it2, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.set(0,ELEMENT_B);
-			printTest("A_set0B_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1PreviousSetB_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.set(0,ELEMENT_B);
-			printTest("A_set0B_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.previous();
+			it1.set(ELEMENT_B);
+			printTest("A_ListIter1PreviousSetB_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.ConcurrentModification));
 
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.add(ELEMENT_B);
-			printTest("A_addB_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.add(ELEMENT_B);
+			printTest("A_ListIter11AddB_testListIter2HasNext", testIterHasNext(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.add(ELEMENT_B);
-			printTest("A_addB_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.add(ELEMENT_B);
+			printTest("A_ListIter11AddB_testListIter2Next", testIterNext(it2, ELEMENT_A, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.add(ELEMENT_B);
-			printTest("A_addB_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
-
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.add(ELEMENT_B);
+			printTest("A_ListIter11AddB_testListIter2Remove", testIterRemove(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.get(0);
-			printTest("A_get0_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.add(ELEMENT_B);
+			printTest("A_ListIter11AddB_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.get(0);
-			printTest("A_get0_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.add(ELEMENT_B);
+			printTest("A_ListIter11AddB_testListIter2Previous", testListIterPrevious(it2, null, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.get(0);
-			printTest("A_get_testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
-
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.add(ELEMENT_B);
+			printTest("A_ListIter11AddB_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.indexOf(ELEMENT_A);
-			printTest("A_indexOfA_testIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.add(ELEMENT_B);
+			printTest("A_ListIter11AddB_testListIter2SetB", testListIterSet(it2, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.indexOf(ELEMENT_A);
-			printTest("A_indexOfA_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.add(ELEMENT_B);
+			printTest("A_ListIter11AddB_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.indexOf(ELEMENT_A);
-			printTest("A_indexOfA_testIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
+			it2 = list.listIterator();
+			it1 = list.listIterator(1);
+			it1.add(ELEMENT_B);
+			printTest("A_ListIter11AddB_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.ConcurrentModification));
 
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.remove(0);
-			printTest("A_remove0_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.remove(0);
-			printTest("A_remove0_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.removeFirst();
+			printTest("A_removeFirst_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it1 = list.iterator();
-			list.remove(0);
-			printTest("A_remove0_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
-		} catch (Exception e) {
-			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_IteratorConcurrency");
-			e.printStackTrace();
-		} finally {
-			if (printSectionSummaries) {
-				printSectionSummary();
-			}
-		}
-	}
-
-	////////////////////////////////////////////////////////
-	// XXX ListIterator Concurrency Tests
-	// Will add tests for double-linked list
-	////////////////////////////////////////////////////////
-
-	/** run ListIterator concurrency tests */
-	private void test_ListIterConcurrency() {
-		System.out.println("\nListIterator Concurrency Tests\n");
-		try {
-			printTest("emptyList_testConcurrentListIter", testListIterConcurrent(newList(), Result.NoException));
-			printTest("emptyList_testConcurrentListIter00", testListIterConcurrent(newList(), 0, 0, Result.NoException));
-
-			IndexedUnsortedList<Integer> list = newList();
-			ListIterator<Integer> it1 = list.listIterator();
-			ListIterator<Integer> it2 = list.listIterator();
-			it1.hasNext();
-			printTest("emptyList_ListIter1HasNext_testListIter2HasNext", testIterHasNext(it2, Result.False));
-			list = newList();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasNext();
-			printTest("emptyList_ListIter1HasNext_testListIter2Next", testIterNext(it2, null, Result.NoSuchElement));
-			list = newList();
+			list.removeFirst();
+			printTest("A_removeFirst_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasNext();
-			printTest("emptyList_ListIter1HasNext_testListIter2Remove", testIterRemove(it2, Result.IllegalState));
-			list = newList();
+			list.removeFirst();
+			printTest("A_removeLast_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasNext();
-			printTest("emptyList_ListIter1HasNext_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.False));
-			list = newList();
+			list.removeFirst();
+			printTest("A_removeFirst_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasNext();
-			printTest("emptyList_ListIter1HasNext_testListIter2Previous", testListIterPrevious(it2, null, Result.NoSuchElement));
-			list = newList();
+			list.removeFirst();
+			printTest("A_removeFirst_testListIterPreviousConcurrent", testListIterPrevious(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasNext();
-			printTest("emptyList_ListIter1HasNext_testListIter2AddA", testListIterAdd(it2, ELEMENT_A, Result.NoException));
-			list = newList();
+			list.removeFirst();
+			printTest("A_removeFirst_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasNext();
-			printTest("emptyList_ListIter1HasNext_testListIter2SetA", testListIterSet(it2, ELEMENT_A, Result.IllegalState));
-			list = newList();
+			list.removeFirst();
+			printTest("A_removeFirst_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasNext();
-			printTest("emptyList_ListIter1HasNext_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.MatchingValue));
-			list = newList();
+			list.removeFirst();
+			printTest("A_removeFirst_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasNext();
-			printTest("emptyList_ListIter1HasNext_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.MatchingValue));
+			list.removeFirst();
+			printTest("A_removeFirst_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
 
-			list = newList();
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasPrevious();
-			printTest("emptyList_ListIter1HasPrevious_testListIter2HasNext", testIterHasNext(it2, Result.False));
-			list = newList();
+			list.removeLast();
+			printTest("A_removeLast_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasPrevious();
-			printTest("emptyList_ListIter1HasPrevious_testListIter2Next", testIterNext(it2, null, Result.NoSuchElement));
-			list = newList();
+			list.removeLast();
+			printTest("A_removeLast_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasPrevious();
-			printTest("emptyList_ListIter1HasPrevious_testListIter2Remove", testIterRemove(it2, Result.IllegalState));
-			list = newList();
+			list.removeLast();
+			printTest("A_removeLast_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasPrevious();
-			printTest("emptyList_ListIter1HasPrevious_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.False));
-			list = newList();
+			list.removeLast();
+			printTest("A_removeLast_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasPrevious();
-			printTest("emptyList_ListIter1HasPrevious_testListIter2Previous", testListIterPrevious(it2, null, Result.NoSuchElement));
-			list = newList();
+			list.removeLast();
+			printTest("A_removeLast_testListIterPreviousConcurrent", testListIterPrevious(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasPrevious();
-			printTest("emptyList_ListIter1HasPrevious_testListIter2AddA", testListIterAdd(it2, ELEMENT_A, Result.NoException));
-			list = newList();
+			list.removeLast();
+			printTest("A_removeLast_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasPrevious();
-			printTest("emptyList_ListIter1HasPrevious_testListIter2SetA", testListIterSet(it2, ELEMENT_A, Result.IllegalState));
-			list = newList();
+			list.removeLast();
+			printTest("A_removeLast_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasPrevious();
-			printTest("emptyList_ListIter1HasPrevious_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.MatchingValue));
-			list = newList();
+			list.removeLast();
+			printTest("A_removeLast_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.hasPrevious();
-			printTest("emptyList_ListIter1HasPrevious_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.MatchingValue));
+			list.removeLast();
+			printTest("A_removeLast_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
 
-			list = newList();
-			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.nextIndex();
-			printTest("emptyList_ListIter1NextIndex_testListIter2HasNext", testIterHasNext(it2, Result.False));
-			list = newList();
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.nextIndex();
-			printTest("emptyList_ListIter1NextIndex_testListIter2Next", testIterNext(it2, null, Result.NoSuchElement));
-			list = newList();
+			list.remove(ELEMENT_A);
+			printTest("A_removeA_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.nextIndex();
-			printTest("emptyList_ListIter1NextIndex_testListIter2Remove", testIterRemove(it2, Result.IllegalState));
-			list = newList();
+			list.remove(ELEMENT_A);
+			printTest("A_removeA_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.nextIndex();
-			printTest("emptyList_ListIter1NextIndex_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.False));
-			list = newList();
+			list.remove(ELEMENT_A);
+			printTest("A_removeLast_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.nextIndex();
-			printTest("emptyList_ListIter1NextIndex_testListIter2Previous", testListIterPrevious(it2, null, Result.NoSuchElement));
-			list = newList();
+			list.remove(ELEMENT_A);
+			printTest("A_removeA_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.nextIndex();
-			printTest("emptyList_ListIter1NextIndex_testListIter2AddA", testListIterAdd(it2, ELEMENT_A, Result.NoException));
-			list = newList();
+			list.remove(ELEMENT_A);
+			printTest("A_removeA_testListIterPreviousConcurrent", testListIterPrevious(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.nextIndex();
-			printTest("emptyList_ListIter1NextIndex_testListIter2SetA", testListIterSet(it2, ELEMENT_A, Result.IllegalState));
-			list = newList();
+			list.remove(ELEMENT_A);
+			printTest("A_removeA_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.nextIndex();
-			printTest("emptyList_ListIter1NextIndex_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.MatchingValue));
-			list = newList();
+			list.remove(ELEMENT_A);
+			printTest("A_removeA_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.nextIndex();
-			printTest("emptyList_ListIter1NextIndex_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.MatchingValue));
+			list.remove(ELEMENT_A);
+			printTest("A_removeA_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.listIterator();
+			list.remove(ELEMENT_A);
+			printTest("A_removeA_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
 
-			list = newList();
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.previousIndex();
-			printTest("emptyList_ListIter1PreviousIndex_testListIter2HasNext", testIterHasNext(it2, Result.False));
-			list = newList();
+			list.first();
+			printTest("A_first_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.previousIndex();
-			printTest("emptyList_ListIter1PreviousIndex_testListIter2Next", testIterNext(it2, null, Result.NoSuchElement));
-			list = newList();
+			list.first();
+			printTest("A_first_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.previousIndex();
-			printTest("emptyList_ListIter1PreviousIndex_testListIter2Remove", testIterRemove(it2, Result.IllegalState));
-			list = newList();
+			list.first();
+			printTest("A_first_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.previousIndex();
-			printTest("emptyList_ListIter1PreviousIndex_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.False));
-			list = newList();
+			list.first();
+			printTest("A_first_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.previousIndex();
-			printTest("emptyList_ListIter1PreviousIndex_testListIter2Previous", testListIterPrevious(it2, null, Result.NoSuchElement));
-			list = newList();
+			list.first();
+			printTest("A_first_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.previousIndex();
-			printTest("emptyList_ListIter1PreviousIndex_testListIter2AddA", testListIterAdd(it2, ELEMENT_A, Result.NoException));
-			list = newList();
+			list.first();
+			printTest("A_first_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.previousIndex();
-			printTest("emptyList_ListIter1PreviousIndex_testListIter2SetA", testListIterSet(it2, ELEMENT_A, Result.IllegalState));
-			list = newList();
+			list.first();
+			printTest("A_first_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.previousIndex();
-			printTest("emptyList_ListIter1PreviousIndex_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.MatchingValue));
-			list = newList();
+			list.first();
+			printTest("A_first_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.previousIndex();
-			printTest("emptyList_ListIter1PreviousIndex_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.MatchingValue));
+			list.first();
+			printTest("A_first_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
 
-			list = newList();
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.add(ELEMENT_A);
-			printTest("emptyList_ListIter1AddA_testListIter2HasNext", testIterHasNext(it2, Result.ConcurrentModification));
-			list = newList();
+			list.last();
+			printTest("A_last_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.add(ELEMENT_A);
-			printTest("emptyList_ListIter1AddA_testListIter2Next", testIterNext(it2, null, Result.ConcurrentModification));
-			list = newList();
+			list.last();
+			printTest("A_last_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.add(ELEMENT_A);
-			printTest("emptyList_ListIter1AddA_testListIter2Remove", testIterRemove(it2, Result.ConcurrentModification));
-			list = newList();
+			list.last();
+			printTest("A_last_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.add(ELEMENT_A);
-			printTest("emptyList_ListIter1AddA_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.ConcurrentModification));
-			list = newList();
+			list.last();
+			printTest("A_last_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.add(ELEMENT_A);
-			printTest("emptyList_ListIter1AddA_testListIter2Previous", testListIterPrevious(it2, null, Result.ConcurrentModification));
-			list = newList();
+			list.last();
+			printTest("A_last_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.add(ELEMENT_A);
-			printTest("emptyList_ListIter1AddA_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.ConcurrentModification));
-			list = newList();
+			list.last();
+			printTest("A_last_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.add(ELEMENT_A);
-			printTest("emptyList_ListIter1AddA_testListIter2SetA", testListIterSet(it2, ELEMENT_A, Result.ConcurrentModification));
-			list = newList();
+			list.last();
+			printTest("A_last_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.add(ELEMENT_A);
-			printTest("emptyList_ListIter1AddA_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.ConcurrentModification));
-			list = newList();
+			list.last();
+			printTest("A_last_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.add(ELEMENT_A);
-			printTest("emptyList_ListIter1AddA_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.ConcurrentModification));
+			list.last();
+			printTest("A_last_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
 
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			printTest("A_ListIter1Next_testListIter2HasNext", testIterHasNext(it2, Result.True));
+			list.contains(ELEMENT_A);
+			printTest("A_containsA_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			printTest("A_ListIter1Next_testListIter2Next", testIterNext(it2, ELEMENT_A, Result.MatchingValue));
+			list.contains(ELEMENT_A);
+			printTest("A_containsA_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			printTest("A_ListIter1Next_testListIter2Remove", testIterRemove(it2, Result.IllegalState));
+			list.contains(ELEMENT_A);
+			printTest("A_containsA_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			printTest("A_ListIter1Next_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.False));
+			list.contains(ELEMENT_A);
+			printTest("A_containsA_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			printTest("A_ListIter1Next_testListIter2Previous", testListIterPrevious(it2, null, Result.NoSuchElement));
+			list.contains(ELEMENT_A);
+			printTest("A_containsA_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			printTest("A_ListIter1Next_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.NoException));
+			list.contains(ELEMENT_A);
+			printTest("A_containsA_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			printTest("A_ListIter1Next_testListIter2SetB", testListIterSet(it2, ELEMENT_B, Result.IllegalState));
+			list.contains(ELEMENT_A);
+			printTest("A_containsA_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			printTest("A_ListIter1Next_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.MatchingValue));
+			list.contains(ELEMENT_A);
+			printTest("A_containsA_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			printTest("A_ListIter1Next_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.MatchingValue));
+			list.contains(ELEMENT_A);
+			printTest("A_containsA_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
 
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			printTest("A_ListIter1Previous_testListIter2HasNext", testIterHasNext(it2, Result.True));
+			it1 = list.listIterator();
+			list.isEmpty();
+			printTest("A_isEmpty_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			printTest("A_ListIter1Previous_testListIter2Next", testIterNext(it2, ELEMENT_A, Result.MatchingValue));
+			it1 = list.listIterator();
+			list.isEmpty();
+			printTest("A_isEmpty_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			printTest("A_ListIter1Previous_testListIter2Remove", testIterRemove(it2, Result.IllegalState));
+			it1 = list.listIterator();
+			list.isEmpty();
+			printTest("A_isEmpty_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			printTest("A_ListIter1Previous_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.False));
+			it1 = list.listIterator();
+			list.isEmpty();
+			printTest("A_isEmpty_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			printTest("A_ListIter1Previous_testListIter2Previous", testListIterPrevious(it2, null, Result.NoSuchElement));
+			it1 = list.listIterator();
+			list.isEmpty();
+			printTest("A_isEmpty_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			printTest("A_ListIter1Previous_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.NoException));
+			it1 = list.listIterator();
+			list.isEmpty();
+			printTest("A_isEmpty_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			printTest("A_ListIter1Previous_testListIter2SetB", testListIterSet(it2, ELEMENT_B, Result.IllegalState));
+			it1 = list.listIterator();
+			list.isEmpty();
+			printTest("A_isEmpty_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			printTest("A_ListIter1Previous_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.MatchingValue));
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			printTest("A_ListIter1Previous_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.MatchingValue));
+			it1 = list.listIterator();
+			list.isEmpty();
+			printTest("A_isEmpty_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
+			list = emptyList_addToFrontA_A();
+			it1 = list.listIterator();
+			list.isEmpty();
+			printTest("A_isEmpty_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
 
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.remove();
-			printTest("A_ListIter1NextRemove_testListIter2HasNext", testIterHasNext(it2, Result.ConcurrentModification));
+			list.size();
+			printTest("A_size_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.remove();
-			printTest("A_ListIter1NextRemove_testListIter2Next", testIterNext(it2, ELEMENT_A, Result.ConcurrentModification));
+			list.size();
+			printTest("A_size_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.remove();
-			printTest("A_ListIter1NextRemove_testListIter2Remove", testIterRemove(it2, Result.ConcurrentModification));
+			list.size();
+			printTest("A_size_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.remove();
-			printTest("A_ListIter1NextRemove_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.ConcurrentModification));
+			list.size();
+			printTest("A_size_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.remove();
-			printTest("A_ListIter1NextRemove_testListIter2Previous", testListIterPrevious(it2, null, Result.ConcurrentModification));
+			list.size();
+			printTest("A_size_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.remove();
-			printTest("A_ListIter1NextRemove_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.ConcurrentModification));
+			list.size();
+			printTest("A_size_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.remove();
-			printTest("A_ListIter1NextRemove_testListIter2SetB", testListIterSet(it2, ELEMENT_B, Result.ConcurrentModification));
+			list.size();
+			printTest("A_size_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.remove();
-			printTest("A_ListIter1NextRemove_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.ConcurrentModification));
+			list.size();
+			printTest("A_size_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.remove();
-			printTest("A_ListIter1NextRemove_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.ConcurrentModification));
+			list.size();
+			printTest("A_size_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
 
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.remove();
-			printTest("A_ListIter1PreviousRemove_testListIter2HasNext", testIterHasNext(it2, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.toString();
+			printTest("A_toString_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.remove();
-			printTest("A_ListIter1PreviousRemove_testListIter2Next", testIterNext(it2, ELEMENT_A, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.toString();
+			printTest("A_toString_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.remove();
-			printTest("A_ListIter1PreviousRemove_testListIter2Remove", testIterRemove(it2, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.toString();
+			printTest("A_toString_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.remove();
-			printTest("A_ListIter1PreviousRemove_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.toString();
+			printTest("A_toString_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.remove();
-			printTest("A_ListIter1PreviousRemove_testListIter2Previous", testListIterPrevious(it2, null, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.toString();
+			printTest("A_toString_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.remove();
-			printTest("A_ListIter1PreviousRemove_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.toString();
+			printTest("A_toString_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.remove();
-			printTest("A_ListIter1PreviousRemove_testListIter2SetB", testListIterSet(it2, ELEMENT_B, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.toString();
+			printTest("A_toString_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.remove();
-			printTest("A_ListIter1PreviousRemove_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.toString();
+			printTest("A_toString_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.remove();
-			printTest("A_ListIter1PreviousRemove_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.toString();
+			printTest("A_toString_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
 
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1NextSetB_testListIter2HasNext", testIterHasNext(it2, Result.ConcurrentModification));
+			list.addToFront(ELEMENT_B);
+			printTest("A_addToFrontB_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1NextSetB_testListIter2Next", testIterNext(it2, ELEMENT_A, Result.ConcurrentModification));
+			list.addToFront(ELEMENT_B);
+			printTest("A_addToFrontB_testListIterNextConcurrent", testIterNext(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1NextSetB_testListIter2Remove", testIterRemove(it2, Result.ConcurrentModification));
+			list.addToFront(ELEMENT_B);
+			printTest("A_addToFrontB_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1NextSetB_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.ConcurrentModification));
+			list.addToFront(ELEMENT_B);
+			printTest("A_addToFrontB_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1NextSetB_testListIter2Previous", testListIterPrevious(it2, null, Result.ConcurrentModification));
+			list.addToFront(ELEMENT_B);
+			printTest("A_addToFrontB_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1NextSetB_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.ConcurrentModification));
+			list.addToFront(ELEMENT_B);
+			printTest("A_addToFrontB_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1NextSetB_testListIter2SetB", testListIterSet(it2, ELEMENT_B, Result.ConcurrentModification));
+			list.addToFront(ELEMENT_B);
+			printTest("A_addToFrontB_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1NextSetB_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.ConcurrentModification));
+			list.addToFront(ELEMENT_B);
+			printTest("A_addToFrontB_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			it2 = list.listIterator();
-			it1.next();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1NextSetB_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.ConcurrentModification));
+			list.addToFront(ELEMENT_B);
+			printTest("A_addToFrontB_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
 
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1PreviousSetB_testListIter2HasNext", testIterHasNext(it2, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addToRear(ELEMENT_B);
+			printTest("A_addToRearB_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1PreviousSetB_testListIter2Next", testIterNext(it2, ELEMENT_A, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addToRear(ELEMENT_B);
+			printTest("A_addToRearB_testListIterNextConcurrent", testIterNext(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1PreviousSetB_testListIter2Remove", testIterRemove(it2, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addToRear(ELEMENT_B);
+			printTest("A_addToRearB_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1PreviousSetB_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addToRear(ELEMENT_B);
+			printTest("A_addToRearB_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1PreviousSetB_testListIter2Previous", testListIterPrevious(it2, null, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addToRear(ELEMENT_B);
+			printTest("A_addToRearB_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1PreviousSetB_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addToRear(ELEMENT_B);
+			printTest("A_addToRearB_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1PreviousSetB_testListIter2SetB", testListIterSet(it2, ELEMENT_B, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addToRear(ELEMENT_B);
+			printTest("A_addToRearB_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1PreviousSetB_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addToRear(ELEMENT_B);
+			printTest("A_addToRearB_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.previous();
-			it1.set(ELEMENT_B);
-			printTest("A_ListIter1PreviousSetB_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addToRear(ELEMENT_B);
+			printTest("A_addToRearB_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
 
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.add(ELEMENT_B);
-			printTest("A_ListIter11AddB_testListIter2HasNext", testIterHasNext(it2, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addAfter(ELEMENT_B, ELEMENT_A);
+			printTest("A_addAfterAB_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.add(ELEMENT_B);
-			printTest("A_ListIter11AddB_testListIter2Next", testIterNext(it2, ELEMENT_A, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addAfter(ELEMENT_B, ELEMENT_A);
+			printTest("A_addAfterAB_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.add(ELEMENT_B);
-			printTest("A_ListIter11AddB_testListIter2Remove", testIterRemove(it2, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addAfter(ELEMENT_B, ELEMENT_A);
+			printTest("A_addAfterAB_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.add(ELEMENT_B);
-			printTest("A_ListIter11AddB_testListIter2HasPrevious", testListIterHasPrevious(it2, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addAfter(ELEMENT_B, ELEMENT_A);
+			printTest("A_addAfterAB_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.add(ELEMENT_B);
-			printTest("A_ListIter11AddB_testListIter2Previous", testListIterPrevious(it2, null, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addAfter(ELEMENT_B, ELEMENT_A);
+			printTest("A_addAfterAB_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.add(ELEMENT_B);
-			printTest("A_ListIter11AddB_testListIter2AddB", testListIterAdd(it2, ELEMENT_B, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addAfter(ELEMENT_B, ELEMENT_A);
+			printTest("A_addAfterAB_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.add(ELEMENT_B);
-			printTest("A_ListIter11AddB_testListIter2SetB", testListIterSet(it2, ELEMENT_B, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addAfter(ELEMENT_B, ELEMENT_A);
+			printTest("A_addAfterAB_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.add(ELEMENT_B);
-			printTest("A_ListIter11AddB_testListIter2NextIndex", testListIterNextIndex(it2, 0, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addAfter(ELEMENT_B, ELEMENT_A);
+			printTest("A_addAfterAB_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
-			it2 = list.listIterator();
-			it1 = list.listIterator(1);
-			it1.add(ELEMENT_B);
-			printTest("A_ListIter11AddB_testListIter2PreviousIndex", testListIterPreviousIndex(it2, -1, Result.ConcurrentModification));
+			it1 = list.listIterator();
+			list.addAfter(ELEMENT_B, ELEMENT_A);
+			printTest("A_addAfterAB_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
 
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeFirst();
-			printTest("A_removeFirst_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list.add(0,ELEMENT_B);
+			printTest("A_add0B_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeFirst();
-			printTest("A_removeFirst_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list.add(0,ELEMENT_B);
+			printTest("A_add0B_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeFirst();
-			printTest("A_removeLast_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
+			list.add(0,ELEMENT_B);
+			printTest("A_add0B_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeFirst();
-			printTest("A_removeFirst_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
+			list.add(0, ELEMENT_B);
+			printTest("A_add0B_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeFirst();
-			printTest("A_removeFirst_testListIterPreviousConcurrent", testListIterPrevious(it1, ELEMENT_A, Result.ConcurrentModification));
+			list.add(0, ELEMENT_B);
+			printTest("A_add0B_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeFirst();
-			printTest("A_removeFirst_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
+			list.add(0, ELEMENT_B);
+			printTest("A_add0B_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeFirst();
-			printTest("A_removeFirst_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
+			list.add(0, ELEMENT_B);
+			printTest("A_add0B_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeFirst();
-			printTest("A_removeFirst_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
+			list.add(0, ELEMENT_B);
+			printTest("A_add0B_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeFirst();
-			printTest("A_removeFirst_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
+			list.add(0, ELEMENT_B);
+			printTest("A_add0B_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
 
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeLast();
-			printTest("A_removeLast_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list.set(0,ELEMENT_B);
+			printTest("A_set0B_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeLast();
-			printTest("A_removeLast_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list.set(0,ELEMENT_B);
+			printTest("A_set0B_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeLast();
-			printTest("A_removeLast_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
+			list.set(0,ELEMENT_B);
+			printTest("A_set0B_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeLast();
-			printTest("A_removeLast_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
+			list.set(0, ELEMENT_B);
+			printTest("A_set0B_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeLast();
-			printTest("A_removeLast_testListIterPreviousConcurrent", testListIterPrevious(it1, ELEMENT_A, Result.ConcurrentModification));
+			list.set(0, ELEMENT_B);
+			printTest("A_set0B_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeLast();
-			printTest("A_removeLast_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
+			list.set(0, ELEMENT_B);
+			printTest("A_set0B_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeLast();
-			printTest("A_removeLast_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
+			list.set(0, ELEMENT_B);
+			printTest("A_set0B_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeLast();
-			printTest("A_removeLast_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
+			list.set(0, ELEMENT_B);
+			printTest("A_set0B_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.removeLast();
-			printTest("A_removeLast_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
+			list.set(0, ELEMENT_B);
+			printTest("A_set0B_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
 
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.remove(ELEMENT_A);
-			printTest("A_removeA_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list.add(ELEMENT_B);
+			printTest("A_addB_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.remove(ELEMENT_A);
-			printTest("A_removeA_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list.add(ELEMENT_B);
+			printTest("A_addB_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.remove(ELEMENT_A);
-			printTest("A_removeLast_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
+			list.add(ELEMENT_B);
+			printTest("A_addB_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.remove(ELEMENT_A);
-			printTest("A_removeA_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
+			list.add(ELEMENT_B);
+			printTest("A_addB_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.remove(ELEMENT_A);
-			printTest("A_removeA_testListIterPreviousConcurrent", testListIterPrevious(it1, ELEMENT_A, Result.ConcurrentModification));
+			list.add(ELEMENT_B);
+			printTest("A_addB_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.remove(ELEMENT_A);
-			printTest("A_removeA_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
+			list.add(ELEMENT_B);
+			printTest("A_addB_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.remove(ELEMENT_A);
-			printTest("A_removeA_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
+			list.add(ELEMENT_B);
+			printTest("A_addB_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.remove(ELEMENT_A);
-			printTest("A_removeA_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
+			list.add(ELEMENT_B);
+			printTest("A_addB_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.remove(ELEMENT_A);
-			printTest("A_removeA_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
+			list.add(ELEMENT_B);
+			printTest("A_addB_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
 
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.first();
-			printTest("A_first_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			list.get(0);
+			printTest("A_get0_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.first();
-			printTest("A_first_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			list.get(0);
+			printTest("A_get0_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.first();
-			printTest("A_first_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
+			list.get(0);
+			printTest("A_get_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.first();
-			printTest("A_first_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
+			list.get(0);
+			printTest("A_get0_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.first();
-			printTest("A_first_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
+			list.get(0);
+			printTest("A_get0_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.first();
-			printTest("A_first_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
+			list.get(0);
+			printTest("A_get0_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.first();
-			printTest("A_first_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
+			list.get(0);
+			printTest("A_get0_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.first();
-			printTest("A_first_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
+			list.get(0);
+			printTest("A_get0_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.first();
-			printTest("A_first_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
+			list.get(0);
+			printTest("A_get0_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
 
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.last();
-			printTest("A_last_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			list.indexOf(ELEMENT_A);
+			printTest("A_indexOfA_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.last();
-			printTest("A_last_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			list.indexOf(ELEMENT_A);
+			printTest("A_indexOfA_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.last();
-			printTest("A_last_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
+			list.indexOf(ELEMENT_A);
+			printTest("A_indexOfA_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.last();
-			printTest("A_last_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
+			list.indexOf(ELEMENT_A);
+			printTest("A_indexOfA_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.last();
-			printTest("A_last_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
+			list.indexOf(ELEMENT_A);
+			printTest("A_indexOfA_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.last();
-			printTest("A_last_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
+			list.indexOf(ELEMENT_A);
+			printTest("A_indexOfA_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.last();
-			printTest("A_last_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
+			list.indexOf(ELEMENT_A);
+			printTest("A_indexOfA_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.last();
-			printTest("A_last_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
+			list.indexOf(ELEMENT_A);
+			printTest("A_indexOfA_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.last();
-			printTest("A_last_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
+			list.indexOf(ELEMENT_A);
+			printTest("A_indexOfA_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
 
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.contains(ELEMENT_A);
-			printTest("A_containsA_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
+			list.remove(0);
+			printTest("A_remove0_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.contains(ELEMENT_A);
-			printTest("A_containsA_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			list.remove(0);
+			printTest("A_remove0_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.contains(ELEMENT_A);
-			printTest("A_containsA_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
+			list.remove(0);
+			printTest("A_remove0_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.contains(ELEMENT_A);
-			printTest("A_containsA_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
+			list.remove(0);
+			printTest("A_remove0_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.contains(ELEMENT_A);
-			printTest("A_containsA_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
+			list.remove(0);
+			printTest("A_remove0_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.contains(ELEMENT_A);
-			printTest("A_containsA_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
+			list.remove(0);
+			printTest("A_remove0_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.contains(ELEMENT_A);
-			printTest("A_containsA_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
+			list.remove(0);
+			printTest("A_remove0_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.contains(ELEMENT_A);
-			printTest("A_containsA_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
+			list.remove(0);
+			printTest("A_remove0_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
 			list = emptyList_addToFrontA_A();
 			it1 = list.listIterator();
-			list.contains(ELEMENT_A);
-			printTest("A_containsA_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
+			list.remove(0);
+			printTest("A_remove0_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ListIterConcurrency");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Duplicate Element Tests
+	////////////////////////////////////////////////////////
+
+	/** run tests on lists holding hundreds of copies of the same few elements */
+	private void test_Duplicates() {
+		System.out.println("\nDuplicate Element Tests\n");
+		try {
+			testDuplicates("", this::newList);
+			if (LIST_TO_USE == ListToUse.hashedDoubleLinkedList) {
+				// the element index orders equal elements differently with a position index
+				testDuplicates("indexed_", () -> new IUDoubleLinkedList<Integer>(true, true));
+			}
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Duplicates");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Runs the duplicate element tests against lists from one builder.
+	 * @param prefix prepended to each test name
+	 * @param builder makes the empty lists to test
+	 */
+	private void testDuplicates(String prefix, Scenario<Integer> builder) {
+		final int copies = 300;
+		
+		IndexedUnsortedList<Integer> list = builder.build();
+		List<Integer> model = new ArrayList<Integer>();
+		fillDuplicates(list, model, copies);
+		printTest(prefix + "manyAB_testContents", sameContents(list, model));
+		printTest(prefix + "manyAB_testIndexOfA", list.indexOf(ELEMENT_A) == 0);
+		printTest(prefix + "manyAB_testIndexOfB", list.indexOf(ELEMENT_B) == 1);
+
+		// remove(T) must always take the first remaining copy
+		list = builder.build();
+		model = new ArrayList<Integer>();
+		fillDuplicates(list, model, copies);
+		boolean inOrder = true;
+		while (inOrder && !model.isEmpty()) {
+			Integer target = (model.size() % 2 == 0) ? ELEMENT_A : ELEMENT_B;
+			if (!model.contains(target)) {
+				target = model.get(0);
+			}
+			model.remove(target);
+			inOrder = list.remove(target).equals(target) && sameContents(list, model)
+					&& list.indexOf(ELEMENT_A) == model.indexOf(ELEMENT_A)
+					&& list.indexOf(ELEMENT_B) == model.indexOf(ELEMENT_B);
+		}
+		printTest(prefix + "manyAB_removeAllCopies_testFirstCopyEachTime", inOrder && list.isEmpty());
+
+		// copies added or set in the middle must still be found in list order
+		list = builder.build();
+		model = new ArrayList<Integer>();
+		fillDuplicates(list, model, copies);
+		Random random = new Random(0);
+		boolean matches = true;
+		for (int i = 0; matches && i < 4 * copies; i++) {
+			Integer element = random.nextBoolean() ? ELEMENT_A : ELEMENT_B;
+			switch (random.nextInt(4)) {
+			case 0:
+				int index = random.nextInt(model.size() + 1);
+				list.add(index, element);
+				model.add(index, element);
+				break;
+			case 1:
+				if (model.contains(element)) {
+					list.remove(element);
+					model.remove(element);
+				}
+				break;
+			case 2:
+				if (!model.isEmpty()) {
+					index = random.nextInt(model.size());
+					list.set(index, element);
+					model.set(index, element);
+				}
+				break;
+			default:
+				if (!model.isEmpty()) {
+					index = random.nextInt(model.size());
+					matches = list.remove(index).equals(model.remove(index));
+				}
+				break;
+			}
+			matches = matches && list.indexOf(ELEMENT_A) == model.indexOf(ELEMENT_A)
+					&& list.indexOf(ELEMENT_B) == model.indexOf(ELEMENT_B);
+		}
+		printTest(prefix + "manyAB_randomEdits_testMatchesArrayList", matches && sameContents(list, model));
+
+		// swapping every element moves every copy between the two elements
+		list = builder.build();
+		model = new ArrayList<Integer>();
+		fillDuplicates(list, model, copies);
+		list.replaceAll(e -> e.equals(ELEMENT_A) ? ELEMENT_B : ELEMENT_A);
+		model.replaceAll(e -> e.equals(ELEMENT_A) ? ELEMENT_B : ELEMENT_A);
+		printTest(prefix + "manyAB_replaceAllSwap_testContents", sameContents(list, model)
+				&& list.indexOf(ELEMENT_A) == model.indexOf(ELEMENT_A)
+				&& list.indexOf(ELEMENT_B) == model.indexOf(ELEMENT_B));
+		list.addAfter(ELEMENT_C, ELEMENT_B);
+		model.add(model.indexOf(ELEMENT_B) + 1, ELEMENT_C);
+		printTest(prefix + "manyAB_replaceAllSwap_addAfterB_testContents", sameContents(list, model));
+	}
+
+	/** Adds A, B, A, A, B, A, ... to both the list and its model.
+	 * @param list list to fill
+	 * @param model ArrayList to fill the same way
+	 * @param count number of elements to add
+	 */
+	private void fillDuplicates(IndexedUnsortedList<Integer> list, List<Integer> model, int count) {
+		for (int i = 0; i < count; i++) {
+			Integer element = (i % 3 == 1) ? ELEMENT_B : ELEMENT_A;
+			list.addToRear(element);
+			model.add(element);
+		}
+	}
+
+	/** Compares a list with its ArrayList model, element by element.
+	 * @param list list to check
+	 * @param model expected contents
+	 * @return true if both hold equal elements in the same order
+	 */
+	private boolean sameContents(IndexedUnsortedList<Integer> list, List<Integer> model) {
+		if (list.size() != model.size()) {
+			return false;
+		}
+		Iterator<Integer> it = list.iterator();
+		for (Integer expected : model) {
+			if (!it.hasNext() || !it.next().equals(expected)) {
+				return false;
+			}
+		}
+		return !it.hasNext();
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX LRUCache Tests
+	////////////////////////////////////////////////////////
+
+	/** run tests of LRUCache eviction order, weighing and counters */
+	private void test_LRUCache() {
+		System.out.println("\nLRUCache Tests\n");
+		try {
+			LRUCache<Integer, String> cache = new LRUCache<Integer, String>(3);
+			cache.put(ELEMENT_A, "a");
+			cache.put(ELEMENT_B, "b");
+			cache.put(ELEMENT_C, "c");
+			printTest("size3_putABC_testToString", cache.toString().equals("[3=c, 2=b, 1=a]"));
+			printTest("size3_putABC_testEvictionCount", cache.evictionCount() == 0 && cache.size() == 3);
+			cache.put(ELEMENT_D, "d");
+			printTest("size3_putABCD_testEvictsA", !cache.containsKey(ELEMENT_A) && cache.size() == 3
+					&& cache.toString().equals("[4=d, 3=c, 2=b]"));
+			printTest("size3_putABCD_testEvictionCount", cache.evictionCount() == 1);
+
+			cache = lruCacheABC();
+			cache.get(ELEMENT_A);
+			cache.put(ELEMENT_D, "d");
+			printTest("size3_putABC_getA_putD_testEvictsB", !cache.containsKey(ELEMENT_B)
+					&& cache.toString().equals("[4=d, 1=a, 3=c]"));
+			cache = lruCacheABC();
+			printTest("size3_putABC_testPutA", "a".equals(cache.put(ELEMENT_A, "x")));
+			cache.put(ELEMENT_D, "d");
+			printTest("size3_putABC_putA_putD_testEvictsB", !cache.containsKey(ELEMENT_B)
+					&& cache.toString().equals("[4=d, 1=x, 3=c]") && cache.evictionCount() == 1);
+			cache = lruCacheABC();
+			cache.containsKey(ELEMENT_A);
+			cache.put(ELEMENT_D, "d");
+			printTest("size3_putABC_containsA_putD_testEvictsA", !cache.containsKey(ELEMENT_A));
+			cache = lruCacheABC();
+			printTest("size3_putABC_testRemoveB", "b".equals(cache.remove(ELEMENT_B))
+					&& cache.size() == 2 && cache.evictionCount() == 0);
+			printTest("size3_putABC_testRemoveX", cache.remove(ELEMENT_X) == null);
+			cache.put(ELEMENT_D, "d");
+			printTest("size3_putABC_removeB_putD_testNoEviction", cache.size() == 3
+					&& cache.toString().equals("[4=d, 3=c, 1=a]") && cache.evictionCount() == 0);
+
+			cache = lruCacheABC();
+			cache.get(ELEMENT_A);
+			cache.get(ELEMENT_C);
+			cache.get(ELEMENT_X);
+			cache.containsKey(ELEMENT_B);
+			cache.containsKey(ELEMENT_Z);
+			printTest("size3_putABC_getACX_testHitCount", cache.hitCount() == 2);
+			printTest("size3_putABC_getACX_testMissCount", cache.missCount() == 1);
+			printTest("size3_putABC_getACX_testGetX", cache.get(ELEMENT_X) == null);
+
+			// weighed by value length, at most 10 in all
+			LRUCache<Integer, String> weighed = new LRUCache<Integer, String>(10, (key, value) -> value.length());
+			weighed.put(ELEMENT_A, "aaaa");
+			weighed.put(ELEMENT_B, "bbbb");
+			weighed.put(ELEMENT_C, "cc");
+			printTest("weight10_put442_testWeight", weighed.weight() == 10 && weighed.evictionCount() == 0);
+			weighed.put(ELEMENT_D, "d");
+			printTest("weight10_put442_put1_testEvictsA", !weighed.containsKey(ELEMENT_A)
+					&& weighed.weight() == 7 && weighed.evictionCount() == 1);
+			weighed.put(ELEMENT_B, "bbbbbbbb");
+			printTest("weight10_put442_put1_grow4to8_testEvictsC", !weighed.containsKey(ELEMENT_C)
+					&& weighed.toString().equals("[2=bbbbbbbb, 4=d]") && weighed.weight() == 9);
+			weighed.put(ELEMENT_C, "ccccccccccc");
+			printTest("weight10_put11_testEvictsOnlyIt", !weighed.containsKey(ELEMENT_C)
+					&& weighed.size() == 2 && weighed.weight() == 9 && weighed.evictionCount() == 3);
+			weighed.put(ELEMENT_D, "ddddddddddd");
+			printTest("weight10_put11OverD_testDropsD", !weighed.containsKey(ELEMENT_D)
+					&& weighed.toString().equals("[2=bbbbbbbb]") && weighed.weight() == 8);
+			weighed.put(ELEMENT_D, "");
+			printTest("weight10_putEmpty_testWeightless", weighed.size() == 2 && weighed.weight() == 8);
+
+			try {
+				weighed.put(ELEMENT_A, null);
+				printTest("weight10_putNull_testThrows", false);
+			} catch (NullPointerException e) {
+				printTest("weight10_putNull_testThrows", !weighed.containsKey(ELEMENT_A));
+			}
+			LRUCache<Integer, Integer> negative = new LRUCache<Integer, Integer>(10, (key, value) -> value);
+			try {
+				negative.put(ELEMENT_A, -1);
+				printTest("weight10_putNegative_testIllegalArgument", false);
+			} catch (IllegalArgumentException e) {
+				printTest("weight10_putNegative_testIllegalArgument", negative.size() == 0);
+			}
+			try {
+				new LRUCache<Integer, String>(0);
+				printTest("size0_testIllegalArgument", false);
+			} catch (IllegalArgumentException e) {
+				printTest("size0_testIllegalArgument", true);
+			}
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_LRUCache");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Builds a cache of size 3 after put(A), put(B), put(C).
+	 * @return cache holding 3=c, 2=b, 1=a, most recently used first
+	 */
+	private LRUCache<Integer, String> lruCacheABC() {
+		LRUCache<Integer, String> cache = new LRUCache<Integer, String>(3);
+		cache.put(ELEMENT_A, "a");
+		cache.put(ELEMENT_B, "b");
+		cache.put(ELEMENT_C, "c");
+		return cache;
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX IUDoubleLinkedList Splicing Tests
+	////////////////////////////////////////////////////////
+
+	/** run tests of what appendAll, splitAt and spliceAt leave behind besides the list itself */
+	private void test_Splicing() {
+		System.out.println("\nIUDoubleLinkedList Splicing Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A);
+			IUDoubleLinkedList<Integer> other = doubleLinkedListOf(ELEMENT_B, ELEMENT_C);
+			list.appendAll(other);
+			printTest("A_appendAllBC_testOtherEmpty", other.isEmpty() && other.size() == 0);
+			other.addToRear(ELEMENT_D);
+			printTest("A_appendAllBC_otherAddToRearD_testBoth", sameContents(other, Arrays.asList(ELEMENT_D))
+					&& sameContents(list, Arrays.asList(ELEMENT_A, ELEMENT_B, ELEMENT_C)));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B);
+			list.appendAll(doubleLinkedListOf(ELEMENT_C));
+			list.addToRear(ELEMENT_D);
+			printTest("AB_appendAllC_addToRearD_testLast", list.last().equals(ELEMENT_D)
+					&& list.indexOf(ELEMENT_C) == 2 && list.get(3).equals(ELEMENT_D));
+			list = doubleLinkedListOf(ELEMENT_A);
+			try {
+				list.appendAll(list);
+				printTest("A_appendAllSelf_testIllegalArgument", false);
+			} catch (IllegalArgumentException e) {
+				printTest("A_appendAllSelf_testIllegalArgument", sameContents(list, Arrays.asList(ELEMENT_A)));
+			}
+
+			// lists of other kinds, whose Nodes differ or carry other indexes
+			list = doubleLinkedListOf(ELEMENT_A);
+			other = new IUDoubleLinkedList<Integer>(true, true);
+			other.addToRear(ELEMENT_B);
+			other.addToRear(ELEMENT_C);
+			list.appendAll(other);
+			printTest("A_appendAllIndexedBC_testContents", sameContents(list, Arrays.asList(ELEMENT_A, ELEMENT_B, ELEMENT_C))
+					&& list.indexOf(ELEMENT_C) == 2 && list.get(1).equals(ELEMENT_B) && other.isEmpty());
+			other = new IUDoubleLinkedList<Integer>(true, true);
+			other.addToRear(ELEMENT_A);
+			other.appendAll(doubleLinkedListOf(ELEMENT_B, ELEMENT_C));
+			printTest("indexedA_appendAllBC_testContents", sameContents(other, Arrays.asList(ELEMENT_A, ELEMENT_B, ELEMENT_C))
+					&& other.indexOf(ELEMENT_C) == 2 && other.get(1).equals(ELEMENT_B));
+
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			IUDoubleLinkedList<Integer> rest = list.splitAt(1);
+			rest.addToFront(ELEMENT_D);
+			list.addToRear(ELEMENT_D);
+			printTest("ABC_splitAt1_addD_testBoth", sameContents(list, Arrays.asList(ELEMENT_A, ELEMENT_D))
+					&& sameContents(rest, Arrays.asList(ELEMENT_D, ELEMENT_B, ELEMENT_C)));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			list.appendAll(list.splitAt(2));
+			printTest("ABC_splitAt2_appendAllRest_testContents", sameContents(list, Arrays.asList(ELEMENT_A, ELEMENT_B, ELEMENT_C)));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			try {
+				list.splitAt(-1);
+				printTest("ABC_splitAtNeg1_testIndexOutOfBounds", false);
+			} catch (IndexOutOfBoundsException e) {
+				printTest("ABC_splitAtNeg1_testIndexOutOfBounds", list.size() == 3);
+			}
+			try {
+				list.splitAt(4);
+				printTest("ABC_splitAt4_testIndexOutOfBounds", false);
+			} catch (IndexOutOfBoundsException e) {
+				printTest("ABC_splitAt4_testIndexOutOfBounds", list.size() == 3);
+			}
+
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_C);
+			ListIterator<Integer> it = list.listIterator();
+			it.next();
+			list.spliceAt(it, doubleLinkedListOf(ELEMENT_B));
+			printTest("AC_spliceAt1B_testIterNextIndex", it.nextIndex() == 2 && it.previousIndex() == 1);
+			printTest("AC_spliceAt1B_testIterNext", it.hasNext() && it.next().equals(ELEMENT_C));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_C);
+			it = list.listIterator();
+			it.next();
+			list.spliceAt(it, doubleLinkedListOf(ELEMENT_B));
+			it.add(ELEMENT_D);
+			printTest("AC_spliceAt1B_iterAddD_testContents", sameContents(list, Arrays.asList(ELEMENT_A, ELEMENT_B, ELEMENT_D, ELEMENT_C)));
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_C);
+			it = list.listIterator();
+			list.addToRear(ELEMENT_D);
+			try {
+				list.spliceAt(it, doubleLinkedListOf(ELEMENT_B));
+				printTest("AC_addToRearD_spliceAt0B_testConcurrentModification", false);
+			} catch (ConcurrentModificationException e) {
+				printTest("AC_addToRearD_spliceAt0B_testConcurrentModification", list.size() == 3);
+			}
+			list = doubleLinkedListOf(ELEMENT_A, ELEMENT_C);
+			try {
+				list.spliceAt(doubleLinkedListOf(ELEMENT_D).listIterator(), doubleLinkedListOf(ELEMENT_B));
+				printTest("AC_spliceAtOtherListsIter_testIllegalArgument", false);
+			} catch (IllegalArgumentException e) {
+				printTest("AC_spliceAtOtherListsIter_testIllegalArgument", list.size() == 2);
+			}
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Splicing");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX IUDoubleLinkedList Sorting Tests
+	////////////////////////////////////////////////////////
+
+	/** run stability tests of sort and parallelSort on lists long enough to be sorted in parallel */
+	private void test_Sorting() {
+		System.out.println("\nIUDoubleLinkedList Sorting Tests\n");
+		try {
+			// 8 keys with many elements each; sorting by key must keep each key's elements in order
+			final int size = 50000;
+			Comparator<Integer> byKey = Comparator.comparingInt(e -> e / size);
+			Random random = new Random(0);
+			List<Integer> model = new ArrayList<Integer>();
+			for (int i = 0; i < size; i++) {
+				model.add(random.nextInt(8) * size + i);
+			}
+
+			IUDoubleLinkedList<Integer> list = doubleLinkedListOf(model.toArray(new Integer[0]));
+			List<Integer> sorted = new ArrayList<Integer>(model);
+			sorted.sort(byKey);
+			list.sort(byKey);
+			printTest("random50000_sortByKey_testStable", sameContents(list, sorted));
+			list = doubleLinkedListOf(model.toArray(new Integer[0]));
+			list.parallelSort(byKey);
+			printTest("random50000_parallelSortByKey_testStable", sameContents(list, sorted));
+			printTest("random50000_parallelSortByKey_testGetIndexOf", list.get(size / 2).equals(sorted.get(size / 2))
+					&& list.indexOf(sorted.get(size - 1)) == size - 1 && list.last().equals(sorted.get(size - 1)));
+			list.addToFront(ELEMENT_X);
+			list.add(size / 2, ELEMENT_Z);
+			printTest("random50000_parallelSortByKey_addXZ_testLinks", list.first().equals(ELEMENT_X)
+					&& list.get(size / 2).equals(ELEMENT_Z) && list.removeLast().equals(sorted.get(size - 1)));
+
+			sorted = new ArrayList<Integer>(model);
+			sorted.sort(null);
+			list = doubleLinkedListOf(model.toArray(new Integer[0]));
+			list.parallelSort(null);
+			printTest("random50000_parallelSort_testNaturalOrder", sameContents(list, sorted));
+			Collections.reverse(sorted);
+			list.parallelSort(Comparator.reverseOrder());
+			printTest("sorted50000_parallelSortReversed_testReversed", sameContents(list, sorted));
+
+			list = doubleLinkedListOf(ELEMENT_C, ELEMENT_A);
+			ListIterator<Integer> it = list.listIterator();
+			list.sort(null);
+			try {
+				it.next();
+				printTest("CA_sort_testIterConcurrentModification", false);
+			} catch (ConcurrentModificationException e) {
+				printTest("CA_sort_testIterConcurrentModification", true);
+			}
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Sorting");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX sortInts Tests
+	////////////////////////////////////////////////////////
+
+	/** run tests of sortInts over the whole int range and with elements it cannot sort */
+	@SuppressWarnings("unchecked")
+	private void test_SortInts() {
+		System.out.println("\nsortInts Tests\n");
+		try {
+			Random random = new Random(0);
+			List<Integer> model = new ArrayList<Integer>();
+			IndexedUnsortedList<Integer> list = newList();
+			for (int i = 0; i < 20000; i++) {
+				int element = (i % 4 == 0) ? random.nextInt(10) - 5 : random.nextInt();
+				list.addToRear(element);
+				model.add(element);
+			}
+			for (int element : new int[] {Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, Integer.MIN_VALUE}) {
+				list.addToFront(element);
+				model.add(element);
+			}
+			Collections.sort(model);
+			sortInts(list);
+			printTest("random20005_sortInts_testSorted", sameContents(list, model));
+			printTest("random20005_sortInts_testFirstLast", list.first().equals(Integer.MIN_VALUE)
+					&& list.last().equals(Integer.MAX_VALUE) && list.get(1).equals(Integer.MIN_VALUE));
+			list.addToRear(ELEMENT_X);
+			list.add(1, ELEMENT_Z);
+			printTest("random20005_sortInts_addXZ_testLinks", list.last().equals(ELEMENT_X)
+					&& list.get(1).equals(ELEMENT_Z) && list.size() == model.size() + 2);
+			sortInts(list);
+			model.add(ELEMENT_X);
+			model.add(ELEMENT_Z);
+			Collections.sort(model);
+			printTest("random20005_sortInts_addXZ_sortInts_testSorted", sameContents(list, model));
+
+			list = newList();
+			list.addToRear(ELEMENT_C);
+			list.addToRear(ELEMENT_A);
+			Iterator<Integer> it = list.iterator();
+			sortInts(list);
+			try {
+				it.hasNext();
+				printTest("CA_sortInts_testIterConcurrentModification", false);
+			} catch (ConcurrentModificationException e) {
+				printTest("CA_sortInts_testIterConcurrentModification", true);
+			}
+
+			list = newList();
+			list.addToRear(ELEMENT_C);
+			list.addToRear(null);
+			list.addToRear(ELEMENT_A);
+			try {
+				sortInts(list);
+				printTest("CnullA_sortInts_testNullPointer", false);
+			} catch (NullPointerException e) {
+				printTest("CnullA_sortInts_testNullPointer", true);
+			}
+			IndexedUnsortedList<Object> mixed = (IndexedUnsortedList<Object>) (IndexedUnsortedList<?>) newList();
+			mixed.addToRear(ELEMENT_C);
+			mixed.addToRear("B");
+			mixed.addToRear(ELEMENT_A);
+			try {
+				sortInts(mixed);
+				printTest("CStringA_sortInts_testClassCast", false);
+			} catch (ClassCastException e) {
+				printTest("CStringA_sortInts_testClassCast", mixed.size() == 3 && mixed.first().equals(ELEMENT_C)
+						&& mixed.get(1).equals("B") && mixed.last().equals(ELEMENT_A));
+			}
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_SortInts");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Batched Index Tests
+	////////////////////////////////////////////////////////
+
+	/** run tests of the values returned and exceptions thrown by get, set and remove with int[] indexes */
+	private void test_BatchedIndexes() {
+		System.out.println("\nBatched Index Tests\n");
+		try {
+			List<Integer> ABC = Arrays.asList(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			IndexedUnsortedList<Integer> list = listOf(ABC);
+			printTest("ABC_testGetIndexes202", list.get(new int[] {2, 0, 2}).equals(Arrays.asList(ELEMENT_C, ELEMENT_A, ELEMENT_C))
+					&& sameContents(list, ABC));
+			printTest("ABC_testGetNoIndexes", list.get(new int[0]).isEmpty());
+			printTest("ABC_testGetIndexes03", testCallThrows(() -> list.get(new int[] {0, 3}), Result.IndexOutOfBounds));
+			printTest("ABC_testGetIndexesNeg1", testCallThrows(() -> list.get(new int[] {-1}), Result.IndexOutOfBounds));
+			printTest("emptyList_testGetIndexes0", testCallThrows(() -> newList().get(new int[] {0}), Result.IndexOutOfBounds));
+
+			printTest("ABC_testSetIndexes03", testCallThrows(() -> list.set(new int[] {0, 3}, new Integer[] {ELEMENT_D, ELEMENT_D}),
+					Result.IndexOutOfBounds) && sameContents(list, ABC));
+			printTest("ABC_testSetIndexes01ToD", testCallThrows(() -> list.set(new int[] {0, 1}, new Integer[] {ELEMENT_D}),
+					Result.IllegalArgument) && sameContents(list, ABC));
+
+			IndexedUnsortedList<Integer> removing = listOf(ABC);
+			printTest("ABC_testRemoveIndexes20", removing.remove(new int[] {2, 0}).equals(Arrays.asList(ELEMENT_C, ELEMENT_A)));
+			printTest("ABC_testRemoveNoIndexes", list.remove(new int[0]).isEmpty() && sameContents(list, ABC));
+			printTest("ABC_testRemoveIndexes00", testCallThrows(() -> list.remove(new int[] {0, 0}), Result.IllegalArgument)
+					&& sameContents(list, ABC));
+			printTest("ABC_testRemoveIndexes13", testCallThrows(() -> list.remove(new int[] {1, 3}), Result.IndexOutOfBounds)
+					&& sameContents(list, ABC));
+			printTest("ABC_testRemoveIndexesNeg1", testCallThrows(() -> list.remove(new int[] {-1}), Result.IndexOutOfBounds)
+					&& sameContents(list, ABC));
+
+			// scattered indexes over a longer list, checked against an ArrayList
+			Random random = new Random(0);
+			List<Integer> model = new ArrayList<Integer>();
+			for (int i = 0; i < 1000; i++) {
+				model.add(i);
+			}
+			IndexedUnsortedList<Integer> longList = listOf(model);
+			int[] indexes = new int[200];
+			for (int i = 0; i < indexes.length; i++) {
+				indexes[i] = random.nextInt(model.size());
+			}
+			List<Integer> expected = new ArrayList<Integer>();
+			for (int index : indexes) {
+				expected.add(model.get(index));
+			}
+			printTest("range1000_testGetRandomIndexes", longList.get(indexes).equals(expected));
+			Integer[] elements = new Integer[indexes.length];
+			for (int i = 0; i < indexes.length; i++) {
+				elements[i] = -i;
+				model.set(indexes[i], -i);
+			}
+			longList.set(indexes, elements);
+			printTest("range1000_setRandomIndexes_testContents", sameContents(longList, model));
+			List<Integer> shuffled = new ArrayList<Integer>();
+			for (int i = 0; i < model.size(); i += 3) {
+				shuffled.add(i);
+			}
+			Collections.shuffle(shuffled, random);
+			indexes = new int[shuffled.size()];
+			expected = new ArrayList<Integer>();
+			for (int i = 0; i < indexes.length; i++) {
+				indexes[i] = shuffled.get(i);
+				expected.add(model.get(indexes[i]));
+			}
+			for (int i = model.size() - 1; i >= 0; i--) {
+				if (i % 3 == 0) {
+					model.remove(i);
+				}
+			}
+			printTest("range1000_testRemoveEveryThirdIndex", longList.remove(indexes).equals(expected)
+					&& sameContents(longList, model));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_BatchedIndexes");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Builds a list of the kind being tested holding the elements.
+	 * @param elements the elements to add, in order
+	 * @return a new list holding the elements
+	 */
+	private IndexedUnsortedList<Integer> listOf(List<Integer> elements) {
+		IndexedUnsortedList<Integer> list = newList();
+		for (Integer element : elements) {
+			list.addToRear(element);
+		}
+		return list;
+	}
+
+	/** Runs a call that should fail.
+	 * @param call the call to make
+	 * @param expectedResult IndexOutOfBounds or IllegalArgument
+	 * @return true if the call threw the expected exception
+	 */
+	private boolean testCallThrows(Runnable call, Result expectedResult) {
+		Result result;
+		try {
+			call.run();
+			result = Result.NoException;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (IllegalArgumentException e) {
+			result = Result.IllegalArgument;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testCallThrows", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Multi-Target Tests
+	////////////////////////////////////////////////////////
+
+	/** run tests of indexOfAny, containsAll and the values returned by removeAll and retainAll */
+	private void test_MultiTarget() {
+		System.out.println("\nMulti-Target Tests\n");
+		try {
+			List<Integer> ABC = Arrays.asList(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			List<Integer> none = new ArrayList<Integer>();
+			IndexedUnsortedList<Integer> list = listOf(ABC);
+			printTest("ABC_testIndexOfAnyCB", list.indexOfAny(Arrays.asList(ELEMENT_C, ELEMENT_B)) == 1);
+			printTest("ABC_testIndexOfAnyXC", list.indexOfAny(Arrays.asList(ELEMENT_X, ELEMENT_C)) == 2);
+			printTest("ABC_testIndexOfAnyXZ", list.indexOfAny(Arrays.asList(ELEMENT_X, ELEMENT_Z)) == -1);
+			printTest("ABC_testIndexOfAnyNone", list.indexOfAny(none) == -1);
+			printTest("emptyList_testIndexOfAnyA", newList().indexOfAny(Arrays.asList(ELEMENT_A)) == -1);
+			printTest("ABC_testContainsAllCA", list.containsAll(Arrays.asList(ELEMENT_C, ELEMENT_A)));
+			printTest("ABC_testContainsAllAAB", list.containsAll(Arrays.asList(ELEMENT_A, ELEMENT_A, ELEMENT_B)));
+			printTest("ABC_testContainsAllAX", !list.containsAll(Arrays.asList(ELEMENT_A, ELEMENT_X)));
+			printTest("ABC_testContainsAllNone", list.containsAll(none));
+			printTest("emptyList_testContainsAllNone", newList().containsAll(none));
+			printTest("emptyList_testContainsAllA", !newList().containsAll(Arrays.asList(ELEMENT_A)));
+			printTest("ABC_testMultiTargetReadsUnchanged", sameContents(list, ABC));
+
+			printTest("ABC_testRemoveAllCA", listOf(ABC).removeAll(Arrays.asList(ELEMENT_C, ELEMENT_A)));
+			printTest("ABC_testRemoveAllXZ", !listOf(ABC).removeAll(Arrays.asList(ELEMENT_X, ELEMENT_Z)));
+			printTest("emptyList_testRemoveAllA", !newList().removeAll(Arrays.asList(ELEMENT_A)));
+			printTest("ABC_testRetainAllBD", listOf(ABC).retainAll(Arrays.asList(ELEMENT_B, ELEMENT_D)));
+			printTest("ABC_testRetainAllABC", !listOf(ABC).retainAll(ABC));
+			printTest("emptyList_testRetainAllNone", !newList().retainAll(none));
+
+			// every copy of a target goes, wherever it is
+			List<Integer> copies = Arrays.asList(ELEMENT_A, ELEMENT_B, ELEMENT_A, ELEMENT_C, ELEMENT_A, ELEMENT_B);
+			list = listOf(copies);
+			printTest("ABACAB_testIndexOfAnyCB", list.indexOfAny(Arrays.asList(ELEMENT_C, ELEMENT_B)) == 1);
+			list.removeAll(Arrays.asList(ELEMENT_A));
+			printTest("ABACAB_removeAllA_testContents", sameContents(list, Arrays.asList(ELEMENT_B, ELEMENT_C, ELEMENT_B)));
+			list = listOf(copies);
+			list.retainAll(Arrays.asList(ELEMENT_A, ELEMENT_C));
+			printTest("ABACAB_retainAllAC_testContents", sameContents(list, Arrays.asList(ELEMENT_A, ELEMENT_A, ELEMENT_C, ELEMENT_A)));
+			list.addToRear(ELEMENT_D);
+			printTest("ABACAB_retainAllAC_addToRearD_testLinks", list.size() == 5 && list.last().equals(ELEMENT_D)
+					&& list.get(4).equals(ELEMENT_D) && list.indexOf(ELEMENT_C) == 2);
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_MultiTarget");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX IUDoubleLinkedList Snapshot Iterator Tests
+	////////////////////////////////////////////////////////
+
+	/** run tests that snapshotIterator returns the list as it was, whatever changes after */
+	private void test_SnapshotIter() {
+		System.out.println("\nIUDoubleLinkedList Snapshot Iterator Tests\n");
+		try {
+			List<String> names = new ArrayList<String>();
+			List<Consumer<IUDoubleLinkedList<Integer>>> changes = new ArrayList<Consumer<IUDoubleLinkedList<Integer>>>();
+			names.add("addToFrontD"); changes.add(list -> list.addToFront(ELEMENT_D));
+			names.add("addToRearD"); changes.add(list -> list.addToRear(ELEMENT_D));
+			names.add("addD"); changes.add(list -> list.add(ELEMENT_D));
+			names.add("add1D"); changes.add(list -> list.add(1, ELEMENT_D));
+			names.add("addAfterAD"); changes.add(list -> list.addAfter(ELEMENT_D, ELEMENT_A));
+			names.add("removeFirst"); changes.add(list -> list.removeFirst());
+			names.add("removeLast"); changes.add(list -> list.removeLast());
+			names.add("removeB"); changes.add(list -> list.remove(ELEMENT_B));
+			names.add("remove1"); changes.add(list -> list.remove(1));
+			names.add("set1D"); changes.add(list -> list.set(1, ELEMENT_D));
+			names.add("setIndexes21ToDD"); changes.add(list -> list.set(new int[] {2, 1}, new Integer[] {ELEMENT_D, ELEMENT_D}));
+			names.add("removeIndexes12"); changes.add(list -> list.remove(new int[] {1, 2}));
+			names.add("removeIfOdd"); changes.add(list -> list.removeIf(e -> e % 2 != 0));
+			names.add("replaceAllNegate"); changes.add(list -> list.replaceAll(e -> -e));
+			names.add("iterRemoveB"); changes.add(list -> { Iterator<Integer> it = list.iterator(); it.next(); it.next(); it.remove(); });
+			names.add("listIterAdd1D"); changes.add(list -> list.listIterator(1).add(ELEMENT_D));
+			names.add("listIterSet1D"); changes.add(list -> { ListIterator<Integer> it = list.listIterator(1); it.next(); it.set(ELEMENT_D); });
+			names.add("sortReversed"); changes.add(list -> list.sort(Comparator.reverseOrder()));
+			names.add("parallelSortReversed"); changes.add(list -> list.parallelSort(Comparator.reverseOrder()));
+			names.add("sortInts"); changes.add(list -> { list.set(0, ELEMENT_D); list.sortInts(); });
+			names.add("splitAt1"); changes.add(list -> list.splitAt(1));
+			names.add("appendAllD"); changes.add(list -> list.appendAll(doubleLinkedListOf(ELEMENT_D)));
+			names.add("spliceAt1D"); changes.add(list -> list.spliceAt(list.listIterator(1), doubleLinkedListOf(ELEMENT_D)));
+			names.add("removeAllAB"); changes.add(list -> list.removeAll(Arrays.asList(ELEMENT_A, ELEMENT_B)));
+			for (int i = 0; i < names.size(); i++) {
+				for (int consumed = 0; consumed <= 3; consumed++) {
+					printTest("ABC_snapshotIter" + consumed + "_" + names.get(i) + "_testABC",
+							testSnapshotIter(consumed, changes.get(i)));
+				}
+			}
+
+			IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			Iterator<Integer> it1 = list.snapshotIterator();
+			list.removeFirst();
+			Iterator<Integer> it2 = list.snapshotIterator();
+			list.removeFirst();
+			printTest("ABC_snapshot_removeFirst_snapshot_removeFirst_testBoth", sameContents(it1, Arrays.asList(ELEMENT_A, ELEMENT_B, ELEMENT_C))
+					&& sameContents(it2, Arrays.asList(ELEMENT_B, ELEMENT_C)) && sameContents(list.snapshotIterator(), Arrays.asList(ELEMENT_C)));
+			printTest("emptyList_testSnapshotIterHasNext", testIterHasNext(newDoubleLinkedList().snapshotIterator(), Result.False));
+			printTest("emptyList_testSnapshotIterNext", testIterNext(newDoubleLinkedList().snapshotIterator(), null, Result.NoSuchElement));
+			list = doubleLinkedListOf(ELEMENT_A);
+			it1 = list.snapshotIterator();
+			list.removeFirst();
+			printTest("A_snapshot_removeFirst_testSnapshotIterNext", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+			printTest("A_snapshot_removeFirst_next_testSnapshotIterNext", testIterNext(it1, null, Result.NoSuchElement));
+			it1 = doubleLinkedListOf(ELEMENT_A).snapshotIterator();
+			it1.next();
+			try {
+				it1.remove();
+				printTest("A_snapshotNext_testSnapshotIterRemove", false);
+			} catch (UnsupportedOperationException e) {
+				printTest("A_snapshotNext_testSnapshotIterRemove", true);
+			}
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_SnapshotIter");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
 
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.isEmpty();
-			printTest("A_isEmpty_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.isEmpty();
-			printTest("A_isEmpty_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.isEmpty();
-			printTest("A_isEmpty_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.isEmpty();
-			printTest("A_isEmpty_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.isEmpty();
-			printTest("A_isEmpty_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.isEmpty();
-			printTest("A_isEmpty_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.isEmpty();
-			printTest("A_isEmpty_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.isEmpty();
-			printTest("A_isEmpty_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.isEmpty();
-			printTest("A_isEmpty_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
+	/** Takes a snapshot iterator over [A,B,C], reads part of it, changes the list and reads the rest.
+	 * @param consumed how many elements to read before the change
+	 * @param change the change to make to the list
+	 * @return true if the snapshot returned A, B and C and nothing else
+	 */
+	private boolean testSnapshotIter(int consumed, Consumer<IUDoubleLinkedList<Integer>> change) {
+		try {
+			IUDoubleLinkedList<Integer> list = doubleLinkedListOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			List<Integer> seen = new ArrayList<Integer>();
+			Iterator<Integer> it = list.snapshotIterator();
+			for (int i = 0; i < consumed; i++) {
+				seen.add(it.next());
+			}
+			change.accept(list);
+			while (it.hasNext()) {
+				seen.add(it.next());
+			}
+			return seen.equals(Arrays.asList(ELEMENT_A, ELEMENT_B, ELEMENT_C));
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testSnapshotIter", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
 
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.size();
-			printTest("A_size_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.size();
-			printTest("A_size_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.size();
-			printTest("A_size_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.size();
-			printTest("A_size_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.size();
-			printTest("A_size_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.size();
-			printTest("A_size_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.size();
-			printTest("A_size_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.size();
-			printTest("A_size_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.size();
-			printTest("A_size_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
+	/** Compares what an iterator has left with the expected elements.
+	 * @param it iterator to drain
+	 * @param expected elements it should return, in order
+	 * @return true if it returned exactly the expected elements
+	 */
+	private boolean sameContents(Iterator<Integer> it, List<Integer> expected) {
+		List<Integer> seen = new ArrayList<Integer>();
+		while (it.hasNext()) {
+			seen.add(it.next());
+		}
+		return seen.equals(expected);
+	}
 
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.toString();
-			printTest("A_toString_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.toString();
-			printTest("A_toString_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.toString();
-			printTest("A_toString_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.toString();
-			printTest("A_toString_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.toString();
-			printTest("A_toString_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.toString();
-			printTest("A_toString_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.toString();
-			printTest("A_toString_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.toString();
-			printTest("A_toString_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.toString();
-			printTest("A_toString_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
+	////////////////////////////////////////////////////////
+	// XXX IUDoubleLinkedList Node Handle Tests
+	////////////////////////////////////////////////////////
 
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToFront(ELEMENT_B);
-			printTest("A_addToFrontB_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToFront(ELEMENT_B);
-			printTest("A_addToFrontB_testListIterNextConcurrent", testIterNext(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToFront(ELEMENT_B);
-			printTest("A_addToFrontB_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToFront(ELEMENT_B);
-			printTest("A_addToFrontB_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToFront(ELEMENT_B);
-			printTest("A_addToFrontB_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToFront(ELEMENT_B);
-			printTest("A_addToFrontB_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToFront(ELEMENT_B);
-			printTest("A_addToFrontB_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToFront(ELEMENT_B);
-			printTest("A_addToFrontB_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToFront(ELEMENT_B);
-			printTest("A_addToFrontB_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
+	/** run tests of Node handles kept across other changes, and of handles the list must refuse */
+	private void test_NodeHandles() {
+		System.out.println("\nIUDoubleLinkedList Node Handle Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = newDoubleLinkedList();
+			Node<Integer> nodeA = list.addToRearNode(ELEMENT_A);
+			Node<Integer> nodeB = list.addToRearNode(ELEMENT_B);
+			Node<Integer> nodeC = list.addToRearNode(ELEMENT_C);
+			printTest("ABC_testNodeElements", nodeA.getElement().equals(ELEMENT_A) && nodeB.getElement().equals(ELEMENT_B)
+					&& nodeC.getElement().equals(ELEMENT_C));
+			list.sort(Comparator.reverseOrder());
+			printTest("ABC_sortReversed_testRemoveNodeB", list.removeNode(nodeB).equals(ELEMENT_B)
+					&& sameContents(list, Arrays.asList(ELEMENT_C, ELEMENT_A)));
+			list.insertAfter(nodeC, ELEMENT_B);
+			list.moveToBack(nodeC);
+			printTest("CA_insertAfterNodeCB_moveToBackNodeC_testContents", sameContents(list, Arrays.asList(ELEMENT_B, ELEMENT_A, ELEMENT_C))
+					&& list.indexOf(ELEMENT_C) == 2 && list.get(1).equals(ELEMENT_A) && list.last().equals(ELEMENT_C));
+			printTest("BAC_testSetNodeAToD", list.set(nodeA, ELEMENT_D).equals(ELEMENT_A) && nodeA.getElement().equals(ELEMENT_D)
+					&& !list.contains(ELEMENT_A) && list.indexOf(ELEMENT_D) == 1 && list.get(1).equals(ELEMENT_D));
 
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToRear(ELEMENT_B);
-			printTest("A_addToRearB_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToRear(ELEMENT_B);
-			printTest("A_addToRearB_testListIterNextConcurrent", testIterNext(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToRear(ELEMENT_B);
-			printTest("A_addToRearB_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToRear(ELEMENT_B);
-			printTest("A_addToRearB_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToRear(ELEMENT_B);
-			printTest("A_addToRearB_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToRear(ELEMENT_B);
-			printTest("A_addToRearB_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToRear(ELEMENT_B);
-			printTest("A_addToRearB_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToRear(ELEMENT_B);
-			printTest("A_addToRearB_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addToRear(ELEMENT_B);
-			printTest("A_addToRearB_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
+			list = newDoubleLinkedList();
+			list.addToRear(ELEMENT_A);
+			nodeB = list.addToRearNode(ELEMENT_B);
+			list.addToRear(ELEMENT_C);
+			IUDoubleLinkedList<Integer> rest = list.splitAt(1);
+			rest.moveToBack(nodeB);
+			printTest("ABC_splitAt1_restMoveToBackNodeB_testRest", sameContents(rest, Arrays.asList(ELEMENT_C, ELEMENT_B)));
 
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addAfter(ELEMENT_B, ELEMENT_A);
-			printTest("A_addAfterAB_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addAfter(ELEMENT_B, ELEMENT_A);
-			printTest("A_addAfterAB_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addAfter(ELEMENT_B, ELEMENT_A);
-			printTest("A_addAfterAB_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addAfter(ELEMENT_B, ELEMENT_A);
-			printTest("A_addAfterAB_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addAfter(ELEMENT_B, ELEMENT_A);
-			printTest("A_addAfterAB_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addAfter(ELEMENT_B, ELEMENT_A);
-			printTest("A_addAfterAB_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addAfter(ELEMENT_B, ELEMENT_A);
-			printTest("A_addAfterAB_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addAfter(ELEMENT_B, ELEMENT_A);
-			printTest("A_addAfterAB_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.addAfter(ELEMENT_B, ELEMENT_A);
-			printTest("A_addAfterAB_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
+			IUDoubleLinkedList<Integer> shrunk = newDoubleLinkedList();
+			Node<Integer> removed = shrunk.addToRearNode(ELEMENT_A);
+			shrunk.addToRear(ELEMENT_B);
+			shrunk.removeNode(removed);
+			printTest("AB_removeNodeA_testRemoveNodeA", testHandleRefused(shrunk, () -> shrunk.removeNode(removed)));
+			printTest("AB_removeNodeA_testInsertAfterNodeA", testHandleRefused(shrunk, () -> shrunk.insertAfter(removed, ELEMENT_C)));
+			printTest("AB_removeNodeA_testSetNodeA", testHandleRefused(shrunk, () -> shrunk.set(removed, ELEMENT_C)));
+			printTest("AB_removeNodeA_testMoveToFrontNodeA", testHandleRefused(shrunk, () -> shrunk.moveToFront(removed)));
+			printTest("B_testRemoveNodeNull", testHandleRefused(shrunk, () -> shrunk.removeNode(null)));
+			IUDoubleLinkedList<Integer> other = newDoubleLinkedList();
+			other.addToRear(ELEMENT_A);
+			Node<Integer> otherB = other.addToRearNode(ELEMENT_B);
+			other.addToRear(ELEMENT_C);
+			printTest("B_testRemoveNodeFromOtherList", testHandleRefused(shrunk, () -> shrunk.removeNode(otherB))
+					&& other.toString().equals("[1, 2, 3]"));
+			printTest("B_testInsertAfterNodeFromOtherList", testHandleRefused(shrunk, () -> shrunk.insertAfter(otherB, ELEMENT_D))
+					&& other.toString().equals("[1, 2, 3]"));
+			printTest("B_testInsertBeforeNodeFromOtherList", testHandleRefused(shrunk, () -> shrunk.insertBefore(otherB, ELEMENT_D))
+					&& other.toString().equals("[1, 2, 3]"));
+			printTest("B_testSetNodeFromOtherList", testHandleRefused(shrunk, () -> shrunk.set(otherB, ELEMENT_D))
+					&& other.toString().equals("[1, 2, 3]") && otherB.getElement().equals(ELEMENT_B));
+			printTest("B_testMoveToFrontNodeFromOtherList", testHandleRefused(shrunk, () -> shrunk.moveToFront(otherB))
+					&& other.toString().equals("[1, 2, 3]"));
+			printTest("B_testMoveToBackNodeFromOtherList", testHandleRefused(shrunk, () -> shrunk.moveToBack(otherB))
+					&& other.toString().equals("[1, 2, 3]"));
+
+			// handles follow their Nodes when whole lists are moved or split
+			IUDoubleLinkedList<Integer> joined = newDoubleLinkedList();
+			Node<Integer> joinedD = joined.addToRearNode(ELEMENT_D);
+			joined.appendAll(other);
+			printTest("D_appendAllABC_testOtherRemoveNodeB", testHandleRefused(other, () -> other.removeNode(otherB)));
+			joined.moveToFront(otherB);
+			printTest("D_appendAllABC_moveToFrontNodeB_testContents", joined.toString().equals("[2, 4, 1, 3]"));
+			IUDoubleLinkedList<Integer> front = newDoubleLinkedList();
+			front.addToRear(ELEMENT_A);
+			front.appendAll(joined);
+			printTest("A_appendAllBDAC_testJoinedMoveToBackNodeB", testHandleRefused(joined, () -> joined.moveToBack(otherB)));
+			front.moveToBack(otherB);
+			printTest("A_appendAllBDAC_moveToBackNodeB_testContents", front.toString().equals("[1, 4, 1, 3, 2]"));
+			IUDoubleLinkedList<Integer> back = front.splitAt(1);
+			printTest("ADACB_splitAt1_testRemoveNodeD", testHandleRefused(front, () -> front.removeNode(joinedD))
+					&& back.removeNode(joinedD).equals(ELEMENT_D) && back.toString().equals("[1, 3, 2]"));
+			IUDoubleLinkedList<Integer> tailB = back.splitAt(2);
+			printTest("ACB_splitAt2_testRemoveNodeB", testHandleRefused(back, () -> back.removeNode(otherB))
+					&& tailB.removeNode(otherB).equals(ELEMENT_B) && tailB.isEmpty() && back.toString().equals("[1, 3]"));
+
+			shrunk.addToRear(ELEMENT_C);
+			Iterator<Integer> it = shrunk.iterator();
+			shrunk.moveToFront(shrunk.addToRearNode(ELEMENT_D));
+			printTest("BC_iter_addToRearNodeD_moveToFront_testIterHasNext", testIterHasNext(it, Result.ConcurrentModification));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_NodeHandles");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Passes a handle the list must refuse.
+	 * @param list the list the handle is passed to
+	 * @param call the handle method call
+	 * @return true if the call threw IllegalArgumentException and left the list as it was
+	 */
+	private boolean testHandleRefused(IUDoubleLinkedList<Integer> list, Runnable call) {
+		String before = list.toString();
+		return testCallThrows(call, Result.IllegalArgument) && list.toString().equals(before);
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Primitive List Tests
+	////////////////////////////////////////////////////////
 
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(0,ELEMENT_B);
-			printTest("A_add0B_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(0,ELEMENT_B);
-			printTest("A_add0B_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(0,ELEMENT_B);
-			printTest("A_add0B_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(0, ELEMENT_B);
-			printTest("A_add0B_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(0, ELEMENT_B);
-			printTest("A_add0B_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(0, ELEMENT_B);
-			printTest("A_add0B_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(0, ELEMENT_B);
-			printTest("A_add0B_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(0, ELEMENT_B);
-			printTest("A_add0B_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(0, ELEMENT_B);
-			printTest("A_add0B_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
+	/** run tests of the primitive lists' own methods: slot reuse, growth, long values and unboxed iteration */
+	private void test_PrimitiveLists() {
+		System.out.println("\nPrimitive List Tests\n");
+		try {
+			// a tiny list that grows one slot at a time, with freed slots reused
+			IntDoubleLinkedList ints = new IntDoubleLinkedList(1, GrowthPolicy.increment(1));
+			List<Integer> model = new ArrayList<Integer>();
+			for (int i = 0; i < 500; i++) {
+				ints.addToRear(i);
+				model.add(i);
+			}
+			for (int i = 498; i >= 0; i -= 2) {
+				ints.remove(i);
+				model.remove(i);
+			}
+			for (int i = 0; i < 300; i++) {
+				ints.add(i, -i);
+				model.add(i, -i);
+			}
+			ints.ensureCapacity(2000);
+			boolean matches = ints.size() == model.size();
+			PrimitiveIterator.OfInt intIt = ints.iterator();
+			for (int i = 0; matches && i < model.size(); i++) {
+				matches = intIt.nextInt() == model.get(i) && ints.get(i) == model.get(i);
+			}
+			printTest("int500_removeOdd_add300_testContents", matches && !intIt.hasNext());
+			printTest("int500_removeOdd_add300_testIndexOf", ints.indexOf(-299) == 299 && ints.indexOf(499) == model.indexOf(499)
+					&& ints.indexOf(498) == -1);
 
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.set(0,ELEMENT_B);
-			printTest("A_set0B_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.set(0,ELEMENT_B);
-			printTest("A_set0B_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.set(0,ELEMENT_B);
-			printTest("A_set0B_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.set(0, ELEMENT_B);
-			printTest("A_set0B_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.set(0, ELEMENT_B);
-			printTest("A_set0B_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.set(0, ELEMENT_B);
-			printTest("A_set0B_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.set(0, ELEMENT_B);
-			printTest("A_set0B_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.set(0, ELEMENT_B);
-			printTest("A_set0B_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.set(0, ELEMENT_B);
-			printTest("A_set0B_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
+			ints = new IntDoubleLinkedList();
+			ints.addToRear(5);
+			ints.addToRear(0);
+			ints.addToRear(5);
+			printTest("int505_testRemoveIndex0", ints.remove(0) == 5 && ints.toString().equals("[0, 5]"));
+			printTest("int05_testRemoveElement5", ints.removeElement(5) == 5 && ints.toString().equals("[0]"));
+			try {
+				ints.removeElement(5);
+				printTest("int0_testRemoveElement5", false);
+			} catch (NoSuchElementException e) {
+				printTest("int0_testRemoveElement5", ints.size() == 1);
+			}
+			IntDoubleLinkedList.IntListIterator intListIt = ints.listIterator();
+			ints.addToFront(1);
+			try {
+				intListIt.nextInt();
+				printTest("int0_listIter_addToFront1_testNextInt", false);
+			} catch (ConcurrentModificationException e) {
+				printTest("int0_listIter_addToFront1_testNextInt", true);
+			}
 
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(ELEMENT_B);
-			printTest("A_addB_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(ELEMENT_B);
-			printTest("A_addB_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(ELEMENT_B);
-			printTest("A_addB_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(ELEMENT_B);
-			printTest("A_addB_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(ELEMENT_B);
-			printTest("A_addB_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(ELEMENT_B);
-			printTest("A_addB_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(ELEMENT_B);
-			printTest("A_addB_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(ELEMENT_B);
-			printTest("A_addB_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.add(ELEMENT_B);
-			printTest("A_addB_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
+			LongDoubleLinkedList longs = new LongDoubleLinkedList(2);
+			longs.addToRear(Long.MAX_VALUE);
+			longs.addToFront(Long.MIN_VALUE);
+			longs.add(1, 1L << 40);
+			longs.addAfter(-1L, 1L << 40);
+			printTest("longExtremes_testContents", longs.toString().equals(
+					"[" + Long.MIN_VALUE + ", " + (1L << 40) + ", -1, " + Long.MAX_VALUE + "]"));
+			printTest("longExtremes_testIndexOf", longs.indexOf(Long.MAX_VALUE) == 3 && longs.indexOf(1L << 40) == 1
+					&& longs.indexOf(1L) == -1 && longs.indexOf(Integer.MAX_VALUE + 1L) == -1);
+			printTest("longExtremes_testFirstLast", longs.first() == Long.MIN_VALUE && longs.last() == Long.MAX_VALUE);
+			LongDoubleLinkedList.LongListIterator longIt = longs.listIterator(4);
+			printTest("longExtremes_testListIterPreviousLong", longIt.previousLong() == Long.MAX_VALUE
+					&& longIt.previousLong() == -1L);
+			longIt.set(Long.MIN_VALUE + 1);
+			longIt.add(7L);
+			printTest("longExtremes_listIterSetAdd_testContents", longs.get(2) == 7L && longs.get(3) == Long.MIN_VALUE + 1
+					&& longs.removeElement(Long.MIN_VALUE + 1) == Long.MIN_VALUE + 1 && longs.size() == 4);
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_PrimitiveLists");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
 
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.get(0);
-			printTest("A_get0_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.get(0);
-			printTest("A_get0_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.get(0);
-			printTest("A_get_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.get(0);
-			printTest("A_get0_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.get(0);
-			printTest("A_get0_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.get(0);
-			printTest("A_get0_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.get(0);
-			printTest("A_get0_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.get(0);
-			printTest("A_get0_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.get(0);
-			printTest("A_get0_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
+	/**
+	 * Adds elements an integer codec cannot write, which must fail without
+	 * changing the list or using up slots.
+	 */
+	private void test_OffHeapCodec() {
+		System.out.println("\nOff-Heap Codec Tests\n");
+		try {
+			IUOffHeapLinkedList<Integer> list = new IUOffHeapLinkedList<Integer>(RecordCodec.integers());
+			list.addToRear(ELEMENT_A);
+			list.addToRear(ELEMENT_B);
+			list.removeFirst(); // leaves a slot on the free list
+			int slots = list.slotCount();
+			ListIterator<Integer> nullIt = list.listIterator(1);
+			List<Runnable> addNulls = Arrays.asList(() -> list.add(null), () -> list.addToFront(null),
+					() -> list.addAfter(null, ELEMENT_B), () -> list.add(0, null), () -> list.add(1, null),
+					() -> nullIt.add(null));
+			boolean refused = true;
+			for (int i = 0; i < 3; i++) {
+				for (Runnable addNull : addNulls) {
+					try {
+						addNull.run();
+						refused = false;
+					} catch (NullPointerException e) {
+						// expected: the codec cannot unbox null
+					}
+				}
+			}
+			printTest("B_addNull_testThrows", refused);
+			printTest("B_addNull_testSlotCount", list.slotCount() == slots);
+			printTest("B_addNull_testContents", list.toString().equals("[2]"));
+			list.addToFront(ELEMENT_A);
+			list.addToRear(ELEMENT_C);
+			ListIterator<Integer> it = list.listIterator(3);
+			it.add(ELEMENT_D);
+			printTest("B_addNull_addToFrontA_addToRearC_listIterAddD_testContents", list.toString().equals("[1, 2, 3, 4]")
+					&& list.indexOf(ELEMENT_D) == 3 && list.last().equals(ELEMENT_D));
+			printTest("B_addNull_addToFrontA_addToRearC_listIterAddD_testSlotCount", list.slotCount() == slots + 2);
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_OffHeapCodec");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
 
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.indexOf(ELEMENT_A);
-			printTest("A_indexOfA_testListIterHasNextConcurrent", testIterHasNext(it1, Result.True));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.indexOf(ELEMENT_A);
-			printTest("A_indexOfA_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.indexOf(ELEMENT_A);
-			printTest("A_indexOfA_testListIterRemoveConcurrent", testIterRemove(it1, Result.IllegalState));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.indexOf(ELEMENT_A);
-			printTest("A_indexOfA_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.False));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.indexOf(ELEMENT_A);
-			printTest("A_indexOfA_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.NoSuchElement));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.indexOf(ELEMENT_A);
-			printTest("A_indexOfA_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.NoException));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.indexOf(ELEMENT_A);
-			printTest("A_indexOfA_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.IllegalState));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.indexOf(ELEMENT_A);
-			printTest("A_indexOfA_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.MatchingValue));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.indexOf(ELEMENT_A);
-			printTest("A_indexOfA_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.MatchingValue));
+	/**
+	 * Walks long lists in both directions with ListIterators, turning back at
+	 * random and changing the list through the iterator, and compares every
+	 * step with a java.util.List.
+	 */
+	private void test_LongListIter() {
+		System.out.println("\nLong List Iterator Tests\n");
+		try {
+			Random random = new Random(0);
+			IndexedUnsortedList<Integer> list = newList();
+			List<Integer> model = new ArrayList<Integer>();
+			for (int i = 0; i < 1000; i++) {
+				int index = random.nextInt(model.size() + 1);
+				list.add(index, i);
+				model.add(index, i);
+			}
+			printTest("random1000_iter_testContents", sameContents(list.iterator(), model));
+			ListIterator<Integer> it = list.listIterator(model.size());
+			List<Integer> reversed = new ArrayList<Integer>();
+			while (it.hasPrevious()) {
+				reversed.add(it.previous());
+			}
+			Collections.reverse(reversed);
+			printTest("random1000_listIterPrevious_testContents", reversed.equals(model) && it.nextIndex() == 0);
 
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.remove(0);
-			printTest("A_remove0_testListIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.remove(0);
-			printTest("A_remove0_testListIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.remove(0);
-			printTest("A_remove0_testListIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.remove(0);
-			printTest("A_remove0_testListIterHasPreviousConcurrent", testListIterHasPrevious(it1, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.remove(0);
-			printTest("A_remove0_testListIterPreviousConcurrent", testListIterPrevious(it1, null, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.remove(0);
-			printTest("A_remove0_testListIterAddBConcurrent", testListIterAdd(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.remove(0);
-			printTest("A_remove0_testListIterSetBConcurrent", testListIterSet(it1, ELEMENT_B, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.remove(0);
-			printTest("A_remove0_testListIterNextIndexConcurrent", testListIterNextIndex(it1, 0, Result.ConcurrentModification));
-			list = emptyList_addToFrontA_A();
-			it1 = list.listIterator();
-			list.remove(0);
-			printTest("A_remove0_testListIterPreviousIndexConcurrent", testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
+			boolean matches = true;
+			for (int walk = 0; matches && walk < 10; walk++) {
+				int start = random.nextInt(model.size() + 1);
+				it = list.listIterator(start);
+				ListIterator<Integer> modelIt = model.listIterator(start);
+				for (int step = 0; matches && step < 2000; step++) {
+					int move = random.nextInt(10);
+					if (move < 4 && modelIt.hasNext()) {
+						matches = it.next().equals(modelIt.next());
+					} else if (move < 8 && modelIt.hasPrevious()) {
+						matches = it.previous().equals(modelIt.previous());
+					} else if (move == 8) {
+						it.add(-step);
+						modelIt.add(-step);
+					} else if (modelIt.hasNext()) {
+						modelIt.next();
+						it.next();
+						if (random.nextBoolean()) {
+							it.remove();
+							modelIt.remove();
+						} else {
+							it.set(step);
+							modelIt.set(step);
+						}
+					}
+					matches = matches && it.nextIndex() == modelIt.nextIndex() && it.hasNext() == modelIt.hasNext();
+				}
+			}
+			printTest("random1000_listIterRandomWalk_testSteps", matches && sameContents(list.iterator(), model));
 		} catch (Exception e) {
-			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ListIterConcurrency");
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_LongListIter");
 			e.printStackTrace();
 		} finally {
 			if (printSectionSummaries) {
@@ -0,0 +1,180 @@
+package iulist;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Presents a LongDoubleLinkedList as an IndexedUnsortedList of Integers so
+ * that ListTester can run its scenarios against it. Integers are widened to
+ * longs on the way in and narrowed back, exactly, on the way out.
+ * A null target is never found, since the list cannot hold null.
+ *
+ * @author Preston Hardy
+ */
+class LongListAdapter implements IndexedUnsortedList<Integer> {
+
+	private final LongDoubleLinkedList list = new LongDoubleLinkedList();
+
+	@Override
+	public void addToFront(Integer element) {
+		list.addToFront(element.longValue());
+	}
+
+	@Override
+	public void addToRear(Integer element) {
+		list.addToRear(element.longValue());
+	}
+
+	@Override
+	public void add(Integer element) {
+		list.add(element.longValue());
+	}
+
+	@Override
+	public void addAfter(Integer element, Integer target) {
+		if(target == null) throw new NoSuchElementException();
+		list.addAfter(element.longValue(), target.longValue());
+	}
+
+	@Override
+	public void add(int index, Integer element) {
+		list.add(index, element.longValue());
+	}
+
+	@Override
+	public Integer removeFirst() {
+		return Math.toIntExact(list.removeFirst());
+	}
+
+	@Override
+	public Integer removeLast() {
+		return Math.toIntExact(list.removeLast());
+	}
+
+	@Override
+	public Integer remove(Integer element) {
+		if(element == null) throw new NoSuchElementException();
+		return Math.toIntExact(list.removeElement(element.longValue()));
+	}
+
+	@Override
+	public Integer remove(int index) {
+		return Math.toIntExact(list.remove(index));
+	}
+
+	@Override
+	public void set(int index, Integer element) {
+		list.set(index, element.longValue());
+	}
+
+	@Override
+	public Integer get(int index) {
+		return Math.toIntExact(list.get(index));
+	}
+
+	@Override
+	public int indexOf(Integer element) {
+		return (element == null) ? -1 : list.indexOf(element.longValue());
+	}
+
+	@Override
+	public Integer first() {
+		return Math.toIntExact(list.first());
+	}
+
+	@Override
+	public Integer last() {
+		return Math.toIntExact(list.last());
+	}
+
+	@Override
+	public boolean contains(Integer target) {
+		return target != null && list.contains(target.longValue());
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return list.isEmpty();
+	}
+
+	@Override
+	public int size() {
+		return list.size();
+	}
+
+	@Override
+	public String toString() {
+		return list.toString();
+	}
+
+	@Override
+	public Iterator<Integer> iterator() {
+		return listIterator();
+	}
+
+	@Override
+	public ListIterator<Integer> listIterator() {
+		return new Adapter(list.listIterator());
+	}
+
+	@Override
+	public ListIterator<Integer> listIterator(int startingIndex) {
+		return new Adapter(list.listIterator(startingIndex));
+	}
+
+	/** Boxes a LongListIterator as a ListIterator */
+	private static class Adapter implements ListIterator<Integer> {
+
+		private final LongDoubleLinkedList.LongListIterator it;
+
+		private Adapter(LongDoubleLinkedList.LongListIterator it) {
+			this.it = it;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return it.hasNext();
+		}
+
+		@Override
+		public Integer next() {
+			return Math.toIntExact(it.nextLong());
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return it.hasPrevious();
+		}
+
+		@Override
+		public Integer previous() {
+			return Math.toIntExact(it.previousLong());
+		}
+
+		@Override
+		public int nextIndex() {
+			return it.nextIndex();
+		}
+
+		@Override
+		public int previousIndex() {
+			return it.previousIndex();
+		}
+
+		@Override
+		public void remove() {
+			it.remove();
+		}
+
+		@Override
+		public void set(Integer e) {
+			it.set(e.longValue());
+		}
+
+		@Override
+		public void add(Integer e) {
+			it.add(e.longValue());
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package iulist.stress;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import iulist.IUConcurrentDeque;
+
+/**
+ * jcstress tests for IUConcurrentDeque: adds and removes racing at the ends.
+ *
+ * @author Preston Hardy
+ */
+public class ConcurrentDequeStress {
+
+	@JCStressTest
+	@Description("addToFront and addToRear race on an empty list; both elements must land, in order.")
+	@Outcome(id = "2, 12", expect = Expect.ACCEPTABLE, desc = "Both adds are visible at their own end.")
+	@State
+	public static class AddToBothEnds {
+		private final IUConcurrentDeque<Integer> list = new IUConcurrentDeque<Integer>();
+
+		@Actor
+		public void front() {
+			list.addToFront(1);
+		}
+
+		@Actor
+		public void rear() {
+			list.addToRear(2);
+		}
+
+		@Arbiter
+		public void arbiter(II_Result r) {
+			r.r1 = list.size();
+			r.r2 = list.first() * 10 + list.last();
+		}
+	}
+
+	@JCStressTest
+	@Description("Two removeFirst calls race on a two-element list; each must return a different element.")
+	@Outcome(id = {"1, 2", "2, 1"}, expect = Expect.ACCEPTABLE, desc = "Each remove took its own element.")
+	@State
+	public static class RemoveFirstRace {
+		private final IUConcurrentDeque<Integer> list = new IUConcurrentDeque<Integer>();
+
+		public RemoveFirstRace() {
+			list.addToRear(1);
+			list.addToRear(2);
+		}
+
+		@Actor
+		public void actor1(II_Result r) {
+			r.r1 = list.removeFirst();
+		}
+
+		@Actor
+		public void actor2(II_Result r) {
+			r.r2 = list.removeFirst();
+		}
+	}
+}
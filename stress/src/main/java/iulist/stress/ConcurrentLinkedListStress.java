@@ -0,0 +1,193 @@
+package iulist.stress;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import iulist.IUConcurrentLinkedList;
+
+/**
+ * jcstress tests for IUConcurrentLinkedList, covering the races a plain
+ * compare-and-set list gets wrong: removing neighbouring nodes, adding
+ * after a node while it is being removed, and removing the last node while
+ * another is appended or the old last node is removed. Each arbiter
+ * counts the nodes an iterator reaches, so a lost or resurrected node
+ * shows up even if size() agrees.
+ *
+ * @author Preston Hardy
+ */
+public class ConcurrentLinkedListStress {
+
+	private static int count(IUConcurrentLinkedList<Integer> list) {
+		int count = 0;
+		for (Integer element : list) {
+			count++;
+		}
+		return count;
+	}
+
+	@JCStressTest
+	@Description("Two addToRear calls race on an empty list.")
+	@Outcome(id = "2, 2", expect = Expect.ACCEPTABLE, desc = "Both nodes are linked and counted.")
+	@State
+	public static class AddToRearRace {
+		private final IUConcurrentLinkedList<Integer> list = new IUConcurrentLinkedList<Integer>();
+
+		@Actor
+		public void actor1() {
+			list.addToRear(1);
+		}
+
+		@Actor
+		public void actor2() {
+			list.addToRear(2);
+		}
+
+		@Arbiter
+		public void arbiter(II_Result r) {
+			r.r1 = count(list);
+			r.r2 = list.size();
+		}
+	}
+
+	@JCStressTest
+	@Description("Neighbouring nodes 2 and 3 of [1, 2, 3] are removed at the same time.")
+	@Outcome(id = "1, 1", expect = Expect.ACCEPTABLE, desc = "Both nodes are gone.")
+	@Outcome(id = "2, 1", expect = Expect.FORBIDDEN, desc = "A removed node is still reachable.")
+	@State
+	public static class AdjacentRemoves {
+		private final IUConcurrentLinkedList<Integer> list = new IUConcurrentLinkedList<Integer>();
+
+		public AdjacentRemoves() {
+			list.addToRear(1);
+			list.addToRear(2);
+			list.addToRear(3);
+		}
+
+		@Actor
+		public void actor1() {
+			list.remove(Integer.valueOf(2));
+		}
+
+		@Actor
+		public void actor2() {
+			list.remove(Integer.valueOf(3));
+		}
+
+		@Arbiter
+		public void arbiter(II_Result r) {
+			r.r1 = count(list);
+			r.r2 = list.size();
+		}
+	}
+
+	@JCStressTest
+	@Description("3 is added after node 2 of [1, 2] while node 2 is removed.")
+	@Outcome(id = "1, 2", expect = Expect.ACCEPTABLE, desc = "The add came first and 3 survives the remove.")
+	@Outcome(id = "0, 1", expect = Expect.ACCEPTABLE, desc = "The remove came first and the add found no target.")
+	@Outcome(id = "1, 1", expect = Expect.FORBIDDEN, desc = "The add succeeded but was linked to the removed node and lost.")
+	@State
+	public static class AddAfterRemovedNode {
+		private final IUConcurrentLinkedList<Integer> list = new IUConcurrentLinkedList<Integer>();
+
+		public AddAfterRemovedNode() {
+			list.addToRear(1);
+			list.addToRear(2);
+		}
+
+		@Actor
+		public void add(II_Result r) {
+			try {
+				list.addAfter(3, 2);
+				r.r1 = 1;
+			} catch (NoSuchElementException e) {
+				r.r1 = 0;
+			}
+		}
+
+		@Actor
+		public void remove() {
+			list.remove(Integer.valueOf(2));
+		}
+
+		@Arbiter
+		public void arbiter(II_Result r) {
+			r.r2 = count(list);
+		}
+	}
+
+	@JCStressTest
+	@Description("removeLast on [1] races addToRear(2).")
+	@Outcome(id = "1, 1", expect = Expect.ACCEPTABLE, desc = "removeLast came first and took 1; 2 is left.")
+	@Outcome(id = "2, 1", expect = Expect.ACCEPTABLE, desc = "addToRear came first; removeLast took 2 and 1 is left.")
+	@Outcome(id = "1, 0", expect = Expect.FORBIDDEN, desc = "removeLast took 1 after 2 was linked behind it, losing 2.")
+	@State
+	public static class RemoveLastDuringAppend {
+		private final IUConcurrentLinkedList<Integer> list = new IUConcurrentLinkedList<Integer>();
+
+		public RemoveLastDuringAppend() {
+			list.addToRear(1);
+		}
+
+		@Actor
+		public void removeLast(II_Result r) {
+			r.r1 = list.removeLast();
+		}
+
+		@Actor
+		public void append() {
+			list.addToRear(2);
+		}
+
+		@Arbiter
+		public void arbiter(II_Result r) {
+			r.r2 = count(list);
+		}
+	}
+
+	@JCStressTest
+	@Description("removeLast on [1, 2] races an iterator's remove() of 2, which marks 2 but leaves it linked.")
+	@Outcome(id = "1, 0", expect = Expect.ACCEPTABLE, desc = "The iterator removed 2 first; removeLast took 1.")
+	@Outcome(id = "2, 1", expect = Expect.ACCEPTABLE, desc = "removeLast took 2 first; the iterator's remove was a no-op.")
+	@Outcome(id = "0, 1", expect = Expect.FORBIDDEN, desc = "removeLast threw NoSuchElementException on a non-empty list.")
+	@State
+	public static class RemoveLastAfterIteratorRemove {
+		private final IUConcurrentLinkedList<Integer> list = new IUConcurrentLinkedList<Integer>();
+		private final Iterator<Integer> iterator;
+
+		public RemoveLastAfterIteratorRemove() {
+			list.addToRear(1);
+			list.addToRear(2);
+			iterator = list.iterator();
+			iterator.next();
+			iterator.next();
+		}
+
+		@Actor
+		public void removeLast(II_Result r) {
+			try {
+				r.r1 = list.removeLast();
+			} catch (NoSuchElementException e) {
+				r.r1 = 0;
+			}
+		}
+
+		@Actor
+		public void iteratorRemove() {
+			iterator.remove();
+		}
+
+		@Arbiter
+		public void arbiter(II_Result r) {
+			r.r2 = count(list);
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package iulist.stress;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+import iulist.IUArrayList;
+import iulist.IUDoubleLinkedList;
+import iulist.IUStampedList;
+
+/**
+ * jcstress tests for IUStampedList wrapped around an IUArrayList, which it
+ * reads optimistically, and an IUDoubleLinkedList, whose get(int) moves a
+ * cached finger and so is read under the read lock.
+ *
+ * @author Preston Hardy
+ */
+public class StampedListStress {
+
+	@JCStressTest
+	@Description("An optimistic read races an addToRear that grows the backing array.")
+	@Outcome(id = "0, 9", expect = Expect.ACCEPTABLE, desc = "The read saw a consistent list.")
+	@State
+	public static class ReadDuringResize {
+		private static final int CAPACITY = 10;
+		private final IUStampedList<Integer> list = new IUStampedList<Integer>(new IUArrayList<Integer>(CAPACITY));
+
+		public ReadDuringResize() {
+			for (int i = 0; i < CAPACITY; i++) {
+				list.addToRear(i);
+			}
+		}
+
+		@Actor
+		public void writer() {
+			list.addToRear(CAPACITY);
+		}
+
+		@Actor
+		public void reader(II_Result r) {
+			r.r1 = list.get(0);
+			r.r2 = list.indexOf(CAPACITY - 1);
+		}
+	}
+
+	@JCStressTest
+	@Description("Two readers walk an IUDoubleLinkedList by index with no writer, each moving its finger.")
+	@Outcome(id = "0, 0", expect = Expect.ACCEPTABLE, desc = "Every get returned the element at its index.")
+	@State
+	public static class ReadersOnlyOverLinkedList {
+		private static final int SIZE = 64;
+		private final IUStampedList<Integer> list = new IUStampedList<Integer>(new IUDoubleLinkedList<Integer>());
+
+		public ReadersOnlyOverLinkedList() {
+			for (int i = 0; i < SIZE; i++) {
+				list.addToRear(i);
+			}
+		}
+
+		/**
+		 * Reads every index from one end to the other.
+		 *
+		 * @param true to start at the front, false to start at the back
+		 * @return how many reads returned the wrong element
+		 */
+		private int walk(boolean forward) {
+			int wrong = 0;
+			for (int i = 0; i < SIZE; i++) {
+				int index = forward ? i : SIZE - 1 - i;
+				if (list.get(index) != index) {
+					wrong++;
+				}
+			}
+			return wrong;
+		}
+
+		@Actor
+		public void forward(II_Result r) {
+			r.r1 = walk(true);
+		}
+
+		@Actor
+		public void backward(II_Result r) {
+			r.r2 = walk(false);
+		}
+	}
+
+	@JCStressTest
+	@Description("Two addToRear calls race through the write lock.")
+	@Outcome(id = "2", expect = Expect.ACCEPTABLE, desc = "Both adds are kept.")
+	@State
+	public static class AddToRearRace {
+		private final IUStampedList<Integer> list = new IUStampedList<Integer>(new IUArrayList<Integer>());
+
+		@Actor
+		public void actor1() {
+			list.addToRear(1);
+		}
+
+		@Actor
+		public void actor2() {
+			list.addToRear(2);
+		}
+
+		@Arbiter
+		public void arbiter(I_Result r) {
+			r.r1 = list.size();
+		}
+	}
+}